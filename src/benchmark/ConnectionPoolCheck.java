@@ -0,0 +1,280 @@
+package benchmark;
+
+import model.ConnectionPool;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.DriverManager;
+import java.sql.DriverPropertyInfo;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.logging.Logger;
+
+/**
+ * Memeriksa perilaku ConnectionPool tanpa server MySQL
+ * Pool dihubungkan ke driver JDBC tiruan di dalam proses (jdbc:poolcheck:) yang koneksinya dapat
+ * dibuat tidak valid atau melempar kegagalan koneksi SQLState 08S01 dari eksekusi query.
+ * Diperiksa: pinjam dan kembalikan, validasi gagal lalu sambung ulang, kegagalan koneksi dari
+ * Statement dan ResultSet, batas waktu peminjaman, penutupan koneksi menganggur, dan metriknya.
+ * Skema Database sendiri (DDL MySQL) tidak ikut diperiksa. Keluar dengan kode 1 jika ada yang gagal.
+ *
+ * Penggunaan: java -cp bin benchmark.ConnectionPoolCheck
+ */
+public class ConnectionPoolCheck {
+    private static final String URL = "jdbc:poolcheck:";
+
+    private static int failures;
+
+    public static void main(String[] args) throws Exception {
+        FakeDriver driver = new FakeDriver();
+        DriverManager.registerDriver(driver);
+        try {
+            checkBorrowAndRelease(driver);
+            checkValidationReconnect(driver);
+            checkStatementLinkFailure(driver);
+            checkBorrowTimeout(driver);
+            checkIdleEviction(driver);
+        } finally {
+            DriverManager.deregisterDriver(driver);
+        }
+        System.out.println(failures == 0 ? "OK" : "GAGAL (" + failures + ")");
+        if (failures > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static void checkBorrowAndRelease(FakeDriver driver) throws SQLException {
+        ConnectionPool pool = new ConnectionPool(URL, "", "", 2, 60_000, 1_000);
+        try {
+            Connection first = pool.getConnection();
+            Connection second = pool.getConnection();
+            expect("pinjam: 2 aktif", pool.getStats().getActive() == 2);
+            first.close();
+            first.close(); // close kedua tidak boleh mengembalikan koneksi dua kali
+            second.close();
+            expect("kembali: 2 menganggur", pool.getStats().getIdle() == 2 && pool.getStats().getActive() == 0);
+            expect("koneksi yang dikembalikan tertutup", first.isClosed());
+
+            Connection again = pool.getConnection();
+            expect("pinjam ulang memakai koneksi yang ada", pool.getStats().getCreatedCount() == 2);
+            try (Statement statement = again.createStatement()) {
+                expect("Statement.getConnection mengembalikan pembungkus", statement.getConnection() == again);
+            }
+            again.close();
+            expect("jumlah pinjam tercatat", pool.getStats().getBorrowCount() == 3);
+        } finally {
+            pool.close();
+        }
+    }
+
+    private static void checkValidationReconnect(FakeDriver driver) throws SQLException {
+        ConnectionPool pool = new ConnectionPool(URL, "", "", 2, 60_000, 1_000);
+        try {
+            pool.getConnection().close();
+            driver.invalidateAll();
+            Connection connection = pool.getConnection();
+            expect("koneksi tidak valid dibuang", pool.getStats().getDiscardedCount() == 1);
+            expect("koneksi baru dibuka", pool.getStats().getCreatedCount() == 2);
+            connection.close();
+        } finally {
+            pool.close();
+        }
+    }
+
+    private static void checkStatementLinkFailure(FakeDriver driver) throws SQLException {
+        ConnectionPool pool = new ConnectionPool(URL, "", "", 2, 60_000, 1_000);
+        try {
+            Connection connection = pool.getConnection();
+            driver.failNextExecute();
+            try (PreparedStatement statement = connection.prepareStatement("UPDATE thasil SET skor = skor + 1")) {
+                statement.executeUpdate();
+                expect("kegagalan koneksi dilempar", false);
+            } catch (SQLException e) {
+                expect("SQLState 08 diteruskan", "08S01".equals(e.getSQLState()));
+            }
+            connection.close();
+            expect("koneksi putus dari PreparedStatement dibuang",
+                pool.getStats().getDiscardedCount() == 1 && pool.getStats().getIdle() == 0);
+
+            Connection next = pool.getConnection();
+            try (Statement statement = next.createStatement();
+                 ResultSet rs = statement.executeQuery("SELECT 1")) {
+                driver.failNextExecute();
+                rs.next();
+                expect("kegagalan koneksi dari ResultSet dilempar", false);
+            } catch (SQLException e) {
+                expect("SQLState 08 dari ResultSet diteruskan", "08S01".equals(e.getSQLState()));
+            }
+            next.close();
+            expect("koneksi putus dari ResultSet dibuang", pool.getStats().getDiscardedCount() == 2);
+        } finally {
+            pool.close();
+        }
+    }
+
+    private static void checkBorrowTimeout(FakeDriver driver) throws Exception {
+        ConnectionPool pool = new ConnectionPool(URL, "", "", 1, 60_000, 200);
+        try {
+            Connection held = pool.getConnection();
+            long start = System.nanoTime();
+            try {
+                pool.getConnection().close();
+                expect("peminjaman melewati batas ukuran gagal", false);
+            } catch (SQLException e) {
+                long waitedMillis = (System.nanoTime() - start) / 1_000_000;
+                expect("menunggu sampai batas waktu peminjaman", waitedMillis >= 150);
+            }
+
+            // Peminjam berikutnya menunggu sampai koneksi dikembalikan thread lain
+            Thread releaser = new Thread(() -> {
+                try {
+                    Thread.sleep(50);
+                    held.close();
+                } catch (InterruptedException | SQLException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            releaser.start();
+            pool.getConnection().close();
+            releaser.join();
+            expect("waktu tunggu tercatat", pool.getStats().getWaitCount() == 1 && pool.getStats().getMaxWaitNanos() > 0);
+        } finally {
+            pool.close();
+        }
+    }
+
+    private static void checkIdleEviction(FakeDriver driver) throws Exception {
+        // Pemeriksa idle berjalan paling cepat setiap detik
+        ConnectionPool pool = new ConnectionPool(URL, "", "", 2, 200, 1_000);
+        try {
+            Connection first = pool.getConnection();
+            Connection second = pool.getConnection();
+            first.close();
+            second.close();
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (pool.getStats().getIdle() > 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(100);
+            }
+            expect("koneksi menganggur ditutup", pool.getStats().getIdle() == 0 && pool.getStats().getEvictedCount() == 2);
+            expect("koneksi fisik yang ditutup", driver.openConnections() == 0);
+        } finally {
+            pool.close();
+        }
+        System.out.println(pool.getStats());
+    }
+
+    private static void expect(String name, boolean passed) {
+        System.out.println((passed ? "  ok    " : "  GAGAL ") + name);
+        if (!passed) {
+            failures++;
+        }
+    }
+
+    /**
+     * Driver JDBC tiruan; koneksi, Statement, dan ResultSet dibuat dengan Proxy
+     */
+    private static final class FakeDriver implements Driver {
+        private final List<boolean[]> connections = new ArrayList<>();
+        private volatile boolean failNextExecute;
+
+        void invalidateAll() {
+            synchronized (connections) {
+                for (boolean[] state : connections) {
+                    state[1] = false;
+                }
+            }
+        }
+
+        void failNextExecute() {
+            failNextExecute = true;
+        }
+
+        int openConnections() {
+            synchronized (connections) {
+                int open = 0;
+                for (boolean[] state : connections) {
+                    if (!state[0]) open++;
+                }
+                return open;
+            }
+        }
+
+        @Override
+        public Connection connect(String url, Properties info) {
+            if (!acceptsURL(url)) {
+                return null;
+            }
+            // [tertutup, valid, autoCommit]
+            boolean[] state = {false, true, true};
+            synchronized (connections) {
+                connections.add(state);
+            }
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] {Connection.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "close": state[0] = true; return null;
+                        case "isClosed": return state[0];
+                        case "isValid": return !state[0] && state[1];
+                        case "getAutoCommit": return state[2];
+                        case "setAutoCommit": state[2] = (Boolean) args[0]; return null;
+                        case "commit":
+                        case "rollback": return null;
+                        case "createStatement": return statement(Statement.class);
+                        case "prepareStatement": return statement(PreparedStatement.class);
+                        case "hashCode": return System.identityHashCode(proxy);
+                        case "equals": return proxy == args[0];
+                        case "toString": return "FakeConnection@" + Integer.toHexString(System.identityHashCode(proxy));
+                        default: throw new SQLFeatureNotSupportedException(method.getName());
+                    }
+                });
+        }
+
+        private Object statement(Class<?> type) {
+            return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "executeUpdate": checkLink(); return 1;
+                        case "executeQuery": checkLink(); return resultSet();
+                        case "close": return null;
+                        case "hashCode": return System.identityHashCode(proxy);
+                        case "equals": return proxy == args[0];
+                        default: throw new SQLFeatureNotSupportedException(method.getName());
+                    }
+                });
+        }
+
+        private ResultSet resultSet() {
+            return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[] {ResultSet.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "next": checkLink(); return false;
+                        case "close": return null;
+                        case "hashCode": return System.identityHashCode(proxy);
+                        case "equals": return proxy == args[0];
+                        default: throw new SQLFeatureNotSupportedException(method.getName());
+                    }
+                });
+        }
+
+        private void checkLink() throws SQLException {
+            if (failNextExecute) {
+                failNextExecute = false;
+                throw new SQLException("Communications link failure", "08S01");
+            }
+        }
+
+        @Override public boolean acceptsURL(String url) { return url != null && url.startsWith(URL); }
+        @Override public DriverPropertyInfo[] getPropertyInfo(String url, Properties info) { return new DriverPropertyInfo[0]; }
+        @Override public int getMajorVersion() { return 1; }
+        @Override public int getMinorVersion() { return 0; }
+        @Override public boolean jdbcCompliant() { return false; }
+        @Override public Logger getParentLogger() throws SQLFeatureNotSupportedException { throw new SQLFeatureNotSupportedException(); }
+    }
+}
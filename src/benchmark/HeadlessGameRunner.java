@@ -0,0 +1,101 @@
+package benchmark;
+
+import utils.GameConstants;
+import utils.GameEvents;
+import viewmodel.GameViewModel;
+import viewmodel.InputSource;
+import viewmodel.ScriptedInputSource;
+
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+/**
+ * Menjalankan simulasi game tanpa tampilan secepat mungkin
+ * Setiap permainan berjalan langkah demi langkah di thread ini tanpa GameLoop, tanpa Swing,
+ * tanpa memuat gambar, dan tanpa menyimpan skor. Input berasal dari skrip (lihat
+ * ScriptedInputSource); tanpa skrip karakter diam. Permainan ke-i memakai seed awal + i, sehingga
+ * seed yang sama menghasilkan skor yang sama. Dipakai untuk uji keseimbangan dan pengukuran
+ * regresi performa di mesin tanpa layar.
+ *
+ * Penggunaan: java -Djava.awt.headless=true -cp "bin:lib/*" benchmark.HeadlessGameRunner [skrip|-] [permainan] [seed]
+ */
+public class HeadlessGameRunner {
+    private static final String USERNAME = "headless";
+
+    public static void main(String[] args) throws Exception {
+        if (System.getProperty("java.awt.headless") == null) {
+            System.setProperty("java.awt.headless", "true");
+        }
+        ScriptedInputSource script = args.length > 0 && !"-".equals(args[0])
+            ? ScriptedInputSource.load(Paths.get(args[0]))
+            : null;
+        int games = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        long baseSeed = args.length > 2 ? Long.parseLong(args[2]) : System.nanoTime();
+        System.out.println("Seed awal: " + baseSeed);
+        // Inisialisasi JFR di luar pengukuran, seperti AssetPreloader pada aplikasi
+        GameEvents.preload();
+
+        int[] scores = new int[games];
+        long totalTicks = 0;
+        long totalNanos = 0;
+        int bombs = 0;
+        GameViewModel lastGame = null;
+        for (int game = 0; game < games; game++) {
+            if (script != null) {
+                script.rewind();
+            }
+            GameViewModel viewModel = new GameViewModel(USERNAME, false, baseSeed + game);
+            long start = System.nanoTime();
+            runGame(viewModel, script);
+            long nanos = System.nanoTime() - start;
+            lastGame = viewModel;
+
+            scores[game] = viewModel.getCurrentScore();
+            totalTicks += viewModel.getTick();
+            totalNanos += nanos;
+            // Permainan yang berakhir sebelum waktu habis terkena bom
+            boolean bomb = Integer.parseInt(viewModel.getTimeRemaining()) > 0;
+            if (bomb) {
+                bombs++;
+            }
+            System.out.printf("permainan %d: skor=%d jumlah=%d langkah=%d bom=%b waktu=%.1f ms%n",
+                game + 1, viewModel.getCurrentScore(), viewModel.getCurrentCount(), viewModel.getTick(),
+                bomb, nanos / 1e6);
+        }
+
+        if (lastGame != null) {
+            System.out.println(lastGame.getBalls().getSlotStats());
+            System.out.println(lastGame.getLasso().getParticleStats());
+            System.out.println(lastGame.getLasso().getChainLinkPoolStats());
+        }
+
+        Arrays.sort(scores);
+        long scoreSum = 0;
+        for (int score : scores) {
+            scoreSum += score;
+        }
+        System.out.printf("%d permainan: skor rata-rata=%.1f min=%d median=%d maks=%d, kena bom=%d%n",
+            games, (double) scoreSum / games, scores[0], scores[games / 2], scores[games - 1], bombs);
+        System.out.printf("%d langkah dalam %.1f ms: %.0f langkah/detik (%.2f us/langkah, %.0fx waktu nyata)%n",
+            totalTicks, totalNanos / 1e6, totalTicks * 1e9 / totalNanos, totalNanos / 1e3 / totalTicks,
+            (double) totalTicks * GameConstants.FRAME_STEP_NANOS / totalNanos);
+    }
+
+    /**
+     * Jalankan satu permainan sampai waktu habis atau terkena bom
+     */
+    private static void runGame(GameViewModel viewModel, InputSource input) {
+        while (viewModel.isGameRunning()) {
+            if (input != null) {
+                input.apply(viewModel.getTick() + 1, viewModel);
+            }
+            long before = viewModel.getTick();
+            viewModel.update();
+            if (viewModel.getTick() == before && viewModel.isGameRunning()) {
+                // Game dijeda oleh skrip; waktu simulasi tidak maju lagi
+                System.err.println("Permainan dijeda pada langkah " + before + "; simulasi dihentikan");
+                return;
+            }
+        }
+    }
+}
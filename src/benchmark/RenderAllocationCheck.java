@@ -0,0 +1,107 @@
+package benchmark;
+
+import view.GameRenderer;
+import viewmodel.GameSnapshot;
+import viewmodel.GameViewModel;
+
+import java.awt.Canvas;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Mengukur alokasi heap per frame di jalur render GameRenderer
+ * Potret game yang sama dirender berulang ke BufferedImage, lalu byte yang dialokasikan
+ * thread ini dibaca dari ThreadMXBean. Setiap skenario dibandingkan dengan frame kosong
+ * (latar saja, tanpa permata maupun HUD), sehingga yang diukur hanya alokasi dari bola, karakter,
+ * lasso, HUD, dan overlay; selisih itu harus mendekati nol. Keluar dengan kode 1 jika salah satu
+ * skenario melewati batas.
+ *
+ * Penggunaan: java -Djava.awt.headless=true -cp "bin:lib/*" benchmark.RenderAllocationCheck [frame] [batas byte/frame]
+ */
+public class RenderAllocationCheck {
+    private static final int WIDTH = 1400;
+    private static final int HEIGHT = 900;
+    private static final int WARMUP_FRAMES = 300;
+    // Batas selisih terhadap frame kosong; sisa yang diharapkan (sekitar 800 byte) berasal dari
+    // permata berputar, karena drawImage dengan rotasi selalu membuat transformasi baru di Java2D
+    private static final long DEFAULT_BUDGET_BYTES = 1024;
+
+    public static void main(String[] args) {
+        if (System.getProperty("java.awt.headless") == null) {
+            System.setProperty("java.awt.headless", "true");
+        }
+        int frames = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        long budget = args.length > 1 ? Long.parseLong(args[1]) : DEFAULT_BUDGET_BYTES;
+
+        java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (!(threads instanceof com.sun.management.ThreadMXBean)
+                || !((com.sun.management.ThreadMXBean) threads).isThreadAllocatedMemorySupported()) {
+            System.err.println("JVM ini tidak mendukung pengukuran alokasi per thread");
+            System.exit(2);
+        }
+        com.sun.management.ThreadMXBean allocations = (com.sun.management.ThreadMXBean) threads;
+        allocations.setThreadAllocatedMemoryEnabled(true);
+
+        GameViewModel viewModel = new GameViewModel("alokasi", false, 42L);
+        for (int i = 0; i < 100; i++) {
+            viewModel.update();
+        }
+        viewModel.handleMouseClick(700, 200);
+        for (int i = 0; i < 10; i++) {
+            viewModel.update();
+        }
+
+        long empty = measure("kosong", null, frames, allocations);
+        boolean overBudget = false;
+        overBudget |= !check("main", measure("main", viewModel.createSnapshot(0.5f), frames, allocations), empty, budget);
+        viewModel.pauseGame();
+        overBudget |= !check("jeda", measure("jeda", viewModel.createSnapshot(0.5f), frames, allocations), empty, budget);
+        viewModel.resumeGame();
+        viewModel.stopGame();
+        overBudget |= !check("selesai", measure("selesai", viewModel.createSnapshot(0.5f), frames, allocations), empty, budget);
+
+        if (overBudget) {
+            System.err.println("Alokasi render melewati batas " + budget + " byte/frame");
+            System.exit(1);
+        }
+    }
+
+    private static boolean check(String name, long bytesPerFrame, long empty, long budget) {
+        long delta = bytesPerFrame - empty;
+        boolean ok = delta <= budget;
+        System.out.printf("%-8s %+6d byte/frame terhadap kosong  %s%n", name, delta, ok ? "OK" : "MELEWATI BATAS");
+        return ok;
+    }
+
+    /**
+     * Render satu potret berulang kali dan laporkan rata-rata byte yang dialokasikan per frame
+     * @param snapshot Potret yang dirender, atau null untuk frame kosong
+     */
+    private static long measure(String name, GameSnapshot snapshot, int frames,
+                                com.sun.management.ThreadMXBean allocations) {
+        GameRenderer renderer = new GameRenderer(new Canvas());
+        BufferedImage image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2d = image.createGraphics();
+        try {
+            for (int i = 0; i < WARMUP_FRAMES; i++) {
+                renderer.render(g2d, snapshot, WIDTH, HEIGHT);
+            }
+
+            long threadId = Thread.currentThread().getId();
+            long before = allocations.getThreadAllocatedBytes(threadId);
+            long start = System.nanoTime();
+            for (int i = 0; i < frames; i++) {
+                renderer.render(g2d, snapshot, WIDTH, HEIGHT);
+            }
+            long nanos = System.nanoTime() - start;
+            long bytesPerFrame = (allocations.getThreadAllocatedBytes(threadId) - before) / frames;
+
+            System.out.printf("%-8s %6d byte/frame  %.3f ms/frame%n", name, bytesPerFrame, nanos / 1e6 / frames);
+            return bytesPerFrame;
+        } finally {
+            g2d.dispose();
+            renderer.dispose();
+        }
+    }
+}
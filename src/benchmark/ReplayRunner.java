@@ -0,0 +1,134 @@
+package benchmark;
+
+import utils.GameConstants;
+import utils.GameEvents;
+import viewmodel.GameViewModel;
+import viewmodel.ReplayInputSource;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Memutar ulang rekaman input (-Dgame.recordDir) tanpa tampilan, secepat mungkin
+ * Setiap rekaman dijalankan dengan seed dan input yang sama, lalu langkah terakhir, skor, dan
+ * jumlah permata dibandingkan dengan hasil yang direkam. Langkah paling lambat dilaporkan
+ * untuk menelusuri lonjakan waktu frame. Keluar dengan kode 1 jika ada rekaman yang berbeda.
+ *
+ * Penggunaan: java -Djava.awt.headless=true -cp "bin:lib/*" benchmark.ReplayRunner [--repeat n] rekaman|direktori...
+ */
+public class ReplayRunner {
+    private static final int SLOWEST_TICKS = 5;
+
+    public static void main(String[] args) throws Exception {
+        if (System.getProperty("java.awt.headless") == null) {
+            System.setProperty("java.awt.headless", "true");
+        }
+        int repeat = 1;
+        List<Path> files = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            if ("--repeat".equals(args[i]) && i + 1 < args.length) {
+                repeat = Integer.parseInt(args[++i]);
+            } else {
+                collect(Paths.get(args[i]), files);
+            }
+        }
+        if (files.isEmpty()) {
+            System.err.println("Penggunaan: ReplayRunner [--repeat n] rekaman|direktori...");
+            return;
+        }
+
+        // Inisialisasi JFR di luar pengukuran, seperti AssetPreloader pada aplikasi
+        GameEvents.preload();
+
+        int mismatches = 0;
+        long totalTicks = 0;
+        long totalNanos = 0;
+        for (Path file : files) {
+            ReplayInputSource replay = ReplayInputSource.load(file);
+            long[] tickNanos = new long[(int) replay.getEndTick() + 1];
+            GameViewModel viewModel = null;
+            for (int run = 0; run < repeat; run++) {
+                replay.rewind();
+                viewModel = new GameViewModel(replay.getUsername(), false, replay.getSeed());
+                long start = System.nanoTime();
+                run(viewModel, replay, tickNanos);
+                totalNanos += System.nanoTime() - start;
+                totalTicks += viewModel.getTick();
+            }
+
+            boolean match = viewModel.getTick() == replay.getEndTick()
+                && viewModel.getCurrentScore() == replay.getFinalScore()
+                && viewModel.getCurrentCount() == replay.getFinalCount();
+            if (!match) {
+                mismatches++;
+            }
+            System.out.printf("%s: seed=%d input=%d langkah=%d/%d skor=%d/%d jumlah=%d/%d %s%n",
+                file.getFileName(), replay.getSeed(), replay.getEventCount(),
+                viewModel.getTick(), replay.getEndTick(), viewModel.getCurrentScore(), replay.getFinalScore(),
+                viewModel.getCurrentCount(), replay.getFinalCount(), match ? "OK" : "BERBEDA");
+            System.out.println("  langkah paling lambat: " + slowest(tickNanos));
+        }
+
+        if (totalNanos > 0) {
+            System.out.printf("%d rekaman x %d: %d langkah dalam %.1f ms (%.0fx waktu nyata)%n",
+                files.size(), repeat, totalTicks, totalNanos / 1e6,
+                (double) totalTicks * GameConstants.FRAME_STEP_NANOS / totalNanos);
+        }
+        if (mismatches > 0) {
+            System.err.println(mismatches + " rekaman tidak dapat direproduksi");
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Jalankan rekaman sampai langkah terakhirnya; waktu setiap langkah dicatat di tickNanos
+     */
+    private static void run(GameViewModel viewModel, ReplayInputSource replay, long[] tickNanos) {
+        while (viewModel.isGameRunning() && viewModel.getTick() < replay.getEndTick()) {
+            long tick = viewModel.getTick() + 1;
+            replay.apply(tick, viewModel);
+            long start = System.nanoTime();
+            viewModel.update();
+            tickNanos[(int) tick] = System.nanoTime() - start;
+            if (viewModel.getTick() != tick) {
+                // Game dijeda; rekaman tidak pernah memuat jeda sehingga ini berarti rekaman berbeda
+                return;
+            }
+        }
+    }
+
+    private static String slowest(long[] tickNanos) {
+        Integer[] order = new Integer[tickNanos.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Long.compare(tickNanos[b], tickNanos[a]));
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < Math.min(SLOWEST_TICKS, order.length); i++) {
+            if (i > 0) {
+                text.append(", ");
+            }
+            text.append('#').append(order[i]).append(String.format("=%.1f us", tickNanos[order[i]] / 1e3));
+        }
+        return text.toString();
+    }
+
+    private static void collect(Path path, List<Path> files) throws IOException {
+        if (!Files.isDirectory(path)) {
+            files.add(path);
+            return;
+        }
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(path, "*.mgr")) {
+            for (Path entry : entries) {
+                files.add(entry);
+            }
+        }
+        files.sort(null);
+    }
+}
@@ -0,0 +1,88 @@
+package benchmark;
+
+import model.ScoreJournal;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Memeriksa bahwa jurnal skor tetap utuh saat record baru ditambahkan di tengah pemutaran ulang
+ * Skenario: sesi sebelumnya meninggalkan record pending untuk dua pemain; pemutaran ulang
+ * mengambil daftar unapplied(), menerapkan record pertama, lalu thread lain menambahkan cukup
+ * banyak record hingga berkas harus membesar. Setelah itu record kedua ditandai dicoba dan
+ * diterapkan memakai objek Entry lama. Jurnal yang dibuka ulang harus tetap terbaca sampai akhir,
+ * tanpa record ganda untuk pemain kedua. Keluar dengan kode 1 jika pemeriksaan gagal.
+ *
+ * Penggunaan: java -cp bin benchmark.ScoreJournalCheck [jumlah record tambahan]
+ */
+public class ScoreJournalCheck {
+    public static void main(String[] args) throws IOException {
+        int appends = args.length > 0 ? Integer.parseInt(args[0]) : 3000;
+        Path dir = Files.createTempDirectory("journal-check");
+        Path file = dir.resolve("scores.journal");
+        boolean ok;
+        try {
+            ok = run(file, appends);
+        } finally {
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(file.resolveSibling(file.getFileName() + ".tmp"));
+            Files.deleteIfExists(dir);
+        }
+        System.out.println(ok ? "OK" : "GAGAL");
+        if (!ok) {
+            System.exit(1);
+        }
+    }
+
+    private static boolean run(Path file, int appends) throws IOException {
+        // Sesi sebelumnya: dua pemain dengan record pending
+        ScoreJournal previous = ScoreJournal.open(file);
+        previous.append("pertama", 10, 1);
+        previous.append("pertama", 20, 1);
+        previous.append("kedua", 30, 1);
+        previous.close();
+
+        ScoreJournal journal = ScoreJournal.open(file);
+        List<ScoreJournal.Entry> replay = journal.unapplied();
+        if (replay.size() != 2) {
+            System.err.println("Record pemulihan tidak digabung per pemain: " + replay.size());
+            return false;
+        }
+
+        // Batch pertama pemutaran ulang berhasil
+        journal.markAttempting(replay.subList(0, 1));
+        journal.markApplied(replay.subList(0, 1));
+
+        // Thread permainan menambah record selama pemutaran ulang berjalan
+        long appendedScore = 0;
+        for (int i = 0; i < appends; i++) {
+            journal.append("pemain-" + i, i, 1);
+            appendedScore += i;
+        }
+
+        // Batch kedua memakai objek Entry dari unapplied() sebelum penambahan
+        List<ScoreJournal.Entry> second = Collections.singletonList(replay.get(1));
+        journal.markAttempting(second);
+        journal.force();
+        journal.markApplied(second);
+        journal.close();
+
+        ScoreJournal reopened = ScoreJournal.open(file);
+        List<ScoreJournal.Entry> remaining = reopened.unapplied();
+        reopened.close();
+
+        long remainingScore = 0;
+        for (ScoreJournal.Entry entry : remaining) {
+            if (!entry.getUsername().startsWith("pemain-")) {
+                System.err.println("Record yang sudah diterapkan muncul lagi: " + entry.getUsername() + " skor=" + entry.getScore());
+                return false;
+            }
+            remainingScore += entry.getScore();
+        }
+        System.out.println("Record tersisa: " + remaining.size() + "/" + appends + ", skor " + remainingScore + "/" + appendedScore);
+        return remaining.size() == appends && remainingScore == appendedScore;
+    }
+}
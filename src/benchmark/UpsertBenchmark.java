@@ -0,0 +1,171 @@
+package benchmark;
+
+import model.Database;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Micro-benchmark untuk penyimpanan skor
+ * Membandingkan latensi jalur lama (SELECT lalu UPDATE/INSERT) dengan upsert atomik
+ * Database.insertOrUpdatePlayer, lalu memeriksa apakah penulis bersamaan kehilangan pembaruan.
+ * Baris yang dibuat memakai awalan bench_ dan dihapus setelah selesai.
+ *
+ * Penggunaan: java -cp "bin:lib/*" benchmark.UpsertBenchmark [iterasi] [pemanasan]
+ */
+public class UpsertBenchmark {
+    private static final String USER_PREFIX = "bench_";
+    private static final int DISTINCT_USERS = 50;
+    private static final int CONCURRENT_WRITERS = 4;
+    private static final int WRITES_PER_WRITER = 100;
+
+    public static void main(String[] args) throws Exception {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 2_000;
+        int warmup = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+
+        Database.initializeDatabase();
+        if (!Database.testConnection()) {
+            System.err.println("Benchmark dibatalkan: database tidak tersedia");
+            return;
+        }
+
+        try {
+            deleteBenchRows();
+            measure("legacy select+update", warmup, iterations, UpsertBenchmark::legacySave);
+            deleteBenchRows();
+            measure("upsert atomik", warmup, iterations, UpsertBenchmark::upsertSave);
+
+            deleteBenchRows();
+            checkConcurrency("legacy select+update", UpsertBenchmark::legacySave);
+            deleteBenchRows();
+            checkConcurrency("upsert atomik", UpsertBenchmark::upsertSave);
+        } finally {
+            deleteBenchRows();
+            System.out.println(Database.getPoolStats());
+            Database.closeConnection();
+        }
+    }
+
+    private interface SavePath {
+        void save(String username, int score, int count) throws SQLException;
+    }
+
+    private static void measure(String name, int warmup, int iterations, SavePath path) throws SQLException {
+        for (int i = 0; i < warmup; i++) {
+            path.save(USER_PREFIX + (i % DISTINCT_USERS), 10, 1);
+        }
+
+        long[] samples = new long[iterations];
+        for (int i = 0; i < iterations; i++) {
+            // Setengah penyimpanan mengenai username baru, sisanya username yang sudah ada
+            String username = USER_PREFIX + (i % 2 == 0 ? "new_" + i : String.valueOf(i % DISTINCT_USERS));
+            long start = System.nanoTime();
+            path.save(username, 10, 1);
+            samples[i] = System.nanoTime() - start;
+        }
+
+        Arrays.sort(samples);
+        long total = 0;
+        for (long sample : samples) {
+            total += sample;
+        }
+        System.out.printf("%-22s n=%d mean=%.3f ms p50=%.3f ms p95=%.3f ms p99=%.3f ms%n",
+            name, iterations, total / 1e6 / iterations,
+            percentile(samples, 0.50), percentile(samples, 0.95), percentile(samples, 0.99));
+    }
+
+    // Beberapa thread menambah skor username yang sama; total yang hilang menunjukkan race
+    private static void checkConcurrency(String name, SavePath path) throws Exception {
+        String username = USER_PREFIX + "race";
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_WRITERS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int writer = 0; writer < CONCURRENT_WRITERS; writer++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < WRITES_PER_WRITER; i++) {
+                        try {
+                            path.save(username, 1, 1);
+                        } catch (SQLException e) {
+                            System.err.println(name + ": " + e.getMessage());
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        int expected = CONCURRENT_WRITERS * WRITES_PER_WRITER;
+        int actual = readScore(username);
+        System.out.printf("%-22s penulis bersamaan: diharapkan skor=%d, tersimpan=%d, hilang=%d%n",
+            name, expected, actual, expected - actual);
+    }
+
+    private static double percentile(long[] sorted, double fraction) {
+        int index = Math.min(sorted.length - 1, (int) Math.ceil(fraction * sorted.length) - 1);
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+
+    private static void upsertSave(String username, int score, int count) throws SQLException {
+        try (Connection connection = Database.getConnection()) {
+            Database.insertOrUpdatePlayer(connection, username, score, count);
+        }
+    }
+
+    // Jalur lama sebelum upsert: baca nilai, lalu tulis jumlah baru dari sisi klien
+    private static void legacySave(String username, int score, int count) throws SQLException {
+        try (Connection connection = Database.getConnection();
+             PreparedStatement selectStmt = connection.prepareStatement("SELECT skor, count FROM thasil WHERE username = ?")) {
+            selectStmt.setString(1, username);
+            try (ResultSet rs = selectStmt.executeQuery()) {
+                if (rs.next()) {
+                    try (PreparedStatement updateStmt = connection.prepareStatement(
+                            "UPDATE thasil SET skor = ?, count = ?, updated_at = CURRENT_TIMESTAMP WHERE username = ?")) {
+                        updateStmt.setInt(1, rs.getInt("skor") + score);
+                        updateStmt.setInt(2, rs.getInt("count") + count);
+                        updateStmt.setString(3, username);
+                        updateStmt.executeUpdate();
+                    }
+                } else {
+                    try (PreparedStatement insertStmt = connection.prepareStatement(
+                            "INSERT INTO thasil (username, skor, count) VALUES (?, ?, ?)")) {
+                        insertStmt.setString(1, username);
+                        insertStmt.setInt(2, score);
+                        insertStmt.setInt(3, count);
+                        insertStmt.executeUpdate();
+                    }
+                }
+            }
+        }
+    }
+
+    private static int readScore(String username) throws SQLException {
+        try (Connection connection = Database.getConnection();
+             PreparedStatement stmt = connection.prepareStatement("SELECT skor FROM thasil WHERE username = ?")) {
+            stmt.setString(1, username);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? rs.getInt(1) : 0;
+            }
+        }
+    }
+
+    private static void deleteBenchRows() throws SQLException {
+        try (Connection connection = Database.getConnection();
+             PreparedStatement stmt = connection.prepareStatement("DELETE FROM thasil WHERE username LIKE ? ESCAPE '!'")) {
+            stmt.setString(1, USER_PREFIX.replace("_", "!_") + "%");
+            stmt.executeUpdate();
+        }
+    }
+}
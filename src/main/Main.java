@@ -2,6 +2,8 @@ package main;
 
 import view.MainMenuView;
 import model.Database;
+import model.ScoreWriter;
+import utils.AssetPreloader;
 
 /**
  *  Saya Muhammad Helmi Rahmadi dengan NIM 2311574 mengerjakan evaluasi Tugas Masa Depan dalam mata kuliah
@@ -17,8 +19,20 @@ import model.Database;
 public class Main {
     public static void main(String[] args) {
         try {
+            // Mulai memuat aset secara paralel selagi database diinisialisasi
+            AssetPreloader.start();
+
             // Inisialisasi database
             Database.initializeDatabase();
+
+            // Buka jurnal skor lokal dan kirim ulang skor yang tertinggal
+            ScoreWriter.start();
+
+            // Tulis skor yang masih antri sebelum aplikasi keluar
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                ScoreWriter.shutdown(5_000);
+                Database.closeConnection();
+            }, "shutdown-flush"));
             
             // Memulai aplikasi dengan menampilkan menu utama
             javax.swing.SwingUtilities.invokeLater(() -> {
@@ -0,0 +1,549 @@
+package model;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Pool koneksi JDBC kecil dengan ukuran terbatas
+ * Koneksi divalidasi saat dipinjam, koneksi menganggur terlalu lama ditutup oleh thread latar,
+ * dan kegagalan koneksi ke server dicoba ulang dengan backoff eksponensial.
+ * Connection yang dikembalikan adalah pembungkus; close() mengembalikannya ke pool.
+ * Statement, ResultSet, dan DatabaseMetaData dari pembungkus itu juga dibungkus, sehingga
+ * kegagalan koneksi (SQLState kelas 08) dari eksekusi query membuat koneksi dibuang, bukan dikembalikan
+ */
+public class ConnectionPool {
+    // Batas waktu validasi koneksi saat dipinjam (detik, sesuai Connection.isValid)
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    // Percobaan koneksi per peminjaman dan batas backoff antar kegagalan
+    private static final int CONNECT_ATTEMPTS = 3;
+    private static final long INITIAL_BACKOFF_MILLIS = 250;
+    private static final long MAX_BACKOFF_MILLIS = 30_000;
+
+    // Objek turunan koneksi yang dibungkus agar kegagalan koneksinya tercatat di peminjaman
+    private static final List<Class<?>> GUARDED_TYPES = List.of(
+        Statement.class, PreparedStatement.class, CallableStatement.class, ResultSet.class, DatabaseMetaData.class);
+
+    private final String url;
+    private final String username;
+    private final String password;
+    private final int maxSize;
+    private final long idleTimeoutNanos;
+    private final long borrowTimeoutNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+    // LIFO agar koneksi yang paling baru dipakai dipinjam lebih dulu dan sisanya dapat kedaluwarsa
+    private final Deque<PooledConnection> idle = new ArrayDeque<>();
+    private final ScheduledExecutorService evictor;
+    private int openCount;
+    private int activeCount;
+    private boolean closed;
+
+    // Status backoff; dijaga oleh lock
+    private long backoffMillis = INITIAL_BACKOFF_MILLIS;
+    private long retryAfterNanos;
+
+    // Metrik; dijaga oleh lock
+    private long borrowCount;
+    private long waitCount;
+    private long totalWaitNanos;
+    private long maxWaitNanos;
+    private long createdCount;
+    private long discardedCount;
+    private long evictedCount;
+    private long failedConnectCount;
+
+    /**
+     * @param url URL JDBC
+     * @param username Nama pengguna database
+     * @param password Kata sandi database
+     * @param maxSize Jumlah maksimum koneksi terbuka
+     * @param idleTimeoutMillis Koneksi menganggur lebih lama dari ini ditutup
+     * @param borrowTimeoutMillis Batas waktu menunggu koneksi bebas
+     */
+    public ConnectionPool(String url, String username, String password,
+                          int maxSize, long idleTimeoutMillis, long borrowTimeoutMillis) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize harus minimal 1");
+        }
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.maxSize = maxSize;
+        this.idleTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(idleTimeoutMillis);
+        this.borrowTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(borrowTimeoutMillis);
+
+        long evictionPeriod = Math.max(1_000, idleTimeoutMillis / 2);
+        this.evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "db-pool-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        evictor.scheduleWithFixedDelay(this::evictIdle, evictionPeriod, evictionPeriod, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Pinjam koneksi dari pool; tutup koneksi untuk mengembalikannya
+     * @throws SQLException jika pool ditutup, server tidak dapat dihubungi, atau waktu tunggu habis
+     */
+    public Connection getConnection() throws SQLException {
+        long start = System.nanoTime();
+        long deadline = start + borrowTimeoutNanos;
+        boolean waited = false;
+
+        while (true) {
+            PooledConnection candidate = null;
+            boolean mayOpen = false;
+
+            lock.lock();
+            try {
+                while (!closed && idle.isEmpty() && openCount >= maxSize) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        throw new SQLException("Waktu tunggu koneksi database habis (" + maxSize + " koneksi sedang dipakai)");
+                    }
+                    waited = true;
+                    try {
+                        released.awaitNanos(remaining);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new SQLException("Menunggu koneksi database terputus", e);
+                    }
+                }
+                if (closed) {
+                    throw new SQLException("Pool koneksi sudah ditutup");
+                }
+
+                candidate = idle.pollFirst();
+                if (candidate == null) {
+                    // Sisihkan slot sebelum membuka koneksi di luar lock
+                    openCount++;
+                    mayOpen = true;
+                }
+                activeCount++;
+            } finally {
+                lock.unlock();
+            }
+
+            if (mayOpen) {
+                try {
+                    candidate = new PooledConnection(connect());
+                } catch (SQLException e) {
+                    lock.lock();
+                    try {
+                        openCount--;
+                        activeCount--;
+                        released.signal();
+                    } finally {
+                        lock.unlock();
+                    }
+                    throw e;
+                }
+            } else if (!isUsable(candidate)) {
+                // Koneksi basi (misalnya melewati wait_timeout server); buang dan coba lagi
+                discard(candidate, true);
+                continue;
+            }
+
+            recordBorrow(System.nanoTime() - start, waited);
+            return candidate.lease();
+        }
+    }
+
+    private boolean isUsable(PooledConnection pooled) {
+        try {
+            return pooled.physical.isValid(VALIDATION_TIMEOUT_SECONDS);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Buka koneksi fisik baru, dengan percobaan ulang dan backoff eksponensial
+     * Setelah semua percobaan gagal, peminjaman berikutnya langsung gagal sampai masa backoff habis
+     */
+    private Connection connect() throws SQLException {
+        lock.lock();
+        try {
+            long remaining = retryAfterNanos - System.nanoTime();
+            if (remaining > 0) {
+                throw new SQLException("Database tidak tersedia, mencoba lagi dalam "
+                    + TimeUnit.NANOSECONDS.toMillis(remaining) + " ms");
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        SQLException lastError = null;
+        long delay = INITIAL_BACKOFF_MILLIS;
+        for (int attempt = 1; attempt <= CONNECT_ATTEMPTS; attempt++) {
+            try {
+                Connection connection = DriverManager.getConnection(url, username, password);
+                lock.lock();
+                try {
+                    createdCount++;
+                    backoffMillis = INITIAL_BACKOFF_MILLIS;
+                    retryAfterNanos = 0;
+                } finally {
+                    lock.unlock();
+                }
+                return connection;
+            } catch (SQLException e) {
+                lastError = e;
+                lock.lock();
+                try {
+                    failedConnectCount++;
+                } finally {
+                    lock.unlock();
+                }
+                if (attempt < CONNECT_ATTEMPTS) {
+                    try {
+                        Thread.sleep(delay);
+                    } catch (InterruptedException ie) {
+                        Thread.currentThread().interrupt();
+                        break;
+                    }
+                    delay *= 2;
+                }
+            }
+        }
+
+        lock.lock();
+        try {
+            retryAfterNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(backoffMillis);
+            System.err.println("Koneksi database gagal, percobaan berikutnya dalam " + backoffMillis + " ms: "
+                + lastError.getMessage());
+            backoffMillis = Math.min(MAX_BACKOFF_MILLIS, backoffMillis * 2);
+        } finally {
+            lock.unlock();
+        }
+        throw lastError;
+    }
+
+    private void recordBorrow(long waitNanos, boolean waited) {
+        lock.lock();
+        try {
+            borrowCount++;
+            if (waited) {
+                waitCount++;
+            }
+            totalWaitNanos += waitNanos;
+            maxWaitNanos = Math.max(maxWaitNanos, waitNanos);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Kembalikan koneksi yang selesai dipakai ke pool
+    private void release(PooledConnection pooled, boolean broken) {
+        if (!broken) {
+            try {
+                // Jangan biarkan transaksi yang belum selesai bocor ke peminjam berikutnya
+                if (!pooled.physical.getAutoCommit()) {
+                    pooled.physical.rollback();
+                    pooled.physical.setAutoCommit(true);
+                }
+            } catch (SQLException e) {
+                broken = true;
+            }
+        }
+        if (broken) {
+            discard(pooled, true);
+            return;
+        }
+
+        boolean closeNow;
+        lock.lock();
+        try {
+            activeCount--;
+            closeNow = closed;
+            if (closeNow) {
+                openCount--;
+            } else {
+                pooled.lastUsedNanos = System.nanoTime();
+                idle.addFirst(pooled);
+            }
+            released.signal();
+        } finally {
+            lock.unlock();
+        }
+        if (closeNow) {
+            closeQuietly(pooled.physical);
+        }
+    }
+
+    // Tutup koneksi yang sedang dipinjam dan bebaskan slotnya
+    private void discard(PooledConnection pooled, boolean active) {
+        lock.lock();
+        try {
+            openCount--;
+            if (active) {
+                activeCount--;
+            }
+            discardedCount++;
+            released.signal();
+        } finally {
+            lock.unlock();
+        }
+        closeQuietly(pooled.physical);
+    }
+
+    /**
+     * Tutup koneksi yang menganggur lebih lama dari batas idle
+     */
+    private void evictIdle() {
+        Deque<PooledConnection> expired = new ArrayDeque<>();
+        lock.lock();
+        try {
+            long now = System.nanoTime();
+            Iterator<PooledConnection> iterator = idle.descendingIterator();
+            while (iterator.hasNext()) {
+                PooledConnection pooled = iterator.next();
+                if (now - pooled.lastUsedNanos >= idleTimeoutNanos) {
+                    iterator.remove();
+                    openCount--;
+                    evictedCount++;
+                    expired.add(pooled);
+                }
+            }
+            if (!expired.isEmpty()) {
+                released.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+        for (PooledConnection pooled : expired) {
+            closeQuietly(pooled.physical);
+        }
+    }
+
+    /**
+     * Tutup pool; koneksi menganggur ditutup sekarang, koneksi yang dipinjam ditutup saat dikembalikan
+     */
+    public void close() {
+        Deque<PooledConnection> toClose;
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            toClose = new ArrayDeque<>(idle);
+            openCount -= idle.size();
+            idle.clear();
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        evictor.shutdownNow();
+        for (PooledConnection pooled : toClose) {
+            closeQuietly(pooled.physical);
+        }
+    }
+
+    public boolean isClosed() {
+        lock.lock();
+        try {
+            return closed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Potret metrik pool saat ini
+     */
+    public PoolStats getStats() {
+        lock.lock();
+        try {
+            return new PoolStats(activeCount, idle.size(), maxSize, borrowCount, waitCount,
+                totalWaitNanos, maxWaitNanos, createdCount, discardedCount, evictedCount, failedConnectCount);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static void closeQuietly(Connection connection) {
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            System.err.println("Error closing pooled connection: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Koneksi fisik beserta status pool-nya
+     */
+    private final class PooledConnection {
+        private final Connection physical;
+        private long lastUsedNanos = System.nanoTime();
+
+        PooledConnection(Connection physical) {
+            this.physical = physical;
+        }
+
+        Connection lease() {
+            return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[] {Connection.class},
+                new Lease(this));
+        }
+    }
+
+    /**
+     * Satu peminjaman koneksi; close() mengembalikan koneksi ke pool tepat sekali
+     */
+    private final class Lease implements InvocationHandler {
+        private final PooledConnection pooled;
+        private boolean returned;
+        private boolean broken;
+
+        Lease(PooledConnection pooled) {
+            this.pooled = pooled;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!returned) {
+                        returned = true;
+                        release(pooled, broken);
+                    }
+                    return null;
+                case "isClosed":
+                    return returned || pooled.physical.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "PooledConnection[" + pooled.physical + "]";
+                default:
+                    break;
+            }
+            if (returned) {
+                throw new SQLException("Koneksi sudah dikembalikan ke pool");
+            }
+            return guard(delegate(pooled.physical, method, args), method.getReturnType(), proxy, proxy);
+        }
+
+        private Object delegate(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                Throwable cause = e.getCause();
+                // SQLState kelas 08 berarti koneksi ke server terputus
+                if (cause instanceof SQLException) {
+                    String state = ((SQLException) cause).getSQLState();
+                    if (state != null && state.startsWith("08")) {
+                        broken = true;
+                    }
+                }
+                throw cause;
+            }
+        }
+
+        /**
+         * Bungkus Statement, ResultSet, atau DatabaseMetaData agar pengecualiannya diperiksa
+         * @param connection Pembungkus koneksi, dikembalikan oleh getConnection() objek turunan
+         * @param parent Pembungkus yang membuat objek ini, dikembalikan oleh getStatement()
+         */
+        private Object guard(Object result, Class<?> type, Object connection, Object parent) {
+            if (result == null || !GUARDED_TYPES.contains(type)) {
+                return result;
+            }
+            return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "getConnection":
+                            return connection;
+                        case "getStatement":
+                            return parent instanceof Statement ? parent : delegate(result, method, args);
+                        default:
+                            return guard(delegate(result, method, args), method.getReturnType(), connection, proxy);
+                    }
+                });
+        }
+    }
+
+    /**
+     * Potret metrik pool koneksi
+     */
+    public static final class PoolStats {
+        private final int active;
+        private final int idle;
+        private final int maxSize;
+        private final long borrowCount;
+        private final long waitCount;
+        private final long totalWaitNanos;
+        private final long maxWaitNanos;
+        private final long createdCount;
+        private final long discardedCount;
+        private final long evictedCount;
+        private final long failedConnectCount;
+
+        PoolStats(int active, int idle, int maxSize, long borrowCount, long waitCount,
+                  long totalWaitNanos, long maxWaitNanos, long createdCount,
+                  long discardedCount, long evictedCount, long failedConnectCount) {
+            this.active = active;
+            this.idle = idle;
+            this.maxSize = maxSize;
+            this.borrowCount = borrowCount;
+            this.waitCount = waitCount;
+            this.totalWaitNanos = totalWaitNanos;
+            this.maxWaitNanos = maxWaitNanos;
+            this.createdCount = createdCount;
+            this.discardedCount = discardedCount;
+            this.evictedCount = evictedCount;
+            this.failedConnectCount = failedConnectCount;
+        }
+
+        public int getActive() { return active; }
+        public int getIdle() { return idle; }
+        public int getMaxSize() { return maxSize; }
+        public long getBorrowCount() { return borrowCount; }
+        public long getWaitCount() { return waitCount; }
+        public long getTotalWaitNanos() { return totalWaitNanos; }
+        public long getMaxWaitNanos() { return maxWaitNanos; }
+        public long getCreatedCount() { return createdCount; }
+        public long getDiscardedCount() { return discardedCount; }
+        public long getEvictedCount() { return evictedCount; }
+        public long getFailedConnectCount() { return failedConnectCount; }
+
+        public double getAverageWaitMillis() {
+            return borrowCount == 0 ? 0.0 : totalWaitNanos / 1e6 / borrowCount;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("PoolStats{active=%d, idle=%d, max=%d, borrows=%d, waits=%d, avgWaitMs=%.2f, maxWaitMs=%.2f, created=%d, discarded=%d, evicted=%d, failedConnects=%d}",
+                active, idle, maxSize, borrowCount, waitCount, getAverageWaitMillis(), maxWaitNanos / 1e6,
+                createdCount, discardedCount, evictedCount, failedConnectCount);
+        }
+    }
+}
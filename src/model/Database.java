@@ -3,11 +3,14 @@ package model;
 import java.sql.*;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.ToIntFunction;
 import model.Player;
+import utils.GameEvents;
 
 /**
  * Untuk operasi database MySQL
- * Menggunakan pola Singleton untuk mengelola koneksi database
+ * Semua operasi meminjam koneksi dari ConnectionPool yang memvalidasi dan menyambung ulang koneksi
+ * Setiap operasi dicatat sebagai event JFR magicalgems.DatabaseCall beserta jenis SQL dan jumlah baris
  * Bertanggung jawab untuk inisialisasi database, pembuatan tabel,
  * penyisipan/pembaruan data pemain, dan pengambilan data skor
  */
@@ -19,35 +22,72 @@ public class Database {
     private static final String DB_USERNAME = "root"; 
     private static final String DB_PASSWORD = ""; 
 
-    private static final String DB_URL = "jdbc:mysql://" + DB_HOST + ":" + DB_PORT + "/" + DB_NAME 
-                                        + "?useSSL=false&serverTimezone=UTC&allowPublicKeyRetrieval=true";
-    
-    private static Connection connection;
+    // Batas waktu membuka koneksi, agar server yang tidak terjangkau tidak menunggu timeout TCP sistem operasi
+    private static final int CONNECT_TIMEOUT_SECONDS = 3;
+    private static final int SOCKET_TIMEOUT_MILLIS = 15_000;
+
+    private static final String DEFAULT_DB_URL = "jdbc:mysql://" + DB_HOST + ":" + DB_PORT + "/" + DB_NAME 
+                                        + "?useSSL=false&serverTimezone=UTC&allowPublicKeyRetrieval=true&rewriteBatchedStatements=true"
+                                        + "&connectTimeout=" + (CONNECT_TIMEOUT_SECONDS * 1000) + "&socketTimeout=" + SOCKET_TIMEOUT_MILLIS;
+
+    // Dapat diganti dengan properti sistem, misalnya untuk database lokal tertanam saat pengujian
+    private static final String DB_URL = System.getProperty("game.db.url", DEFAULT_DB_URL);
+    private static final String DB_USER = System.getProperty("game.db.user", DB_USERNAME);
+    private static final String DB_PASS = System.getProperty("game.db.password", DB_PASSWORD);
+
+    // Konfigurasi pool koneksi; idle timeout jauh di bawah wait_timeout default MySQL
+    private static final int POOL_SIZE = Integer.getInteger("game.db.poolSize", 4);
+    private static final long POOL_IDLE_TIMEOUT_MILLIS = 5 * 60 * 1000L;
+    private static final long POOL_BORROW_TIMEOUT_MILLIS = 5_000L;
+
+    private static ConnectionPool pool;
+    // Tabel dibuat pada koneksi berhasil pertama, sehingga server yang baru menyala belakangan tetap ditangani
+    private static volatile boolean schemaReady;
+    // Indeks menaik biasa dibaca mundur untuk ORDER BY skor DESC, id DESC; indeks DESC diabaikan
+    // MariaDB sebelum 10.8 (database/thasil.sql berasal dari 10.4) dan MySQL sebelum 8.0
+    private static final String LEADERBOARD_INDEX = "idx_thasil_rank";
+    // Indeks (skor DESC, id ASC) versi sebelumnya, dihapus karena tidak dapat melayani urutan papan skor
+    private static final String OLD_LEADERBOARD_INDEX = "idx_thasil_skor_id";
+
+    private static final String UPSERT_SQL = "INSERT INTO thasil (username, skor, count) VALUES (?, ?, ?) " +
+                                             "ON DUPLICATE KEY UPDATE skor = skor + VALUES(skor), count = count + VALUES(count), " +
+                                             "updated_at = CURRENT_TIMESTAMP";
+
+    // Apakah server mendukung INSERT ... ON DUPLICATE KEY UPDATE; null sampai terdeteksi
+    private static volatile Boolean duplicateKeyUpdate;
 
     /**
      * Inisialisasi database dan buat tabel jika belum ada
      */
     public static synchronized void initializeDatabase() {
-        if (connection != null) {
+        if (pool != null) {
             return; 
         }
 
+        if (DB_URL.startsWith("jdbc:mysql:")) {
+            try {
+                // Load MySQL JDBC driver
+                Class.forName("com.mysql.cj.jdbc.Driver");
+            } catch (ClassNotFoundException e) {
+                System.err.println("MySQL JDBC Driver tidak ditemukan: " + e.getMessage());
+                System.err.println("Pastikan MySQL Connector/J sudah ditambahkan ke classpath");
+                return;
+            }
+        }
+
+        System.out.println("Mencoba koneksi ke database...");
+        System.out.println("URL: " + DB_URL);
+        System.out.println("Username: " + DB_USER);
+
+        // Berlaku juga untuk URL dari -Dgame.db.url yang tidak memuat connectTimeout
+        DriverManager.setLoginTimeout(CONNECT_TIMEOUT_SECONDS);
+        pool = new ConnectionPool(DB_URL, DB_USER, DB_PASS, POOL_SIZE,
+                                  POOL_IDLE_TIMEOUT_MILLIS, POOL_BORROW_TIMEOUT_MILLIS);
+
         try {
-            // Load MySQL JDBC driver
-            Class.forName("com.mysql.cj.jdbc.Driver");
-            
-            System.out.println("Mencoba koneksi ke MySQL...");
-            System.out.println("URL: " + DB_URL);
-            System.out.println("Username: " + DB_USERNAME);
-            
-            connection = DriverManager.getConnection(DB_URL, DB_USERNAME, DB_PASSWORD);
-            createTableIfNotExists(); 
-            insertSampleData(); 
-            
-            System.out.println("Database MySQL berhasil diinisialisasi");
-        } catch (ClassNotFoundException e) {
-            System.err.println("MySQL JDBC Driver tidak ditemukan: " + e.getMessage());
-            System.err.println("Pastikan MySQL Connector/J sudah ditambahkan ke classpath");
+            // Koneksi pertama membuat tabel; langsung dikembalikan ke pool
+            getConnection().close();
+            System.out.println("Database berhasil diinisialisasi");
         } catch (SQLException e) {
             System.err.println("Error initializing database: " + e.getMessage());
             System.err.println("Kemungkinan penyebab:");
@@ -55,13 +95,78 @@ public class Database {
             System.err.println("2. Username/password salah");
             System.err.println("3. Database '" + DB_NAME + "' belum dibuat");
             System.err.println("4. Permission denied untuk user");
+            System.err.println("Koneksi akan dicoba lagi secara otomatis saat dibutuhkan");
+        }
+    }
+
+    /**
+     * Pinjam koneksi dari pool; pastikan tabel sudah ada pada koneksi berhasil pertama
+     * Koneksi harus ditutup untuk mengembalikannya ke pool
+     */
+    public static Connection getConnection() throws SQLException {
+        ConnectionPool current = pool;
+        if (current == null) {
+            throw new SQLException("Database connection is not initialized.");
+        }
+        Connection connection = timed("getConnection", GameEvents.DatabaseCall.CONNECT, current::getConnection);
+        if (!schemaReady) {
+            try {
+                ensureSchema(connection);
+            } catch (SQLException e) {
+                connection.close();
+                throw e;
+            }
+        }
+        return connection;
+    }
+
+    private static synchronized void ensureSchema(Connection connection) throws SQLException {
+        if (schemaReady) {
+            return;
+        }
+        timed("ensureSchema", GameEvents.DatabaseCall.DDL, () -> {
+            createTableIfNotExists(connection);
+            createJournalTableIfNotExists(connection);
+            insertSampleData(connection);
+            return null;
+        });
+        schemaReady = true;
+    }
+
+    /**
+     * Isi satu operasi Database yang diukur oleh timed()
+     */
+    @FunctionalInterface
+    private interface SqlBody<T> {
+        T run() throws SQLException;
+    }
+
+    private static <T> T timed(String operation, String kind, SqlBody<T> body) throws SQLException {
+        return timed(operation, kind, body, result -> 0);
+    }
+
+    /**
+     * Jalankan body sebagai satu event JFR DatabaseCall; event gagal jika body melempar pengecualian
+     * @param rows Jumlah baris untuk event, dihitung dari hasil body
+     */
+    private static <T> T timed(String operation, String kind, SqlBody<T> body, ToIntFunction<? super T> rows) throws SQLException {
+        GameEvents.DatabaseCall event = GameEvents.DatabaseCall.start(operation, kind);
+        int count = 0;
+        boolean success = false;
+        try {
+            T result = body.run();
+            count = rows.applyAsInt(result);
+            success = true;
+            return result;
+        } finally {
+            event.finish(count, success);
         }
     }
 
     /**
      * Buat tabel thasil jika belum ada
      */
-    private static void createTableIfNotExists() throws SQLException {
+    private static void createTableIfNotExists(Connection connection) throws SQLException {
         // SQL untuk membuat tabel jika belum ada
         String sql = "CREATE TABLE IF NOT EXISTS thasil (" +
                      "id INT AUTO_INCREMENT PRIMARY KEY, " +
@@ -76,28 +181,90 @@ public class Database {
             stmt.execute(sql);
             System.out.println("Tabel 'thasil' berhasil dibuat atau sudah ada");
         }
+
+        // Indeks sekunder untuk urutan papan skor (skor menurun, id menurun) dan keyset pagination
+        if (indexExists(connection, "thasil", OLD_LEADERBOARD_INDEX)) {
+            try (Statement stmt = connection.createStatement()) {
+                stmt.execute("DROP INDEX " + OLD_LEADERBOARD_INDEX + " ON thasil");
+                System.out.println("Indeks lama '" + OLD_LEADERBOARD_INDEX + "' dihapus");
+            }
+        }
+        if (!indexExists(connection, "thasil", LEADERBOARD_INDEX)) {
+            try (Statement stmt = connection.createStatement()) {
+                stmt.execute("CREATE INDEX " + LEADERBOARD_INDEX + " ON thasil (skor, id)");
+                System.out.println("Indeks '" + LEADERBOARD_INDEX + "' berhasil dibuat");
+            }
+        }
+    }
+
+    private static boolean indexExists(Connection connection, String table, String index) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        for (String name : new String[] {table, table.toUpperCase()}) {
+            try (ResultSet rs = metaData.getIndexInfo(connection.getCatalog(), null, name, false, false)) {
+                while (rs.next()) {
+                    if (index.equalsIgnoreCase(rs.getString("INDEX_NAME"))) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Buat tabel thasil_journal untuk mencatat record jurnal lokal yang sudah diterapkan
+     */
+    private static void createJournalTableIfNotExists(Connection connection) throws SQLException {
+        String sql = "CREATE TABLE IF NOT EXISTS thasil_journal (" +
+                     "record_id CHAR(36) NOT NULL PRIMARY KEY, " +
+                     "applied_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP" +
+                     ") ENGINE=InnoDB DEFAULT CHARSET=utf8mb4";
+
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute(sql);
+        }
+    }
+
+    /**
+     * Catat record jurnal sebagai diterapkan; dipanggil dalam transaksi yang sama dengan skornya
+     * @return false jika record ini sudah pernah diterapkan sebelumnya
+     */
+    public static boolean claimJournalRecord(Connection connection, String recordId) throws SQLException {
+        return timed("claimJournalRecord", GameEvents.DatabaseCall.INSERT, () -> {
+            try (PreparedStatement stmt = connection.prepareStatement("INSERT INTO thasil_journal (record_id) VALUES (?)")) {
+                stmt.setString(1, recordId);
+                stmt.executeUpdate();
+                return true;
+            } catch (SQLException e) {
+                String state = e.getSQLState();
+                if (state != null && state.startsWith("23")) {
+                    return false;
+                }
+                throw e;
+            }
+        }, claimed -> claimed ? 1 : 0);
     }
 
     /**
      * Insert data contoh untuk demo
      */
-    private static void insertSampleData() throws SQLException {
+    private static void insertSampleData(Connection connection) throws SQLException {
         String checkSql = "SELECT COUNT(*) FROM thasil";
         try (Statement stmt = connection.createStatement();
              ResultSet rs = stmt.executeQuery(checkSql)) {
 
             if (rs.next() && rs.getInt(1) == 0) {
                 // Insert data contoh jika tabel kosong
-                insertOrUpdatePlayer("NalarJalan", 1000, 100);
-                insertOrUpdatePlayer("UseYourLogic", 800, 80);
-                insertOrUpdatePlayer("NoJudgement", 700, 40);
-                insertOrUpdatePlayer("EkoPrasetyo", 950, 95);
-                insertOrUpdatePlayer("Fitriani", 880, 85);
-                insertOrUpdatePlayer("GatotKaca", 750, 70);
-                insertOrUpdatePlayer("DewiSartika", 650, 60);
-                insertOrUpdatePlayer("Cahya", 500, 50);
-                insertOrUpdatePlayer("BayuSamudra", 450, 45);
-                insertOrUpdatePlayer("AnisaRahma", 400, 40);
+                insertOrUpdatePlayer(connection, "NalarJalan", 1000, 100);
+                insertOrUpdatePlayer(connection, "UseYourLogic", 800, 80);
+                insertOrUpdatePlayer(connection, "NoJudgement", 700, 40);
+                insertOrUpdatePlayer(connection, "EkoPrasetyo", 950, 95);
+                insertOrUpdatePlayer(connection, "Fitriani", 880, 85);
+                insertOrUpdatePlayer(connection, "GatotKaca", 750, 70);
+                insertOrUpdatePlayer(connection, "DewiSartika", 650, 60);
+                insertOrUpdatePlayer(connection, "Cahya", 500, 50);
+                insertOrUpdatePlayer(connection, "BayuSamudra", 450, 45);
+                insertOrUpdatePlayer(connection, "AnisaRahma", 400, 40);
                 System.out.println("Sample data berhasil diinsert");
             }
         }
@@ -107,72 +274,127 @@ public class Database {
      * Insert player baru atau update jika sudah ada
      */
     public static void insertOrUpdatePlayer(String username, int score, int count) {
-        if (connection == null) {
-            System.err.println("Database connection is not initialized.");
-            return;
+        try (Connection connection = getConnection()) {
+            boolean inserted = insertOrUpdatePlayer(connection, username, score, count);
+            System.out.println("Player " + username + (inserted ? " berhasil ditambahkan" : " berhasil diupdate"));
+        } catch (SQLException e) {
+            System.err.println("Error inserting/updating player: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Tambahkan skor dan jumlah pemain di sisi server dalam satu pernyataan atomik
+     * MySQL/MariaDB memakai INSERT ... ON DUPLICATE KEY UPDATE (satu round trip);
+     * engine lain memakai UPDATE bertambah lalu INSERT, dengan satu percobaan ulang saat bentrok
+     * @param connection Koneksi yang dipinjam dari pool
+     * @return true jika baris pemain baru disisipkan, false jika baris yang ada ditambah
+     */
+    public static boolean insertOrUpdatePlayer(Connection connection, String username, int score, int count) throws SQLException {
+        if (supportsDuplicateKeyUpdate(connection)) {
+            // Satu baris pemain disisipkan atau ditambah
+            return timed("insertOrUpdatePlayer", GameEvents.DatabaseCall.UPSERT, () -> {
+                try (PreparedStatement upsertStmt = connection.prepareStatement(UPSERT_SQL)) {
+                    upsertStmt.setString(1, username);
+                    upsertStmt.setInt(2, score);
+                    upsertStmt.setInt(3, count);
+                    // MySQL melaporkan 1 baris untuk insert dan 2 baris untuk update
+                    return upsertStmt.executeUpdate() == 1;
+                }
+            }, inserted -> 1);
+        }
+
+        if (incrementPlayer(connection, username, score, count)) {
+            return false;
         }
 
-        String selectSql = "SELECT skor, count FROM thasil WHERE username = ?";
-        String updateSql = "UPDATE thasil SET skor = ?, count = ?, updated_at = CURRENT_TIMESTAMP WHERE username = ?";
         String insertSql = "INSERT INTO thasil (username, skor, count) VALUES (?, ?, ?)";
+        return timed("insertOrUpdatePlayer", GameEvents.DatabaseCall.INSERT, () -> {
+            try (PreparedStatement insertStmt = connection.prepareStatement(insertSql)) {
+                insertStmt.setString(1, username);
+                insertStmt.setInt(2, score);
+                insertStmt.setInt(3, count);
+                insertStmt.executeUpdate();
+                return true;
+            } catch (SQLException e) {
+                // Penulis lain menyisipkan username yang sama lebih dulu; tambahkan ke baris tersebut
+                String state = e.getSQLState();
+                if (state == null || !state.startsWith("23") || !incrementPlayer(connection, username, score, count)) {
+                    throw e;
+                }
+                return false;
+            }
+        }, inserted -> 1);
+    }
 
-        try (PreparedStatement selectStmt = connection.prepareStatement(selectSql)) {
-            selectStmt.setString(1, username);
-            try (ResultSet rs = selectStmt.executeQuery()) {
-                if (rs.next()) {
-                    // Player sudah ada, update dengan nilai baru
-                    int existingScore = rs.getInt("skor");
-                    int existingCount = rs.getInt("count");
-
-                    try (PreparedStatement updateStmt = connection.prepareStatement(updateSql)) {
-                        updateStmt.setInt(1, existingScore + score);
-                        updateStmt.setInt(2, existingCount + count);
-                        updateStmt.setString(3, username);
-                        int rowsAffected = updateStmt.executeUpdate();
-                        if (rowsAffected > 0) {
-                            System.out.println("Player " + username + " berhasil diupdate");
-                        }
-                    }
-                } else {
-                    // Player belum ada, insert baru
-                    try (PreparedStatement insertStmt = connection.prepareStatement(insertSql)) {
-                        insertStmt.setString(1, username);
-                        insertStmt.setInt(2, score);
-                        insertStmt.setInt(3, count);
-                        int rowsAffected = insertStmt.executeUpdate();
-                        if (rowsAffected > 0) {
-                            System.out.println("Player " + username + " berhasil ditambahkan");
-                        }
-                    }
+    /**
+     * Tambahkan beberapa skor sekaligus; skor dan count tiap Player diperlakukan sebagai tambahan
+     * MySQL/MariaDB memakai satu batch JDBC; engine lain menulis baris demi baris.
+     * Transaksi diatur oleh pemanggil
+     */
+    public static void insertOrUpdatePlayers(Connection connection, List<Player> deltas) throws SQLException {
+        if (!supportsDuplicateKeyUpdate(connection)) {
+            for (Player delta : deltas) {
+                insertOrUpdatePlayer(connection, delta.getUsername(), delta.getScore(), delta.getCount());
+            }
+            return;
+        }
+
+        timed("insertOrUpdatePlayers", GameEvents.DatabaseCall.BATCH_UPSERT, () -> {
+            try (PreparedStatement upsertStmt = connection.prepareStatement(UPSERT_SQL)) {
+                for (Player delta : deltas) {
+                    upsertStmt.setString(1, delta.getUsername());
+                    upsertStmt.setInt(2, delta.getScore());
+                    upsertStmt.setInt(3, delta.getCount());
+                    upsertStmt.addBatch();
                 }
+                return upsertStmt.executeBatch();
             }
-        } catch (SQLException e) {
-            System.err.println("Error inserting/updating player: " + e.getMessage());
+        }, counts -> counts.length);
+    }
+
+    private static boolean incrementPlayer(Connection connection, String username, int score, int count) throws SQLException {
+        String updateSql = "UPDATE thasil SET skor = skor + ?, count = count + ?, updated_at = CURRENT_TIMESTAMP WHERE username = ?";
+        return timed("incrementPlayer", GameEvents.DatabaseCall.UPDATE, () -> {
+            try (PreparedStatement updateStmt = connection.prepareStatement(updateSql)) {
+                updateStmt.setInt(1, score);
+                updateStmt.setInt(2, count);
+                updateStmt.setString(3, username);
+                return updateStmt.executeUpdate() > 0;
+            }
+        }, updated -> updated ? 1 : 0);
+    }
+
+    // Deteksi dialek sekali dari metadata koneksi pertama
+    private static boolean supportsDuplicateKeyUpdate(Connection connection) throws SQLException {
+        Boolean supported = duplicateKeyUpdate;
+        if (supported == null) {
+            String product = connection.getMetaData().getDatabaseProductName().toLowerCase();
+            supported = product.contains("mysql") || product.contains("mariadb");
+            duplicateKeyUpdate = supported;
         }
+        return supported;
     }
 
     /**
      * Get semua player, diurutkan berdasarkan skor (descending)
+     * Memuat seluruh tabel; untuk papan skor gunakan getTopPlayers dan getPlayersAfter
      */
     public static List<Player> getAllPlayers() {
         List<Player> players = new ArrayList<>();
-        if (connection == null) {
-            System.err.println("Database connection is not initialized.");
-            return players;
-        }
+        String sql = "SELECT id, username, skor, count FROM thasil ORDER BY skor DESC, id DESC";
 
-        String sql = "SELECT username, skor, count FROM thasil ORDER BY skor DESC";
+        try {
+            timed("getAllPlayers", GameEvents.DatabaseCall.SELECT, () -> {
+                try (Connection connection = getConnection();
+                     Statement stmt = connection.createStatement();
+                     ResultSet rs = stmt.executeQuery(sql)) {
 
-        try (Statement stmt = connection.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
-
-            while (rs.next()) {
-                players.add(new Player(
-                    rs.getString("username"),
-                    rs.getInt("skor"),
-                    rs.getInt("count")
-                ));
-            }
+                    while (rs.next()) {
+                        players.add(readPlayer(rs));
+                    }
+                }
+                return players;
+            }, List::size);
         } catch (SQLException e) {
             System.err.println("Error getting all players: " + e.getMessage());
         }
@@ -181,26 +403,78 @@ public class Database {
     }
 
     /**
-     * Get player berdasarkan username
+     * Get N player teratas, diurutkan berdasarkan skor lalu id (keduanya descending)
+     * @return Daftar player, atau null jika query gagal
      */
-    public static Player getPlayerByUsername(String username) {
-        if (connection == null) {
-            System.err.println("Database connection is not initialized.");
+    public static List<Player> getTopPlayers(int limit) {
+        String sql = "SELECT id, username, skor, count FROM thasil ORDER BY skor DESC, id DESC LIMIT ?";
+        return queryPage("getTopPlayers", sql, limit);
+    }
+
+    /**
+     * Get halaman berikutnya setelah player terakhir yang sudah dimuat (keyset pagination pada skor, id)
+     * Memakai indeks idx_thasil_rank (dibaca mundur) sehingga biayanya tidak bergantung pada kedalaman halaman.
+     * Predikat skor <= ? memberi batas atas rentang indeks; OR tanpa batas itu membuat optimizer memindai penuh
+     * @return Daftar player, atau null jika query gagal
+     */
+    public static List<Player> getPlayersAfter(int lastScore, int lastId, int limit) {
+        String sql = "SELECT id, username, skor, count FROM thasil " +
+                     "WHERE skor <= ? AND (skor < ? OR id < ?) " +
+                     "ORDER BY skor DESC, id DESC LIMIT ?";
+        return queryPage("getPlayersAfter", sql, lastScore, lastScore, lastId, limit);
+    }
+
+    private static List<Player> queryPage(String operation, String sql, int... params) {
+        try {
+            return timed(operation, GameEvents.DatabaseCall.SELECT, () -> {
+                List<Player> players = new ArrayList<>();
+                try (Connection connection = getConnection();
+                     PreparedStatement stmt = connection.prepareStatement(sql)) {
+                    for (int i = 0; i < params.length; i++) {
+                        stmt.setInt(i + 1, params[i]);
+                    }
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        while (rs.next()) {
+                            players.add(readPlayer(rs));
+                        }
+                    }
+                }
+                return players;
+            }, List::size);
+        } catch (SQLException e) {
+            System.err.println("Error getting leaderboard page: " + e.getMessage());
+            // Halaman kosong dan query gagal harus dapat dibedakan oleh cache
             return null;
         }
+    }
 
-        String sql = "SELECT username, skor, count FROM thasil WHERE username = ?";
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
-            stmt.setString(1, username);
-            try (ResultSet rs = stmt.executeQuery()) {
-                if (rs.next()) {
-                    return new Player(
-                        rs.getString("username"),
-                        rs.getInt("skor"),
-                        rs.getInt("count")
-                    );
+    private static Player readPlayer(ResultSet rs) throws SQLException {
+        return new Player(
+            rs.getInt("id"),
+            rs.getString("username"),
+            rs.getInt("skor"),
+            rs.getInt("count")
+        );
+    }
+
+    /**
+     * Get player berdasarkan username
+     */
+    public static Player getPlayerByUsername(String username) {
+        String sql = "SELECT id, username, skor, count FROM thasil WHERE username = ?";
+        try {
+            return timed("getPlayerByUsername", GameEvents.DatabaseCall.SELECT, () -> {
+                try (Connection connection = getConnection();
+                     PreparedStatement stmt = connection.prepareStatement(sql)) {
+                    stmt.setString(1, username);
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        if (rs.next()) {
+                            return readPlayer(rs);
+                        }
+                    }
                 }
-            }
+                return null;
+            }, player -> player != null ? 1 : 0);
         } catch (SQLException e) {
             System.err.println("Error getting player by username: " + e.getMessage());
         }
@@ -212,12 +486,13 @@ public class Database {
      */
     public static boolean testConnection() {
         try {
-            if (connection != null && !connection.isClosed()) {
-                try (Statement stmt = connection.createStatement();
+            return timed("testConnection", GameEvents.DatabaseCall.SELECT, () -> {
+                try (Connection connection = getConnection();
+                     Statement stmt = connection.createStatement();
                      ResultSet rs = stmt.executeQuery("SELECT 1")) {
                     return rs.next();
                 }
-            }
+            }, ok -> ok ? 1 : 0);
         } catch (SQLException e) {
             System.err.println("Connection test failed: " + e.getMessage());
         }
@@ -225,22 +500,25 @@ public class Database {
     }
 
     /**
-     * Tutup koneksi database
+     * Metrik pool koneksi, atau null jika database belum diinisialisasi
      */
-    public static void closeConnection() {
-        if (connection == null) {
+    public static ConnectionPool.PoolStats getPoolStats() {
+        ConnectionPool current = pool;
+        return current != null ? current.getStats() : null;
+    }
+
+    /**
+     * Tutup semua koneksi database
+     */
+    public static synchronized void closeConnection() {
+        if (pool == null) {
             return; // Tidak ada koneksi untuk ditutup
         }
 
-        try {
-            if (!connection.isClosed()) {
-                connection.close();
-                System.out.println("Database connection closed");
-            }
-        } catch (SQLException e) {
-            System.err.println("Error closing database connection: " + e.getMessage());
-        } finally {
-            connection = null;
-        }
+        pool.close();
+        pool = null;
+        schemaReady = false;
+        duplicateKeyUpdate = null;
+        System.out.println("Database connection closed");
     }
-}
\ No newline at end of file
+}
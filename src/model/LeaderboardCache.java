@@ -0,0 +1,223 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache baca papan skor
+ * Menyimpan awalan papan skor yang sudah dimuat per halaman (urut skor menurun lalu id),
+ * dengan indeks hash berdasarkan username huruf kecil. Halaman berikutnya diambil dengan
+ * keyset pagination dari pemain terakhir yang dimuat. Awalan dibaca ulang setelah TTL.
+ * Skor yang disimpan melalui ScoreWriter diterapkan langsung ke cache (write-through)
+ * dengan memindahkan satu pemain ke peringkat barunya, tanpa membaca ulang tabel
+ */
+public class LeaderboardCache implements ScoreWriter.SaveListener {
+    public static final int PAGE_SIZE = 50;
+
+    // Umur maksimum cache, dapat diubah dengan -Dgame.leaderboardTtlMillis=<ms>
+    private static final long TTL_NANOS = TimeUnit.MILLISECONDS.toNanos(Long.getLong("game.leaderboardTtlMillis", 60_000L));
+
+    // Urutan papan skor, sama dengan ORDER BY skor DESC, id DESC
+    private static final Comparator<Player> RANK_ORDER =
+        Comparator.comparingInt(Player::getScore).thenComparingInt(Player::getId).reversed();
+
+    // Awalan papan skor yang sudah dimuat; objek Player di dalamnya tidak pernah diubah
+    private final List<Player> ranked = new ArrayList<>();
+    private final Map<String, Player> byUsername = new HashMap<>();
+    // Waktu mulai query yang memuat nilai tiap pemain; tambahan yang ter-commit sebelum waktu ini
+    // sudah terkandung di nilai tersebut dan tidak boleh diterapkan lagi
+    private final Map<String, Long> loadStartedNanos = new HashMap<>();
+    private long loadedAtNanos;
+    private boolean loaded;
+    private boolean hasMore;
+    // Bertambah setiap kali awalan dimuat ulang
+    private int generation;
+
+    public LeaderboardCache() {
+        ScoreWriter.addSaveListener(this);
+    }
+
+    /**
+     * Dapatkan awalan papan skor yang sudah dimuat (minimal halaman pertama)
+     * Halaman pertama dibaca ulang dari database jika cache kosong atau melewati TTL
+     */
+    public synchronized List<Player> getTopPlayers() {
+        if (!loaded || System.nanoTime() - loadedAtNanos > TTL_NANOS) {
+            reload();
+        }
+        return Collections.unmodifiableList(new ArrayList<>(ranked));
+    }
+
+    /**
+     * Muat halaman berikutnya setelah pemain terakhir yang sudah dimuat
+     * Awalan yang kedaluwarsa atau gagal dimuat ulang tidak dibaca ulang di sini: pemanggil sudah
+     * menampilkannya, jadi halaman tetap dilanjutkan dari pemain terakhirnya agar tidak ada baris ganda
+     * @return Pemain yang baru dimuat; kosong jika sudah di akhir papan skor atau query gagal
+     */
+    public synchronized List<Player> loadNextPage() {
+        if (ranked.isEmpty() && !loaded) {
+            // Belum ada yang dimuat, jadi halaman pertama adalah halaman berikutnya
+            if (!reload()) {
+                return Collections.emptyList();
+            }
+            return Collections.unmodifiableList(new ArrayList<>(ranked));
+        }
+        if (!hasMore || ranked.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Player last = ranked.get(ranked.size() - 1);
+        long started = System.nanoTime();
+        List<Player> page = Database.getPlayersAfter(last.getScore(), last.getId(), PAGE_SIZE);
+        if (page == null) {
+            // hasMore tetap true sehingga halaman ini dicoba lagi
+            return Collections.emptyList();
+        }
+        hasMore = page.size() == PAGE_SIZE;
+        List<Player> added = new ArrayList<>(page.size());
+        for (Player player : page) {
+            if (byUsername.putIfAbsent(key(player.getUsername()), player) == null) {
+                loadStartedNanos.put(key(player.getUsername()), started);
+                ranked.add(player);
+                added.add(player);
+            }
+        }
+        return added;
+    }
+
+    /**
+     * Apakah masih ada pemain di luar awalan yang sudah dimuat
+     */
+    public synchronized boolean hasMore() {
+        return hasMore;
+    }
+
+    /**
+     * Cari pemain berdasarkan username tanpa membedakan huruf besar/kecil
+     * Pemain di luar awalan yang dimuat dicari langsung di database
+     */
+    public Player getPlayer(String username) {
+        if (username == null) {
+            return null;
+        }
+        synchronized (this) {
+            if (!loaded && !reload()) {
+                return Database.getPlayerByUsername(username.trim());
+            }
+            Player cached = byUsername.get(key(username));
+            if (cached != null || !hasMore) {
+                return cached;
+            }
+        }
+        return Database.getPlayerByUsername(username.trim());
+    }
+
+    /**
+     * Buang cache sehingga pembacaan berikutnya memuat ulang dari database
+     */
+    public synchronized void invalidate() {
+        loaded = false;
+    }
+
+    /**
+     * Muat ulang halaman pertama
+     * Jika query gagal, isi cache tidak diubah dan loaded tetap false agar pembacaan berikutnya mencoba lagi
+     * @return true jika halaman pertama berhasil dimuat
+     */
+    private boolean reload() {
+        long started = System.nanoTime();
+        List<Player> players = Database.getTopPlayers(PAGE_SIZE);
+        if (players == null) {
+            loaded = false;
+            return false;
+        }
+        ranked.clear();
+        byUsername.clear();
+        loadStartedNanos.clear();
+        for (Player player : players) {
+            if (byUsername.putIfAbsent(key(player.getUsername()), player) == null) {
+                loadStartedNanos.put(key(player.getUsername()), started);
+                ranked.add(player);
+            }
+        }
+        hasMore = players.size() == PAGE_SIZE;
+        loadedAtNanos = System.nanoTime();
+        loaded = true;
+        generation++;
+        return true;
+    }
+
+    /**
+     * Terapkan tambahan skor yang sudah ter-commit (dipanggil dari thread ScoreWriter)
+     * Pemain yang sudah ada di awalan dipindahkan langsung, kecuali nilainya dimuat setelah commit
+     * (misalnya reload TTL di antara commit dan panggilan ini) sehingga sudah berisi tambahannya.
+     * Pemain lain dibaca dari database di luar lock lalu disisipkan jika peringkatnya masuk ke awalan
+     */
+    @Override
+    public void onScoresSaved(List<Player> deltas, long committedAtNanos) {
+        List<String> unknown = new ArrayList<>();
+        int seenGeneration;
+        synchronized (this) {
+            if (!loaded) {
+                return;
+            }
+            seenGeneration = generation;
+            for (Player delta : deltas) {
+                Player existing = byUsername.get(key(delta.getUsername()));
+                if (existing == null) {
+                    unknown.add(delta.getUsername());
+                } else if (loadStartedNanos.get(key(delta.getUsername())) - committedAtNanos < 0) {
+                    // Nilai di cache dimuat sebelum commit, jadi tambahannya belum terkandung
+                    ranked.remove(Collections.binarySearch(ranked, existing, RANK_ORDER));
+                    insert(new Player(existing.getId(), existing.getUsername(),
+                        existing.getScore() + delta.getScore(), existing.getCount() + delta.getCount()));
+                }
+            }
+        }
+        if (unknown.isEmpty()) {
+            return;
+        }
+
+        long fetchStarted = System.nanoTime();
+        List<Player> fetched = new ArrayList<>();
+        for (String username : unknown) {
+            Player player = Database.getPlayerByUsername(username);
+            if (player != null) {
+                fetched.add(player);
+            }
+        }
+
+        synchronized (this) {
+            // Awalan yang dimuat ulang sementara itu sudah berisi nilai terbaru
+            if (!loaded || generation != seenGeneration) {
+                return;
+            }
+            for (Player player : fetched) {
+                if (byUsername.containsKey(key(player.getUsername()))) {
+                    continue;
+                }
+                boolean withinPrefix = !hasMore || ranked.isEmpty()
+                    || RANK_ORDER.compare(player, ranked.get(ranked.size() - 1)) < 0;
+                if (withinPrefix) {
+                    insert(player);
+                    loadStartedNanos.put(key(player.getUsername()), fetchStarted);
+                }
+            }
+        }
+    }
+
+    private void insert(Player player) {
+        int index = Collections.binarySearch(ranked, player, RANK_ORDER);
+        ranked.add(index < 0 ? -index - 1 : index, player);
+        byUsername.put(key(player.getUsername()), player);
+    }
+
+    private static String key(String username) {
+        return username.trim().toLowerCase();
+    }
+}
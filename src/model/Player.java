@@ -7,17 +7,30 @@ package model;
  * Bagian dari lapisan Model dalam pola MVVM
  */
 public class Player {
+    private int id;
     private String username;
     private int score;
     private int count;
 
     public Player(String username, int score, int count) {
+        this(0, username, score, count);
+    }
+
+    /**
+     * @param id Id baris di tabel thasil, dipakai sebagai pemutus seri pada urutan papan skor
+     */
+    public Player(int id, String username, int score, int count) {
+        this.id = id;
         this.username = username;
         this.score = score;
         this.count = count;
     }
 
     // Getters
+    public int getId() {
+        return id;
+    }
+
     public String getUsername() {
         return username;
     }
@@ -0,0 +1,363 @@
+package model;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.CRC32;
+
+/**
+ * Jurnal lokal append-only untuk tambahan skor yang belum masuk ke database
+ * Berkas dipetakan ke memori; setiap record diawali panjang dan CRC32 sehingga ekor yang
+ * terpotong saat crash dapat dikenali. Status record (pending, sedang dicoba, sudah diterapkan)
+ * ditulis di tempat. Setiap record memiliki UUID yang dicatat di tabel thasil_journal
+ * dalam transaksi yang sama dengan skornya, sehingga pemutaran ulang bersifat idempoten.
+ * Pemadatan mengganti objek Entry hasil penggabungan, jadi hanya boleh dijalankan oleh pemilik
+ * daftar unapplied() (thread penyimpanan) di antara pemutaran ulang, tidak pernah dari append().
+ *
+ * Format: header [magic:int][versi:int], lalu record
+ * [panjang payload:int][crc payload:int][status:byte][payload], payload =
+ * [uuid:long,long][skor:int][count:int][panjang username:short][username UTF-8]
+ */
+public class ScoreJournal {
+    public static final byte PENDING = 0;
+    public static final byte APPLIED = 1;
+    // Sudah pernah dikirim ke database; mungkin sudah ter-commit, jadi tidak boleh digabung
+    public static final byte ATTEMPTING = 2;
+
+    private static final int MAGIC = 0x4A524E4C; // "JRNL"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 8;
+    private static final int RECORD_HEADER_BYTES = 9;
+    private static final int INITIAL_CAPACITY = 64 * 1024;
+    // Padatkan saat record yang sudah diterapkan mencapai ukuran ini
+    private static final int COMPACT_THRESHOLD_BYTES = INITIAL_CAPACITY / 2;
+
+    private final Path file;
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int position;
+    private int appliedBytes;
+    private boolean dirty;
+    // Record yang belum diterapkan, sesuai urutan di berkas
+    private final List<Entry> live = new ArrayList<>();
+
+    /**
+     * Satu tambahan skor di jurnal
+     */
+    public static final class Entry {
+        private final UUID id;
+        private final String username;
+        private final int score;
+        private final int count;
+        // Dipulihkan dari berkas saat dibuka, bukan milik penyimpanan yang sedang berjalan
+        private final boolean recovered;
+        private int offset;
+        private int length;
+        private byte status;
+
+        private Entry(UUID id, String username, int score, int count, boolean recovered, byte status) {
+            this.id = id;
+            this.username = username;
+            this.score = score;
+            this.count = count;
+            this.recovered = recovered;
+            this.status = status;
+        }
+
+        public String getId() { return id.toString(); }
+        public String getUsername() { return username; }
+        public int getScore() { return score; }
+        public int getCount() { return count; }
+    }
+
+    private ScoreJournal(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Buka atau buat jurnal, lalu gabungkan record pending dari sesi sebelumnya per username
+     */
+    public static ScoreJournal open(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        ScoreJournal journal = new ScoreJournal(file);
+        journal.map();
+        journal.scan();
+        journal.compact();
+        return journal;
+    }
+
+    /**
+     * Tambahkan record pending; belum dijamin tahan mati listrik sampai force() dipanggil
+     * Jika berkas penuh, berkas diperbesar; pemadatan diserahkan ke compactIfNeeded()
+     */
+    public synchronized Entry append(String username, int score, int count) throws IOException {
+        Entry entry = new Entry(UUID.randomUUID(), username, score, count, false, PENDING);
+        byte[] record = encode(entry);
+        if (position + record.length + 4 > buffer.capacity()) {
+            grow(position + record.length + 4);
+        }
+        writeRecord(entry, record);
+        live.add(entry);
+        return entry;
+    }
+
+    public synchronized void markAttempting(List<Entry> entries) {
+        setStatus(entries, ATTEMPTING);
+    }
+
+    public synchronized void markApplied(List<Entry> entries) {
+        setStatus(entries, APPLIED);
+        for (Entry entry : entries) {
+            if (live.remove(entry)) {
+                appliedBytes += entry.length;
+            }
+        }
+    }
+
+    /**
+     * Paksa perubahan ke disk; dipanggil sekali per batch penyimpanan
+     */
+    public synchronized void force() {
+        if (dirty) {
+            buffer.force();
+            dirty = false;
+        }
+    }
+
+    /**
+     * Record yang belum diterapkan ke database, sesuai urutan penulisan
+     */
+    public synchronized List<Entry> unapplied() {
+        return new ArrayList<>(live);
+    }
+
+    public synchronized boolean hasUnapplied() {
+        return !live.isEmpty();
+    }
+
+    /**
+     * Padatkan jika record yang sudah diterapkan cukup banyak
+     * Dipanggil dari thread penyimpanan saat tidak ada daftar unapplied() yang sedang dipakai
+     */
+    public synchronized void compactIfNeeded() throws IOException {
+        if (appliedBytes >= COMPACT_THRESHOLD_BYTES) {
+            compact();
+        }
+    }
+
+    /**
+     * Tulis ulang jurnal tanpa record yang sudah diterapkan
+     * Record pending hasil pemulihan digabung menjadi satu record per username; record yang
+     * sedang atau pernah dicoba disalin apa adanya agar UUID-nya tetap sama
+     */
+    public synchronized void compact() throws IOException {
+        List<Entry> kept = new ArrayList<>();
+        Map<String, int[]> merged = new LinkedHashMap<>();
+        for (Entry entry : live) {
+            if (entry.recovered && entry.status == PENDING) {
+                int[] totals = merged.computeIfAbsent(entry.username, key -> new int[2]);
+                totals[0] += entry.score;
+                totals[1] += entry.count;
+            } else {
+                kept.add(entry);
+            }
+        }
+        int mergedAway = live.size() - kept.size() - merged.size();
+        if (appliedBytes == 0 && mergedAway <= 0) {
+            return;
+        }
+
+        List<Entry> rewritten = new ArrayList<>();
+        for (Map.Entry<String, int[]> total : merged.entrySet()) {
+            rewritten.add(new Entry(UUID.randomUUID(), total.getKey(), total.getValue()[0], total.getValue()[1], true, PENDING));
+        }
+        rewritten.addAll(kept);
+
+        List<byte[]> records = new ArrayList<>();
+        int size = HEADER_BYTES + 4;
+        for (Entry entry : rewritten) {
+            byte[] record = encode(entry);
+            records.add(record);
+            size += record.length;
+        }
+
+        // Tulis ke berkas sementara lalu ganti secara atomik
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        ByteBuffer out = ByteBuffer.allocate(Math.max(INITIAL_CAPACITY, size));
+        out.putInt(MAGIC).putInt(VERSION);
+        int offset = HEADER_BYTES;
+        for (int i = 0; i < rewritten.size(); i++) {
+            Entry entry = rewritten.get(i);
+            entry.offset = offset;
+            entry.length = records.get(i).length;
+            out.put(records.get(i));
+            offset += entry.length;
+        }
+        out.position(0);
+        try (FileChannel tempChannel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (out.hasRemaining()) {
+                tempChannel.write(out);
+            }
+            tempChannel.force(true);
+        }
+
+        close();
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        map();
+        position = offset;
+        appliedBytes = 0;
+        live.clear();
+        live.addAll(rewritten);
+        System.out.println("Jurnal skor dipadatkan: " + live.size() + " record tersisa");
+    }
+
+    /**
+     * Tutup pemetaan berkas
+     */
+    public synchronized void close() throws IOException {
+        if (channel != null) {
+            force();
+            channel.close();
+            channel = null;
+            buffer = null;
+        }
+    }
+
+    private void map() throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long size = Math.max(INITIAL_CAPACITY, channel.size());
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        if (buffer.getInt(0) != MAGIC) {
+            buffer.putInt(0, MAGIC).putInt(4, VERSION);
+            dirty = true;
+        }
+        position = HEADER_BYTES;
+    }
+
+    private void grow(int required) throws IOException {
+        int capacity = buffer.capacity();
+        while (capacity < required) {
+            capacity *= 2;
+        }
+        force();
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+    }
+
+    /**
+     * Baca record dari awal; berhenti di record kosong atau ekor yang rusak
+     */
+    private void scan() {
+        int offset = HEADER_BYTES;
+        while (offset + RECORD_HEADER_BYTES <= buffer.capacity()) {
+            int length = buffer.getInt(offset);
+            if (length <= 0 || offset + RECORD_HEADER_BYTES + length > buffer.capacity()) {
+                break;
+            }
+            byte[] payload = new byte[length];
+            buffer.get(offset + RECORD_HEADER_BYTES, payload);
+            if (checksum(payload) != buffer.getInt(offset + 4)) {
+                break;
+            }
+
+            byte status = buffer.get(offset + 8);
+            int recordLength = RECORD_HEADER_BYTES + length;
+            if (status == APPLIED) {
+                appliedBytes += recordLength;
+            } else {
+                Entry entry = decode(payload, status);
+                entry.offset = offset;
+                entry.length = recordLength;
+                live.add(entry);
+            }
+            offset += recordLength;
+        }
+
+        // Hapus ekor yang terpotong agar tidak terbaca sebagai record berikutnya
+        if (offset + 4 <= buffer.capacity() && buffer.getInt(offset) != 0) {
+            System.err.println("Jurnal skor: ekor rusak diabaikan pada posisi " + offset);
+            for (int i = offset; i < buffer.capacity(); i++) {
+                buffer.put(i, (byte) 0);
+            }
+            dirty = true;
+        }
+        position = offset;
+    }
+
+    private void writeRecord(Entry entry, byte[] record) {
+        entry.offset = position;
+        entry.length = record.length;
+        buffer.put(position, record);
+        position += record.length;
+        dirty = true;
+    }
+
+    private void setStatus(List<Entry> entries, byte status) {
+        for (Entry entry : entries) {
+            // Entry yang sudah diganti pemadatan tidak lagi memiliki posisi yang sah di berkas
+            if (entry.status != APPLIED && isLive(entry)) {
+                entry.status = status;
+                buffer.put(entry.offset + 8, status);
+                dirty = true;
+            }
+        }
+    }
+
+    private boolean isLive(Entry entry) {
+        for (Entry candidate : live) {
+            if (candidate == entry) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static byte[] encode(Entry entry) {
+        byte[] name = entry.username.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer payload = ByteBuffer.allocate(26 + name.length);
+        payload.putLong(entry.id.getMostSignificantBits());
+        payload.putLong(entry.id.getLeastSignificantBits());
+        payload.putInt(entry.score);
+        payload.putInt(entry.count);
+        payload.putShort((short) name.length);
+        payload.put(name);
+        byte[] payloadBytes = payload.array();
+
+        ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_BYTES + payloadBytes.length);
+        record.putInt(payloadBytes.length);
+        record.putInt(checksum(payloadBytes));
+        record.put(entry.status);
+        record.put(payloadBytes);
+        return record.array();
+    }
+
+    private static Entry decode(byte[] payloadBytes, byte status) {
+        ByteBuffer payload = ByteBuffer.wrap(payloadBytes);
+        UUID id = new UUID(payload.getLong(), payload.getLong());
+        int score = payload.getInt();
+        int count = payload.getInt();
+        byte[] name = new byte[payload.getShort()];
+        payload.get(name);
+        return new Entry(id, new String(name, StandardCharsets.UTF_8), score, count, true, status);
+    }
+
+    private static int checksum(byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+}
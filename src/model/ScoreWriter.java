@@ -0,0 +1,359 @@
+package model;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Penyimpanan skor write-behind
+ * Hasil permainan dimasukkan ke antrian terbatas dan dikembalikan sebagai CompletableFuture,
+ * lalu thread latar menggabungkan hasil per username dan menulisnya dalam satu batch JDBC.
+ * Dengan begitu EDT dan thread simulasi tidak pernah menunggu database.
+ * Setiap hasil juga dicatat di ScoreJournal lokal; hasil yang gagal ditulis dikirim ulang
+ * secara berkala sampai database tersedia lagi
+ */
+public class ScoreWriter {
+    private static final int QUEUE_CAPACITY = 256;
+    private static final int MAX_BATCH = 64;
+    // Jeda antar percobaan ulang record jurnal yang belum masuk database
+    private static final long RETRY_INTERVAL_MILLIS = 15_000;
+    // Lokasi jurnal, dapat diubah dengan -Dgame.journalFile=<path>
+    private static final Path JOURNAL_FILE = Paths.get(System.getProperty("game.journalFile",
+        Paths.get(System.getProperty("user.home"), ".magical-gems", "scores.journal").toString()));
+
+    private static final BlockingQueue<PendingScore> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    // Penanda untuk membangunkan worker saat shutdown
+    private static final PendingScore POISON = new PendingScore(null, null, 0, 0);
+
+    private static Thread worker;
+    private static volatile boolean shuttingDown;
+    // Null jika jurnal tidak dapat dibuka; penyimpanan tetap berjalan tanpa ketahanan lokal
+    private static volatile ScoreJournal journal;
+    private static final List<SaveListener> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Pendengar yang menerima tambahan skor setelah ter-commit ke database
+     */
+    public interface SaveListener {
+        // Dipanggil dari thread penyimpanan; skor dan count tiap Player adalah tambahan.
+        // committedAtNanos adalah System.nanoTime() tepat sebelum commit: pembacaan database yang
+        // dimulai setelahnya dianggap sudah berisi tambahan ini
+        void onScoresSaved(List<Player> deltas, long committedAtNanos);
+    }
+
+    private ScoreWriter() {
+    }
+
+    /**
+     * Buka jurnal dan mulai mengirim ulang skor yang tertinggal dari sesi sebelumnya
+     */
+    public static void start() {
+        ensureWorker();
+    }
+
+    /**
+     * Antrikan tambahan skor untuk disimpan; tidak pernah menunggu database
+     * @return Future yang selesai dengan true jika tersimpan ke database, false jika belum
+     *         (jika jurnal tersedia, skor tetap tercatat lokal dan dikirim ulang nanti)
+     */
+    public static CompletableFuture<Boolean> submit(String username, int score, int count) {
+        if (shuttingDown) {
+            System.err.println("Skor " + username + " tidak disimpan: penyimpanan sedang dimatikan");
+            return CompletableFuture.completedFuture(false);
+        }
+
+        ensureWorker();
+        PendingScore pending = new PendingScore(appendToJournal(username, score, count), username, score, count);
+        if (!queue.offer(pending)) {
+            System.err.println("Skor " + username + " tidak disimpan: antrian penyimpanan penuh");
+            pending.result.complete(false);
+        }
+        return pending.result;
+    }
+
+    /**
+     * Tulis semua skor yang masih antri lalu hentikan worker
+     * @param timeoutMillis Batas waktu menunggu penulisan selesai
+     */
+    public static void shutdown(long timeoutMillis) {
+        Thread current;
+        synchronized (ScoreWriter.class) {
+            shuttingDown = true;
+            current = worker;
+        }
+        if (current == null) {
+            return;
+        }
+
+        try {
+            queue.offer(POISON, timeoutMillis, TimeUnit.MILLISECONDS);
+            current.join(timeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (current.isAlive()) {
+            System.err.println("Penyimpanan skor belum selesai saat shutdown; " + queue.size() + " skor masih antri");
+        }
+
+        ScoreJournal openJournal = journal;
+        if (openJournal != null && !current.isAlive()) {
+            try {
+                openJournal.close();
+            } catch (IOException e) {
+                System.err.println("Error closing score journal: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Apakah skor yang gagal ditulis tetap tersimpan di jurnal lokal
+     */
+    public static boolean isJournalAvailable() {
+        return journal != null;
+    }
+
+    public static void addSaveListener(SaveListener listener) {
+        listeners.add(listener);
+    }
+
+    public static void removeSaveListener(SaveListener listener) {
+        listeners.remove(listener);
+    }
+
+    public static int getPendingCount() {
+        return queue.size();
+    }
+
+    private static synchronized void ensureWorker() {
+        if (worker == null) {
+            try {
+                journal = ScoreJournal.open(JOURNAL_FILE);
+            } catch (IOException | RuntimeException e) {
+                System.err.println("Jurnal skor tidak tersedia (" + JOURNAL_FILE + "): " + e.getMessage());
+            }
+            worker = new Thread(ScoreWriter::drainLoop, "score-writer");
+            worker.setDaemon(true);
+            worker.start();
+        }
+    }
+
+    private static ScoreJournal.Entry appendToJournal(String username, int score, int count) {
+        ScoreJournal current = journal;
+        if (current == null) {
+            return null;
+        }
+        try {
+            return current.append(username, score, count);
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Error writing score journal: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static void drainLoop() {
+        // Kirim ulang skor yang tertinggal dari sesi sebelumnya
+        try {
+            replayJournal();
+        } catch (RuntimeException e) {
+            System.err.println("Error replaying score journal: " + e);
+        }
+
+        List<PendingScore> batch = new ArrayList<>(MAX_BATCH);
+        boolean running = true;
+        while (running) {
+            try {
+                PendingScore first = queue.poll(RETRY_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    replayJournal();
+                    compactJournal();
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, MAX_BATCH - 1);
+
+                if (batch.remove(POISON)) {
+                    // Tulis sisa antrian sebelum berhenti
+                    queue.drainTo(batch);
+                    batch.remove(POISON);
+                    running = false;
+                }
+                if (!batch.isEmpty()) {
+                    writeBatch(batch);
+                    forceJournal();
+                }
+                compactJournal();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (RuntimeException e) {
+                // Satu iterasi yang gagal tidak boleh menghentikan thread penulis; record jurnal tetap
+                // pending dan dikirim ulang, pemanggil yang menunggu diberi tahu gagal
+                System.err.println("Error in score writer: " + e);
+                for (PendingScore pending : batch) {
+                    pending.result.complete(false);
+                }
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Paksa record batch ini ke disk, berhasil atau tidak ditulis ke database
+     * Selama database mati record pending hanya tahan mati listrik setelah langkah ini
+     */
+    private static void forceJournal() {
+        ScoreJournal current = journal;
+        if (current == null) {
+            return;
+        }
+        try {
+            current.force();
+        } catch (RuntimeException e) {
+            System.err.println("Error flushing score journal: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Padatkan jurnal di thread ini, di antara pemutaran ulang, agar tidak ada Entry yang basi
+     */
+    private static void compactJournal() {
+        ScoreJournal current = journal;
+        if (current == null) {
+            return;
+        }
+        try {
+            current.compactIfNeeded();
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Error compacting score journal: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Tulis ulang record jurnal yang belum diterapkan, per batch
+     */
+    private static void replayJournal() {
+        ScoreJournal current = journal;
+        if (current == null || !current.hasUnapplied()) {
+            return;
+        }
+
+        List<ScoreJournal.Entry> entries = current.unapplied();
+        for (int start = 0; start < entries.size(); start += MAX_BATCH) {
+            List<PendingScore> batch = new ArrayList<>();
+            for (ScoreJournal.Entry entry : entries.subList(start, Math.min(entries.size(), start + MAX_BATCH))) {
+                batch.add(new PendingScore(entry, entry.getUsername(), entry.getScore(), entry.getCount()));
+            }
+            if (!writeBatch(batch)) {
+                return;
+            }
+        }
+        System.out.println("Jurnal skor: " + entries.size() + " record dikirim ulang ke database");
+    }
+
+    /**
+     * Gabungkan hasil per username lalu tulis dalam satu transaksi
+     * Record jurnal diklaim di tabel thasil_journal pada transaksi yang sama, sehingga record
+     * yang sudah pernah ter-commit dilewati saat dikirim ulang
+     * @return true jika tersimpan ke database
+     */
+    private static boolean writeBatch(List<PendingScore> batch) {
+        ScoreJournal current = journal;
+        List<ScoreJournal.Entry> entries = new ArrayList<>();
+        for (PendingScore pending : batch) {
+            if (pending.entry != null) {
+                entries.add(pending.entry);
+            }
+        }
+
+        boolean saved = false;
+        List<Player> savedDeltas = null;
+        long committedAtNanos = 0;
+        try (Connection connection = Database.getConnection()) {
+            if (current != null && !entries.isEmpty()) {
+                // Tandai dan paksa ke disk tepat sebelum transaksi agar pemadatan tidak pernah menggabungkannya;
+                // selama database mati record tetap pending sehingga masih digabung per username
+                current.markAttempting(entries);
+                current.force();
+            }
+            connection.setAutoCommit(false);
+            try {
+                Map<String, Player> merged = new LinkedHashMap<>();
+                for (PendingScore pending : batch) {
+                    if (pending.entry != null && !Database.claimJournalRecord(connection, pending.entry.getId())) {
+                        continue;
+                    }
+                    Player delta = merged.get(pending.username);
+                    if (delta == null) {
+                        merged.put(pending.username, new Player(pending.username, pending.score, pending.count));
+                    } else {
+                        delta.setScore(delta.getScore() + pending.score);
+                        delta.setCount(delta.getCount() + pending.count);
+                    }
+                }
+                savedDeltas = new ArrayList<>(merged.values());
+                Database.insertOrUpdatePlayers(connection, savedDeltas);
+                committedAtNanos = System.nanoTime();
+                connection.commit();
+                saved = true;
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+            System.out.println("Skor disimpan: " + batch.size() + " hasil untuk " + savedDeltas.size() + " pemain");
+        } catch (SQLException e) {
+            System.err.println("Error saving scores: " + e.getMessage()
+                + (current != null ? " (tersimpan di jurnal lokal, dikirim ulang nanti)" : ""));
+        }
+
+        if (saved && current != null && !entries.isEmpty()) {
+            current.markApplied(entries);
+        }
+        // Pemanggil diberi tahu lebih dulu agar listener yang lambat atau gagal tidak menahan hasil
+        for (PendingScore pending : batch) {
+            pending.result.complete(saved);
+        }
+        if (saved && !savedDeltas.isEmpty()) {
+            for (SaveListener listener : listeners) {
+                try {
+                    listener.onScoresSaved(savedDeltas, committedAtNanos);
+                } catch (RuntimeException e) {
+                    System.err.println("Error in score save listener: " + e);
+                }
+            }
+        }
+        return saved;
+    }
+
+    /**
+     * Satu hasil permainan yang menunggu disimpan
+     */
+    private static final class PendingScore {
+        // Record jurnal untuk hasil ini, atau null jika jurnal tidak tersedia
+        private final ScoreJournal.Entry entry;
+        private final String username;
+        private final int score;
+        private final int count;
+        private final CompletableFuture<Boolean> result = new CompletableFuture<>();
+
+        PendingScore(ScoreJournal.Entry entry, String username, int score, int count) {
+            this.entry = entry;
+            this.username = username;
+            this.score = score;
+            this.count = count;
+        }
+    }
+}
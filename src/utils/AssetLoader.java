@@ -4,13 +4,26 @@ import javax.imageio.ImageIO;
 import javax.sound.sampled.AudioInputStream;
 import javax.sound.sampled.AudioSystem;
 import javax.sound.sampled.UnsupportedAudioFileException;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Memuat sumber daya game (gambar, suara)
  * Memusatkan logika pemuatan aset dan penanganan kesalahan, serta jalur aset
+ * Gambar disimpan dalam cache LRU bersama yang dibatasi anggaran byte, dalam format
+ * yang kompatibel dengan layar agar penggambaran tidak perlu konversi format
  */
 public class AssetLoader {
 
@@ -53,27 +66,232 @@ public class AssetLoader {
     public static final String AUDIO_MENU_MUSIC = "/assets/sounds/menu_music.wav";
     public static final String AUDIO_GAME_MUSIC = "/assets/sounds/game_music.wav";
 
+    // Sprite karakter dan permata yang dikemas ke atlas tekstur
+    public static final List<String> SPRITE_MANIFEST = List.of(
+        CHAR_DOWN_F1, CHAR_DOWN_F2, CHAR_DOWN_F3, CHAR_DOWN_F4,
+        CHAR_UP_F1, CHAR_UP_F2, CHAR_UP_F3, CHAR_UP_F4,
+        CHAR_LEFT_F1, CHAR_LEFT_F2, CHAR_LEFT_F3, CHAR_LEFT_F4,
+        CHAR_RIGHT_F1, CHAR_RIGHT_F2, CHAR_RIGHT_F3, CHAR_RIGHT_F4,
+        GOLDEN_GEM, FROST_GEM, PURPLE_GEM, RUBY_GEM, CYAN_GEM,
+        SAPPHIRE_GEM, EMERALD_GEM, ORANGE_GEM, BLACK_GEM
+    );
+
+    // Semua gambar yang dipakai game, untuk pemuatan awal
+    public static final List<String> IMAGE_MANIFEST = concat(List.of(BG_MENU_IMAGE), SPRITE_MANIFEST);
+
+
+    // --- Cache gambar ---
+    // Anggaran default, dapat diubah dengan -Dgame.assetCacheBytes=<byte>
+    private static final long DEFAULT_CACHE_BUDGET_BYTES = 64L * 1024 * 1024;
+
+    private static final Object cacheLock = new Object();
+    // LinkedHashMap dengan urutan akses: entri pertama adalah yang paling lama tidak dipakai
+    private static final LinkedHashMap<String, BufferedImage> imageCache = new LinkedHashMap<>(32, 0.75f, true);
+    // Gambar yang sedang didekode; pemanggil lain menunggu hasilnya alih-alih mendekode ulang
+    private static final Map<String, CompletableFuture<BufferedImage>> inFlight = new HashMap<>();
+    private static long cacheBudgetBytes = Long.getLong("game.assetCacheBytes", DEFAULT_CACHE_BUDGET_BYTES);
+    private static long cachedBytes = 0;
+
+    // Statistik cache
+    private static long cacheHits = 0;
+    private static long cacheMisses = 0;
+    private static long cacheEvictions = 0;
+    private static long decodeCount = 0;
+    private static long decodeNanos = 0;
 
     /**
      * Memuat BufferedImage dari jalur yang diberikan.
+     * Gambar yang sudah pernah dimuat diambil dari cache; jika gambar sedang didekode oleh
+     * thread lain (misalnya AssetPreloader), pemanggil menunggu hasil tersebut.
+     * Gambar yang dikembalikan dibagi antar pemanggil dan tidak boleh diubah.
      * @param path Jalur ke sumber daya gambar (misalnya "/assets/images/Background/BackgroundMenu.png").
      * @return BufferedImage yang dimuat, atau null jika gagal.
      */
 
     public static BufferedImage loadImage(String path) {
+        CompletableFuture<BufferedImage> pending;
+        synchronized (cacheLock) {
+            BufferedImage cached = imageCache.get(path);
+            if (cached != null) {
+                cacheHits++;
+                return cached;
+            }
+            cacheMisses++;
+
+            pending = inFlight.get(path);
+            if (pending == null) {
+                inFlight.put(path, new CompletableFuture<>());
+            }
+        }
+
+        // Pemuatan di luar cache dicatat sebagai event JFR magicalgems.AssetLoad
+        GameEvents.AssetLoad event = GameEvents.AssetLoad.start(path);
+        if (pending != null) {
+            BufferedImage shared = pending.join();
+            event.finish(shared, shared != null ? estimateBytes(shared) : 0, true);
+            return shared;
+        }
+
+        BufferedImage image = null;
+        try {
+            image = decodeImage(path, event);
+        } finally {
+            CompletableFuture<BufferedImage> done;
+            synchronized (cacheLock) {
+                if (image != null) {
+                    long size = estimateBytes(image);
+                    if (size <= cacheBudgetBytes) {
+                        imageCache.put(path, image);
+                        cachedBytes += size;
+                        evictToBudget();
+                    }
+                }
+                done = inFlight.remove(path);
+            }
+            done.complete(image);
+            event.finish(image, image != null ? estimateBytes(image) : 0, false);
+        }
+        return image;
+    }
+
+    /**
+     * Periksa apakah gambar sudah ada di cache tanpa memuatnya
+     */
+    public static boolean isImageCached(String path) {
+        synchronized (cacheLock) {
+            return imageCache.containsKey(path);
+        }
+    }
+
+    /**
+     * Dekode gambar dari classpath lalu ubah ke format yang kompatibel dengan layar
+     */
+    private static BufferedImage decodeImage(String path, GameEvents.AssetLoad event) {
         try {
             URL imageUrl = AssetLoader.class.getResource(path);
             if (imageUrl == null) {
                 System.err.println("Error: Image resource not found at " + path);
                 return null;
             }
-            return ImageIO.read(imageUrl);
+
+            long start = System.nanoTime();
+            BufferedImage image = ImageIO.read(imageUrl);
+            if (image != null) {
+                image = toCompatibleImage(image);
+            }
+            long elapsed = System.nanoTime() - start;
+            event.setDecodeNanos(elapsed);
+
+            synchronized (cacheLock) {
+                decodeCount++;
+                decodeNanos += elapsed;
+            }
+            return image;
         } catch (IOException e) {
             System.err.println("Error loading image " + path + ": " + e.getMessage());
             return null;
         }
     }
 
+    /**
+     * Salin gambar ke format piksel layar agar blit tidak memerlukan konversi per frame.
+     * Pada lingkungan headless gambar dikembalikan apa adanya.
+     */
+    public static BufferedImage toCompatibleImage(BufferedImage image) {
+        GraphicsConfiguration gc = getDefaultConfiguration();
+        if (gc == null || image.getColorModel().equals(gc.getColorModel(image.getTransparency()))) {
+            return image;
+        }
+
+        BufferedImage compatible = gc.createCompatibleImage(image.getWidth(), image.getHeight(), image.getTransparency());
+        Graphics2D g2d = compatible.createGraphics();
+        try {
+            g2d.drawImage(image, 0, 0, null);
+        } finally {
+            g2d.dispose();
+        }
+        return compatible;
+    }
+
+    /**
+     * Buat gambar kosong yang kompatibel dengan layar
+     * @param width Lebar gambar
+     * @param height Tinggi gambar
+     * @param transparency Konstanta java.awt.Transparency
+     */
+    public static BufferedImage createCompatibleImage(int width, int height, int transparency) {
+        GraphicsConfiguration gc = getDefaultConfiguration();
+        if (gc != null) {
+            return gc.createCompatibleImage(width, height, transparency);
+        }
+        return new BufferedImage(width, height, transparency == java.awt.Transparency.OPAQUE
+            ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB_PRE);
+    }
+
+    private static List<String> concat(List<String> first, List<String> second) {
+        List<String> combined = new ArrayList<>(first);
+        combined.addAll(second);
+        return Collections.unmodifiableList(combined);
+    }
+
+    private static GraphicsConfiguration getDefaultConfiguration() {
+        if (GraphicsEnvironment.isHeadless()) {
+            return null;
+        }
+        return GraphicsEnvironment.getLocalGraphicsEnvironment()
+            .getDefaultScreenDevice()
+            .getDefaultConfiguration();
+    }
+
+    private static long estimateBytes(BufferedImage image) {
+        int bytesPerPixel = Math.max(1, image.getColorModel().getPixelSize() / 8);
+        return (long) image.getWidth() * image.getHeight() * bytesPerPixel;
+    }
+
+    /**
+     * Buang entri yang paling lama tidak dipakai hingga cache berada di bawah anggaran.
+     * Harus dipanggil dengan cacheLock dipegang.
+     */
+    private static void evictToBudget() {
+        Iterator<Map.Entry<String, BufferedImage>> iterator = imageCache.entrySet().iterator();
+        while (cachedBytes > cacheBudgetBytes && iterator.hasNext()) {
+            Map.Entry<String, BufferedImage> eldest = iterator.next();
+            cachedBytes -= estimateBytes(eldest.getValue());
+            iterator.remove();
+            cacheEvictions++;
+        }
+    }
+
+    /**
+     * Atur anggaran byte cache gambar; entri lama dibuang jika melebihi anggaran baru
+     */
+    public static void setCacheBudgetBytes(long budgetBytes) {
+        synchronized (cacheLock) {
+            cacheBudgetBytes = Math.max(0, budgetBytes);
+            evictToBudget();
+        }
+    }
+
+    /**
+     * Kosongkan cache gambar
+     */
+    public static void clearCache() {
+        synchronized (cacheLock) {
+            imageCache.clear();
+            cachedBytes = 0;
+        }
+    }
+
+    /**
+     * Dapatkan statistik cache gambar saat ini
+     */
+    public static CacheStats getCacheStats() {
+        synchronized (cacheLock) {
+            return new CacheStats(cacheHits, cacheMisses, cacheEvictions, imageCache.size(),
+                                  cachedBytes, cacheBudgetBytes, decodeCount, decodeNanos);
+        }
+    }
+
     /**
      * Memuat AudioInputStream dari jalur yang diberikan.
      * @param path Jalur ke sumber daya audio (misalnya "/assets/sounds/menu_music.wav").
@@ -97,4 +315,44 @@ public class AssetLoader {
         }
     }
 
+    /**
+     * Potret statistik cache gambar
+     */
+    public static final class CacheStats {
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+        private final int entries;
+        private final long bytes;
+        private final long budgetBytes;
+        private final long decodeCount;
+        private final long decodeNanos;
+
+        private CacheStats(long hits, long misses, long evictions, int entries,
+                           long bytes, long budgetBytes, long decodeCount, long decodeNanos) {
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.entries = entries;
+            this.bytes = bytes;
+            this.budgetBytes = budgetBytes;
+            this.decodeCount = decodeCount;
+            this.decodeNanos = decodeNanos;
+        }
+
+        public long getHits() { return hits; }
+        public long getMisses() { return misses; }
+        public long getEvictions() { return evictions; }
+        public int getEntries() { return entries; }
+        public long getBytes() { return bytes; }
+        public long getBudgetBytes() { return budgetBytes; }
+        public long getDecodeCount() { return decodeCount; }
+        public long getDecodeNanos() { return decodeNanos; }
+
+        @Override
+        public String toString() {
+            return String.format("CacheStats{hits=%d, misses=%d, evictions=%d, entries=%d, bytes=%d/%d, decodes=%d, decodeMs=%.1f}",
+                                 hits, misses, evictions, entries, bytes, budgetBytes, decodeCount, decodeNanos / 1_000_000.0);
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,113 @@
+package utils;
+
+import javax.swing.SwingUtilities;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Memuat semua gambar di AssetLoader.IMAGE_MANIFEST secara paralel saat aplikasi dimulai
+ * Dekode berjalan di executor dengan jumlah thread terbatas dan hasilnya masuk ke cache
+ * AssetLoader, sehingga pemanggil loadImage hanya menunggu aset yang belum selesai
+ */
+public class AssetPreloader {
+    private static final int MAX_THREADS = 4;
+
+    private static final List<ProgressListener> listeners = new CopyOnWriteArrayList<>();
+    private static final AtomicInteger loadedCount = new AtomicInteger(0);
+    private static volatile int totalCount = 0;
+    private static CompletableFuture<Void> completion;
+
+    /**
+     * Pendengar kemajuan pemuatan; selalu dipanggil di EDT
+     */
+    public interface ProgressListener {
+        void onProgress(int loaded, int total);
+    }
+
+    private AssetPreloader() {
+    }
+
+    /**
+     * Mulai memuat semua gambar di manifest; pemanggilan berikutnya tidak berpengaruh
+     */
+    public static synchronized void start() {
+        if (completion != null) {
+            return;
+        }
+
+        List<String> paths = AssetLoader.IMAGE_MANIFEST;
+        totalCount = paths.size();
+
+        int threads = Math.max(1, Math.min(MAX_THREADS, Runtime.getRuntime().availableProcessors()));
+        AtomicInteger threadIndex = new AtomicInteger(0);
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "asset-preload-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setPriority(Thread.NORM_PRIORITY - 1);
+            return thread;
+        });
+
+        long start = System.nanoTime();
+        // Inisialisasi event JFR di latar, bukan di langkah simulasi pertama
+        executor.execute(GameEvents::preload);
+        CompletableFuture<?>[] tasks = new CompletableFuture<?>[paths.size()];
+        for (int i = 0; i < paths.size(); i++) {
+            String path = paths.get(i);
+            tasks[i] = CompletableFuture.runAsync(() -> {
+                AssetLoader.loadImage(path);
+                loadedCount.incrementAndGet();
+                notifyProgress();
+            }, executor);
+        }
+
+        // Setelah semua gambar terdekode, kemas sprite ke atlas agar game tidak menunggu saat dimulai
+        completion = CompletableFuture.allOf(tasks).thenRun(TextureAtlas::getSprites).whenComplete((result, error) -> {
+            executor.shutdown();
+            System.out.printf("✨ %d aset dimuat dalam %d ms%n", totalCount, (System.nanoTime() - start) / 1_000_000);
+        });
+    }
+
+    /**
+     * Daftarkan pendengar kemajuan; langsung menerima kemajuan saat ini
+     */
+    public static void addProgressListener(ProgressListener listener) {
+        listeners.add(listener);
+        SwingUtilities.invokeLater(() -> deliverProgress(listener));
+    }
+
+    public static void removeProgressListener(ProgressListener listener) {
+        listeners.remove(listener);
+    }
+
+    public static boolean isComplete() {
+        return completion != null && completion.isDone();
+    }
+
+    /**
+     * Tunggu hingga semua aset di manifest selesai dimuat
+     */
+    public static void awaitCompletion() {
+        CompletableFuture<Void> current;
+        synchronized (AssetPreloader.class) {
+            current = completion;
+        }
+        if (current != null) {
+            current.join();
+        }
+    }
+
+    private static void notifyProgress() {
+        for (ProgressListener listener : listeners) {
+            SwingUtilities.invokeLater(() -> deliverProgress(listener));
+        }
+    }
+
+    // Nilai dibaca saat dikirim di EDT agar urutan kemajuan yang diterima tidak pernah mundur
+    private static void deliverProgress(ProgressListener listener) {
+        listener.onProgress(loadedCount.get(), totalCount);
+    }
+}
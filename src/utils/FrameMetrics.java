@@ -0,0 +1,238 @@
+package utils;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Metrik waktu frame satu sesi permainan
+ * Mencatat durasi GameViewModel.update(), durasi render frame, dan jarak antar frame dalam
+ * LatencyHistogram. Setiap frame juga memeriksa apakah GC berjalan sejak frame sebelumnya,
+ * sehingga frame lambat dapat dibedakan antara yang bertepatan dengan GC dan yang tidak.
+ * Hasilnya ditampilkan di overlay performa dan dapat diekspor ke CSV dan JSON di akhir sesi
+ */
+public class FrameMetrics {
+    // Frame yang jaraknya melebihi 1.5 langkah dianggap lambat (terlihat sebagai patah-patah)
+    private static final long SLOW_FRAME_NANOS = GameConstants.FRAME_STEP_NANOS * 3 / 2;
+    private static final double[] EXPORT_PERCENTILES = {50, 90, 99, 99.9};
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final LatencyHistogram update = new LatencyHistogram("update");
+    private final LatencyHistogram paint = new LatencyHistogram("paint");
+    private final LatencyHistogram frameInterval = new LatencyHistogram("frame");
+    // Waktu GC yang jatuh di antara dua frame, per frame yang mengalami GC
+    private final LatencyHistogram gcPause = new LatencyHistogram("gc_pause");
+    private final List<GarbageCollectorMXBean> collectors = new ArrayList<>();
+
+    // Status frame; hanya ditulis dari thread render lewat markFrame
+    private long lastFrameNanos;
+    private long lastGcCount;
+    private long lastGcMillis;
+    private long frames;
+    private long slowFrames;
+    private long slowFramesWithGc;
+    private long gcFrames;
+    private long firstFrameNanos;
+
+    // FPS dihitung per jendela satu detik
+    private long fpsWindowStart;
+    private int fpsWindowFrames;
+    private int fps;
+
+    public FrameMetrics() {
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            // Siklus GC konkuren tidak menghentikan thread aplikasi; hanya jeda yang relevan untuk frame
+            String name = collector.getName();
+            if (!name.contains("Concurrent") && !name.contains("Cycles")) {
+                collectors.add(collector);
+            }
+        }
+        lastGcCount = totalGcCount();
+        lastGcMillis = totalGcMillis();
+    }
+
+    /**
+     * Catat durasi satu langkah simulasi
+     */
+    public void recordUpdate(long nanos) {
+        update.record(nanos);
+    }
+
+    /**
+     * Catat durasi render satu frame
+     */
+    public void recordPaint(long nanos) {
+        paint.record(nanos);
+    }
+
+    /**
+     * Tandai satu frame tampil; dipanggil dari thread render setiap frame
+     * @param nowNanos System.nanoTime() saat frame mulai digambar
+     */
+    public synchronized void markFrame(long nowNanos) {
+        long gcCount = totalGcCount();
+        long gcMillis = totalGcMillis();
+        boolean gcDuringFrame = gcCount != lastGcCount;
+        if (gcDuringFrame) {
+            gcFrames++;
+            gcPause.record((gcMillis - lastGcMillis) * 1_000_000L);
+        }
+        lastGcCount = gcCount;
+        lastGcMillis = gcMillis;
+
+        if (lastFrameNanos == 0) {
+            firstFrameNanos = nowNanos;
+            fpsWindowStart = nowNanos;
+        } else {
+            long interval = nowNanos - lastFrameNanos;
+            frameInterval.record(interval);
+            if (interval > SLOW_FRAME_NANOS) {
+                slowFrames++;
+                if (gcDuringFrame) {
+                    slowFramesWithGc++;
+                }
+            }
+        }
+        lastFrameNanos = nowNanos;
+        frames++;
+
+        fpsWindowFrames++;
+        long windowNanos = nowNanos - fpsWindowStart;
+        if (windowNanos >= NANOS_PER_SECOND) {
+            fps = (int) Math.round(fpsWindowFrames * (double) NANOS_PER_SECOND / windowNanos);
+            fpsWindowStart = nowNanos;
+            fpsWindowFrames = 0;
+        }
+    }
+
+    private long totalGcCount() {
+        long total = 0;
+        for (GarbageCollectorMXBean collector : collectors) {
+            total += Math.max(0, collector.getCollectionCount());
+        }
+        return total;
+    }
+
+    private long totalGcMillis() {
+        long total = 0;
+        for (GarbageCollectorMXBean collector : collectors) {
+            total += Math.max(0, collector.getCollectionTime());
+        }
+        return total;
+    }
+
+    // Getters
+    public LatencyHistogram getUpdate() { return update; }
+    public LatencyHistogram getPaint() { return paint; }
+    public LatencyHistogram getFrameInterval() { return frameInterval; }
+    public LatencyHistogram getGcPause() { return gcPause; }
+    public synchronized int getFps() { return fps; }
+    public synchronized long getFrames() { return frames; }
+    public synchronized long getSlowFrames() { return slowFrames; }
+    public synchronized long getSlowFramesWithGc() { return slowFramesWithGc; }
+    public synchronized long getGcFrames() { return gcFrames; }
+
+    /**
+     * Ringkasan satu baris untuk log akhir sesi
+     */
+    public synchronized String getSummary() {
+        return String.format(Locale.ROOT,
+            "FrameMetrics{frames=%d, frame p50/p99/max=%.2f/%.2f/%.2f ms, update p99=%.3f ms, paint p99=%.3f ms, slow=%d (gc=%d), gcFrames=%d}",
+            frames,
+            millis(frameInterval.getValueAtPercentile(50)), millis(frameInterval.getValueAtPercentile(99)),
+            millis(frameInterval.getMax()),
+            millis(update.getValueAtPercentile(99)), millis(paint.getValueAtPercentile(99)),
+            slowFrames, slowFramesWithGc, gcFrames);
+    }
+
+    /**
+     * Tulis metrik sesi ke dir sebagai <name>.csv (satu baris per histogram) dan <name>.json
+     * @return Berkas JSON yang ditulis
+     */
+    public Path export(Path dir, String name, String username) throws IOException {
+        Files.createDirectories(dir);
+        LatencyHistogram[] histograms = {update.copy(), paint.copy(), frameInterval.copy(), gcPause.copy()};
+
+        Path csv = dir.resolve(name + ".csv");
+        try (Writer out = Files.newBufferedWriter(csv, StandardCharsets.UTF_8)) {
+            out.write("metric,count,min_ms,mean_ms,p50_ms,p90_ms,p99_ms,p99_9_ms,max_ms\n");
+            for (LatencyHistogram histogram : histograms) {
+                out.write(histogram.getName());
+                out.write(',');
+                out.write(Long.toString(histogram.getCount()));
+                out.write(format(",%.4f,%.4f", millis(histogram.getMin()), histogram.getMean() / 1_000_000.0));
+                for (double percentile : EXPORT_PERCENTILES) {
+                    out.write(format(",%.4f", millis(histogram.getValueAtPercentile(percentile))));
+                }
+                out.write(format(",%.4f\n", millis(histogram.getMax())));
+            }
+        }
+
+        Path json = dir.resolve(name + ".json");
+        synchronized (this) {
+            try (Writer out = Files.newBufferedWriter(json, StandardCharsets.UTF_8)) {
+                out.write("{\n");
+                out.write("  \"username\": \"" + escape(username) + "\",\n");
+                out.write(format("  \"durationSeconds\": %.3f,\n", (lastFrameNanos - firstFrameNanos) / (double) NANOS_PER_SECOND));
+                out.write("  \"frames\": " + frames + ",\n");
+                out.write("  \"slowFrameThresholdMs\": " + format("%.3f", millis(SLOW_FRAME_NANOS)) + ",\n");
+                out.write("  \"slowFrames\": " + slowFrames + ",\n");
+                out.write("  \"slowFramesWithGc\": " + slowFramesWithGc + ",\n");
+                out.write("  \"framesWithGc\": " + gcFrames + ",\n");
+                out.write("  \"histograms\": {\n");
+                for (int i = 0; i < histograms.length; i++) {
+                    LatencyHistogram histogram = histograms[i];
+                    out.write("    \"" + histogram.getName() + "\": {\"count\": " + histogram.getCount());
+                    out.write(format(", \"minMs\": %.4f, \"meanMs\": %.4f", millis(histogram.getMin()), histogram.getMean() / 1_000_000.0));
+                    out.write(", \"percentilesMs\": {");
+                    for (int p = 0; p < EXPORT_PERCENTILES.length; p++) {
+                        out.write(format("%s\"%s\": %.4f", p == 0 ? "" : ", ",
+                            formatPercentile(EXPORT_PERCENTILES[p]), millis(histogram.getValueAtPercentile(EXPORT_PERCENTILES[p]))));
+                    }
+                    out.write(format("}, \"maxMs\": %.4f}%s\n", millis(histogram.getMax()), i + 1 < histograms.length ? "," : ""));
+                }
+                out.write("  }\n");
+                out.write("}\n");
+            }
+        }
+        return json;
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    // Selalu titik desimal, apa pun locale sistem, agar CSV dan JSON tetap terbaca
+    private static String format(String pattern, Object... args) {
+        return String.format(Locale.ROOT, pattern, args);
+    }
+
+    private static String formatPercentile(double percentile) {
+        return percentile == Math.rint(percentile) ? Long.toString((long) percentile) : Double.toString(percentile);
+    }
+
+    private static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                escaped.append('\\').append(c);
+            } else if (c < 0x20) {
+                escaped.append(String.format(Locale.ROOT, "\\u%04x", (int) c));
+            } else {
+                escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+}
@@ -40,6 +40,16 @@ public class GameConstants {
     // Mekanisme permainan
     public static final int FRAME_RATE = 60; 
     public static final int FRAME_DELAY = 1000 / FRAME_RATE; 
+    public static final long FRAME_STEP_NANOS = 1_000_000_000L / FRAME_RATE; 
+    public static final int MAX_CATCH_UP_STEPS = 5; 
+    // Render aktif dengan BufferStrategy, aktifkan dengan -Dgame.activeRendering=true
+    public static final boolean ACTIVE_RENDERING = Boolean.getBoolean("game.activeRendering"); 
+    // Seed tetap untuk sumber acak sesi, atur dengan -Dgame.seed=<n>; null berarti seed acak per sesi
+    public static final Long SESSION_SEED = Long.getLong("game.seed");
+    // Direktori rekaman input per sesi, aktifkan dengan -Dgame.recordDir=<dir>
+    public static final String RECORD_DIR = System.getProperty("game.recordDir");
+    // Direktori ekspor metrik waktu frame per sesi (CSV dan JSON), aktifkan dengan -Dgame.metricsDir=<dir>
+    public static final String METRICS_DIR = System.getProperty("game.metricsDir");
     
     // Pengaturan spawn bola
     public static final int BALL_SPAWN_DELAY = 100; 
@@ -0,0 +1,212 @@
+package utils;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import jdk.jfr.Timespan;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * Event JFR (Java Flight Recorder) untuk jalur panas permainan
+ * Langkah simulasi, render frame, panggilan database, dan pemuatan aset dicatat sebagai event
+ * sendiri agar dapat dibedakan dari pekerjaan EDT biasa di rekaman. Ambang dan stack trace di sini
+ * adalah bawaan; jfr/magical-gems.jfc mengatur nilai untuk rekaman berkelanjutan di produksi.
+ * Saat JFR tidak merekam, begin/end/shouldCommit hampir tanpa biaya
+ */
+public final class GameEvents {
+    private GameEvents() {
+    }
+
+    /**
+     * Muat semua kelas event di awal; event pertama menginisialisasi JFR (ratusan milidetik)
+     * dan setiap jenis event baru memerlukan beberapa milidetik, yang tidak boleh jatuh di frame pertama.
+     * Objek hanya dibuat, tanpa begin/commit, sehingga tidak ada event yang tercatat
+     */
+    public static void preload() {
+        new Tick();
+        new Paint();
+        new DatabaseCall();
+        new AssetLoad();
+    }
+
+    /**
+     * Satu langkah GameViewModel.update()
+     * Hanya langkah yang lebih lama dari ambang yang dicatat; stack trace selalu sama jadi dimatikan
+     */
+    @Name("magicalgems.Tick")
+    @Label("Game Tick")
+    @Category({"Magical Gems", "Game Loop"})
+    @Description("Satu langkah simulasi GameViewModel.update()")
+    @Threshold("1 ms")
+    @StackTrace(false)
+    public static final class Tick extends Event {
+        @Label("Tick")
+        private long tick;
+
+        @Label("Bola")
+        private int balls;
+
+        @Label("Partikel Lasso")
+        private int particles;
+
+        public void finish(long tick, int balls, int particles) {
+            end();
+            if (shouldCommit()) {
+                this.tick = tick;
+                this.balls = balls;
+                this.particles = particles;
+                commit();
+            }
+        }
+    }
+
+    /**
+     * Render satu frame permainan, dari GamePanel.paintComponent atau kanvas BufferStrategy
+     */
+    @Name("magicalgems.Paint")
+    @Label("Game Paint")
+    @Category({"Magical Gems", "Rendering"})
+    @Description("Render satu frame permainan termasuk overlay performa")
+    @Threshold("10 ms")
+    @StackTrace(false)
+    public static final class Paint extends Event {
+        @Label("Tick")
+        private long tick;
+
+        @Label("Render Aktif")
+        @Description("true untuk BufferStrategy, false untuk repaint Swing")
+        private boolean activeRendering;
+
+        @Label("Lebar")
+        private int width;
+
+        @Label("Tinggi")
+        private int height;
+
+        public void finish(long tick, boolean activeRendering, int width, int height) {
+            end();
+            if (shouldCommit()) {
+                this.tick = tick;
+                this.activeRendering = activeRendering;
+                this.width = width;
+                this.height = height;
+                commit();
+            }
+        }
+    }
+
+    /**
+     * Satu panggilan Database, termasuk peminjaman koneksi dari pool
+     */
+    @Name("magicalgems.DatabaseCall")
+    @Label("Database Call")
+    @Category({"Magical Gems", "Persistence"})
+    @Description("Satu operasi Database beserta jenis SQL dan jumlah baris")
+    @Threshold("0 ms")
+    @StackTrace(true)
+    public static final class DatabaseCall extends Event {
+        // Jenis SQL
+        public static final String CONNECT = "CONNECT";
+        public static final String DDL = "DDL";
+        public static final String SELECT = "SELECT";
+        public static final String INSERT = "INSERT";
+        public static final String UPDATE = "UPDATE";
+        public static final String UPSERT = "UPSERT";
+        public static final String BATCH_UPSERT = "BATCH_UPSERT";
+
+        @Label("Operasi")
+        private String operation;
+
+        @Label("Jenis SQL")
+        private String kind;
+
+        @Label("Baris")
+        @Description("Baris yang dibaca atau diubah; untuk batch, jumlah baris yang dikirim")
+        private int rows;
+
+        @Label("Berhasil")
+        private boolean success;
+
+        /**
+         * Mulai mengukur satu panggilan
+         * @param operation Nama metode Database
+         * @param kind Salah satu konstanta jenis SQL
+         */
+        public static DatabaseCall start(String operation, String kind) {
+            DatabaseCall event = new DatabaseCall();
+            event.operation = operation;
+            event.kind = kind;
+            event.begin();
+            return event;
+        }
+
+        public void finish(int rows, boolean success) {
+            end();
+            if (shouldCommit()) {
+                this.rows = rows;
+                this.success = success;
+                commit();
+            }
+        }
+    }
+
+    /**
+     * Satu pemuatan gambar oleh AssetLoader yang tidak dilayani cache
+     * Jika thread lain sedang mendekode gambar yang sama, durasi event adalah waktu menunggu
+     */
+    @Name("magicalgems.AssetLoad")
+    @Label("Asset Load")
+    @Category({"Magical Gems", "Assets"})
+    @Description("Pemuatan gambar oleh AssetLoader di luar cache")
+    @Threshold("0 ms")
+    @StackTrace(true)
+    public static final class AssetLoad extends Event {
+        @Label("Jalur")
+        private String path;
+
+        @Label("Ukuran")
+        @Description("Perkiraan ukuran gambar terdekode di memori")
+        @DataAmount
+        private long bytes;
+
+        @Label("Waktu Dekode")
+        @Timespan(Timespan.NANOSECONDS)
+        private long decodeTime;
+
+        @Label("Menunggu Thread Lain")
+        private boolean waited;
+
+        @Label("Berhasil")
+        private boolean success;
+
+        public static AssetLoad start(String path) {
+            AssetLoad event = new AssetLoad();
+            event.path = path;
+            event.begin();
+            return event;
+        }
+
+        /**
+         * @param decodeNanos Waktu dekode dan konversi di thread ini, 0 jika hanya menunggu
+         */
+        public void setDecodeNanos(long decodeNanos) {
+            this.decodeTime = decodeNanos;
+        }
+
+        public void finish(BufferedImage image, long bytes, boolean waited) {
+            end();
+            if (shouldCommit()) {
+                this.bytes = bytes;
+                this.waited = waited;
+                this.success = image != null;
+                commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package utils;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.DataLine;
+import javax.sound.sampled.LineUnavailableException;
+import javax.sound.sampled.SourceDataLine;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Pemutar musik latar yang melakukan streaming dari berkas audio
+ * Setiap lagu diputar di thread latar melalui SourceDataLine dengan buffer kecil,
+ * sehingga PCM tidak pernah didekode seluruhnya ke memori dan EDT tidak pernah menunggu.
+ * Mendukung pengulangan, crossfade antar lagu, dan penghentian seketika
+ */
+public class MusicPlayer {
+    // Durasi crossfade default antara musik menu dan musik permainan
+    public static final int CROSSFADE_MILLIS = 800;
+
+    // Ukuran buffer line (sekitar 90 ms untuk stereo 16-bit 44.1 kHz) dan potongan tulis
+    private static final int LINE_BUFFER_BYTES = 16 * 1024;
+    private static final int CHUNK_BYTES = 4 * 1024;
+
+    private static Track current;
+    private static final List<Track> fadingOut = new ArrayList<>();
+
+    private MusicPlayer() {
+    }
+
+    /**
+     * Putar lagu secara berulang, dengan crossfade dari lagu yang sedang berjalan
+     * @param path Jalur sumber daya audio
+     * @param fadeMillis Durasi crossfade; 0 untuk berganti seketika
+     */
+    public static synchronized void play(String path, int fadeMillis) {
+        if (current != null && current.path.equals(path) && current.isAlive()) {
+            current.fadeTo(1.0f, fadeMillis);
+            return;
+        }
+
+        if (current != null) {
+            if (fadeMillis > 0) {
+                current.fadeTo(0.0f, fadeMillis);
+                fadingOut.add(current);
+            } else {
+                current.halt();
+            }
+        }
+
+        current = new Track(path, fadeMillis > 0 ? 0.0f : 1.0f);
+        current.fadeTo(1.0f, fadeMillis);
+        current.start();
+    }
+
+    /**
+     * Hentikan semua musik seketika, termasuk lagu yang sedang memudar
+     */
+    public static synchronized void stop() {
+        if (current != null) {
+            current.halt();
+            current = null;
+        }
+        for (Track track : fadingOut) {
+            track.halt();
+        }
+        fadingOut.clear();
+    }
+
+    /**
+     * Hentikan musik hanya jika lagu yang sedang diputar adalah lagu ini
+     * Lagu lain yang sudah mengambil alih (misalnya hasil crossfade) tetap berjalan
+     */
+    public static synchronized void stop(String path) {
+        if (current != null && current.path.equals(path)) {
+            current.halt();
+            current = null;
+        }
+    }
+
+    private static synchronized void finished(Track track) {
+        fadingOut.remove(track);
+        if (current == track) {
+            current = null;
+        }
+    }
+
+    /**
+     * Satu lagu yang di-streaming di thread-nya sendiri
+     */
+    private static final class Track extends Thread {
+        private final String path;
+        private volatile boolean running = true;
+        private volatile SourceDataLine line;
+
+        // Status fade, dijaga oleh monitor Track; posisi dihitung dalam frame yang sudah ditulis
+        private long framesWritten;
+        private float fadeFromGain;
+        private float fadeToGain;
+        private long fadeStartFrame;
+        private long fadeFrames;
+        private float sampleRate = 44100f;
+
+        Track(String path, float initialGain) {
+            super("music-" + path.substring(path.lastIndexOf('/') + 1));
+            this.path = path;
+            this.fadeFromGain = initialGain;
+            this.fadeToGain = initialGain;
+            setDaemon(true);
+        }
+
+        synchronized void fadeTo(float target, int fadeMillis) {
+            fadeFromGain = gainAt(framesWritten);
+            fadeToGain = target;
+            fadeStartFrame = framesWritten;
+            fadeFrames = Math.max(0, Math.round(sampleRate * fadeMillis / 1000.0));
+        }
+
+        private synchronized float gainAt(long frame) {
+            if (fadeFrames == 0 || frame >= fadeStartFrame + fadeFrames) {
+                return fadeToGain;
+            }
+            float progress = (frame - fadeStartFrame) / (float) fadeFrames;
+            return fadeFromGain + (fadeToGain - fadeFromGain) * progress;
+        }
+
+        private synchronized boolean fadedOut() {
+            return fadeToGain == 0.0f && framesWritten >= fadeStartFrame + fadeFrames;
+        }
+
+        /**
+         * Hentikan seketika; write() yang sedang menunggu langsung kembali
+         */
+        void halt() {
+            running = false;
+            SourceDataLine activeLine = line;
+            if (activeLine != null) {
+                activeLine.stop();
+                activeLine.flush();
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                // Ulangi lagu dengan membuka ulang stream setiap kali selesai
+                while (running) {
+                    if (!streamOnce()) {
+                        break;
+                    }
+                }
+            } catch (LineUnavailableException | IOException | IllegalArgumentException e) {
+                System.err.println("🔇 Musik tidak dapat diputar " + path + ": " + e.getMessage());
+            } finally {
+                SourceDataLine activeLine = line;
+                if (activeLine != null) {
+                    if (running) {
+                        activeLine.drain();
+                    }
+                    activeLine.close();
+                }
+                finished(this);
+            }
+        }
+
+        // Streaming satu kali putaran; false jika lagu tidak tersedia atau sudah selesai memudar
+        private boolean streamOnce() throws LineUnavailableException, IOException {
+            AudioInputStream source = AssetLoader.loadAudio(path);
+            if (source == null) {
+                return false;
+            }
+
+            try (AudioInputStream pcm = toPcm16(source)) {
+                AudioFormat format = pcm.getFormat();
+                if (line == null) {
+                    synchronized (this) {
+                        sampleRate = format.getSampleRate();
+                        fadeFrames = Math.round(fadeFrames * sampleRate / 44100f);
+                    }
+                    SourceDataLine newLine = (SourceDataLine) AudioSystem.getLine(new DataLine.Info(SourceDataLine.class, format));
+                    newLine.open(format, LINE_BUFFER_BYTES);
+                    newLine.start();
+                    line = newLine;
+                }
+
+                int frameSize = format.getFrameSize();
+                byte[] chunk = new byte[CHUNK_BYTES - CHUNK_BYTES % frameSize];
+                int read;
+                while (running && (read = readFully(pcm, chunk)) > 0) {
+                    int frames = read / frameSize;
+                    applyGain(chunk, frames, format.getChannels());
+                    line.write(chunk, 0, frames * frameSize);
+                    synchronized (this) {
+                        framesWritten += frames;
+                    }
+                    if (fadedOut()) {
+                        running = false;
+                        line.stop();
+                        line.flush();
+                        return false;
+                    }
+                }
+            }
+            return running;
+        }
+
+        // Terapkan gain linear per frame pada PCM 16-bit little-endian
+        private void applyGain(byte[] data, int frames, int channels) {
+            long startFrame;
+            synchronized (this) {
+                startFrame = framesWritten;
+            }
+            float startGain = gainAt(startFrame);
+            float endGain = gainAt(startFrame + frames);
+            if (startGain == 1.0f && endGain == 1.0f) {
+                return;
+            }
+
+            int offset = 0;
+            for (int frame = 0; frame < frames; frame++) {
+                float gain = startGain + (endGain - startGain) * frame / frames;
+                for (int channel = 0; channel < channels; channel++) {
+                    int sample = (short) ((data[offset + 1] << 8) | (data[offset] & 0xFF));
+                    int scaled = Math.round(sample * gain);
+                    data[offset] = (byte) scaled;
+                    data[offset + 1] = (byte) (scaled >> 8);
+                    offset += 2;
+                }
+            }
+        }
+
+        private static int readFully(AudioInputStream stream, byte[] buffer) throws IOException {
+            int total = 0;
+            while (total < buffer.length) {
+                int read = stream.read(buffer, total, buffer.length - total);
+                if (read < 0) {
+                    break;
+                }
+                total += read;
+            }
+            return total;
+        }
+
+        // Konversi ke PCM signed 16-bit little-endian agar gain dapat diterapkan langsung
+        private static AudioInputStream toPcm16(AudioInputStream source) {
+            AudioFormat format = source.getFormat();
+            if (format.getEncoding() == AudioFormat.Encoding.PCM_SIGNED
+                    && format.getSampleSizeInBits() == 16 && !format.isBigEndian()) {
+                return source;
+            }
+            AudioFormat target = new AudioFormat(AudioFormat.Encoding.PCM_SIGNED,
+                format.getSampleRate(), 16, format.getChannels(), format.getChannels() * 2,
+                format.getSampleRate(), false);
+            return AudioSystem.getAudioInputStream(target, source);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package utils;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Pool objek sederhana dengan batas kapasitas dan metrik
+ * Objek yang dikembalikan direset lalu disimpan untuk dipakai ulang; jika pool sudah penuh,
+ * objek dibuang ke GC. Tidak thread-safe: setiap pool hanya dipakai oleh satu thread
+ * (thread simulasi)
+ */
+public class ObjectPool<T> {
+    private final String name;
+    private final Supplier<T> factory;
+    private final Consumer<T> reset;
+    private final Object[] free;
+    private int freeCount;
+
+    private long acquires;
+    private long hits;
+    private long releases;
+    private long drops;
+
+    /**
+     * @param name Nama pool untuk statistik
+     * @param capacity Jumlah maksimum objek bebas yang disimpan
+     * @param factory Membuat objek baru saat pool kosong
+     * @param reset Mengembalikan objek ke keadaan awal saat dilepas
+     */
+    public ObjectPool(String name, int capacity, Supplier<T> factory, Consumer<T> reset) {
+        this.name = name;
+        this.factory = factory;
+        this.reset = reset;
+        this.free = new Object[capacity];
+    }
+
+    /**
+     * Ambil objek dari pool, atau buat baru jika pool kosong
+     */
+    @SuppressWarnings("unchecked")
+    public T acquire() {
+        acquires++;
+        if (freeCount > 0) {
+            hits++;
+            T object = (T) free[--freeCount];
+            free[freeCount] = null;
+            return object;
+        }
+        return factory.get();
+    }
+
+    /**
+     * Kembalikan objek ke pool; pemanggil tidak boleh memakainya lagi
+     */
+    public void release(T object) {
+        releases++;
+        reset.accept(object);
+        if (freeCount < free.length) {
+            free[freeCount++] = object;
+        } else {
+            drops++;
+        }
+    }
+
+    /**
+     * Kembalikan semua objek di daftar ke pool lalu kosongkan daftarnya
+     */
+    public void releaseAll(List<T> objects) {
+        for (int i = 0; i < objects.size(); i++) {
+            release(objects.get(i));
+        }
+        objects.clear();
+    }
+
+    public PoolStats getStats() {
+        return new PoolStats(name, acquires, hits, releases, drops, freeCount, free.length);
+    }
+
+    /**
+     * Potret statistik pool
+     */
+    public static final class PoolStats {
+        private final String name;
+        private final long acquires;
+        private final long hits;
+        private final long releases;
+        private final long drops;
+        private final int free;
+        private final int capacity;
+
+        private PoolStats(String name, long acquires, long hits, long releases, long drops, int free, int capacity) {
+            this.name = name;
+            this.acquires = acquires;
+            this.hits = hits;
+            this.releases = releases;
+            this.drops = drops;
+            this.free = free;
+            this.capacity = capacity;
+        }
+
+        public String getName() { return name; }
+        public long getAcquires() { return acquires; }
+        public long getHits() { return hits; }
+        public long getMisses() { return acquires - hits; }
+        public long getReleases() { return releases; }
+        public long getDrops() { return drops; }
+        public int getFree() { return free; }
+        public int getCapacity() { return capacity; }
+
+        public double getHitRate() {
+            return acquires == 0 ? 0 : (double) hits / acquires;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("PoolStats{%s: acquires=%d, hits=%d (%.1f%%), releases=%d, drops=%d, free=%d/%d}",
+                                 name, acquires, hits, getHitRate() * 100, releases, drops, free, capacity);
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package utils;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Atlas tekstur yang mengemas banyak sprite ke satu gambar besar
+ * Setiap sprite dicari melalui tabel region berdasarkan jalur asetnya, lalu digambar
+ * sebagai sub-region dari atlas. Atlas dapat dibuat saat build (lihat main) dan dimuat
+ * dari /assets/images/Atlas, atau dibangun saat runtime jika berkas tersebut tidak ada
+ */
+public class TextureAtlas {
+    public static final String ATLAS_IMAGE = "/assets/images/Atlas/sprites.png";
+    public static final String ATLAS_INDEX = "/assets/images/Atlas/sprites.atlas";
+
+    // Lebar maksimum atlas dan jarak antar sprite agar tidak ada piksel yang bocor
+    private static final int MAX_WIDTH = 1024;
+    private static final int PADDING = 1;
+
+    private static TextureAtlas sprites;
+
+    private final BufferedImage image;
+    private final Map<String, Region> regions;
+
+    /**
+     * Satu sprite di dalam atlas
+     */
+    public static final class Region {
+        private final BufferedImage atlas;
+        private final int x, y, width, height;
+        // Salinan berskala untuk ukuran terakhir yang diminta drawCached
+        private BufferedImage scaled;
+
+        private Region(BufferedImage atlas, int x, int y, int width, int height) {
+            this.atlas = atlas;
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+        }
+
+        /**
+         * Gambar region dengan skala ke persegi tujuan
+         */
+        public void draw(Graphics2D g2d, int dx, int dy, int dw, int dh) {
+            g2d.drawImage(atlas, dx, dy, dx + dw, dy + dh, x, y, x + width, y + height, null);
+        }
+
+        /**
+         * Seperti draw, tetapi region diskalakan sekali ke salinan tersendiri
+         * Untuk sprite yang selalu digambar pada ukuran yang sama setiap frame; drawImage berskala
+         * membuat objek transformasi baru setiap panggilan, salinan tanpa skala tidak
+         */
+        public void drawCached(Graphics2D g2d, int dx, int dy, int dw, int dh) {
+            BufferedImage copy = scaled;
+            if (copy == null || copy.getWidth() != dw || copy.getHeight() != dh) {
+                copy = AssetLoader.createCompatibleImage(dw, dh, Transparency.TRANSLUCENT);
+                Graphics2D g = copy.createGraphics();
+                try {
+                    draw(g, 0, 0, dw, dh);
+                } finally {
+                    g.dispose();
+                }
+                scaled = copy;
+            }
+            g2d.drawImage(copy, dx, dy, null);
+        }
+
+        public int getX() { return x; }
+        public int getY() { return y; }
+        public int getWidth() { return width; }
+        public int getHeight() { return height; }
+    }
+
+    private TextureAtlas(BufferedImage image, Map<String, Region> regions) {
+        this.image = image;
+        this.regions = Collections.unmodifiableMap(regions);
+    }
+
+    /**
+     * Dapatkan atlas sprite karakter dan permata; dimuat atau dibangun saat pertama dipakai
+     */
+    public static synchronized TextureAtlas getSprites() {
+        if (sprites == null) {
+            sprites = load(ATLAS_IMAGE, ATLAS_INDEX);
+            if (sprites == null) {
+                sprites = build(AssetLoader.SPRITE_MANIFEST);
+            }
+        }
+        return sprites;
+    }
+
+    /**
+     * Dapatkan region untuk jalur aset, atau null jika tidak ada di atlas
+     */
+    public Region getRegion(String path) {
+        return regions.get(path);
+    }
+
+    public BufferedImage getImage() {
+        return image;
+    }
+
+    /**
+     * Kemas gambar-gambar pada jalur yang diberikan ke satu atlas dengan algoritma rak (shelf)
+     * @param paths Jalur aset gambar
+     * @return Atlas baru; gambar yang gagal dimuat tidak memiliki region
+     */
+    public static TextureAtlas build(List<String> paths) {
+        List<String> loadedPaths = new ArrayList<>();
+        List<BufferedImage> images = new ArrayList<>();
+        for (String path : paths) {
+            BufferedImage source = AssetLoader.loadImage(path);
+            if (source != null) {
+                loadedPaths.add(path);
+                images.add(source);
+            }
+        }
+
+        // Urutkan dari yang paling tinggi agar rak terisi rapat
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < images.size(); i++) {
+            order.add(i);
+        }
+        order.sort((a, b) -> images.get(b).getHeight() - images.get(a).getHeight());
+
+        int[][] placements = new int[images.size()][];
+        int cursorX = PADDING, cursorY = PADDING, shelfHeight = 0, atlasWidth = 1;
+        for (int index : order) {
+            BufferedImage source = images.get(index);
+            if (cursorX + source.getWidth() + PADDING > MAX_WIDTH && cursorX > PADDING) {
+                cursorX = PADDING;
+                cursorY += shelfHeight + PADDING;
+                shelfHeight = 0;
+            }
+            placements[index] = new int[] {cursorX, cursorY};
+            cursorX += source.getWidth() + PADDING;
+            shelfHeight = Math.max(shelfHeight, source.getHeight());
+            atlasWidth = Math.max(atlasWidth, cursorX);
+        }
+        int atlasHeight = Math.max(1, cursorY + shelfHeight + PADDING);
+
+        BufferedImage atlas = AssetLoader.createCompatibleImage(atlasWidth, atlasHeight, Transparency.TRANSLUCENT);
+        Map<String, Region> regions = new HashMap<>();
+        Graphics2D g2d = atlas.createGraphics();
+        try {
+            for (int i = 0; i < images.size(); i++) {
+                BufferedImage source = images.get(i);
+                int x = placements[i][0];
+                int y = placements[i][1];
+                g2d.drawImage(source, x, y, null);
+                regions.put(loadedPaths.get(i), new Region(atlas, x, y, source.getWidth(), source.getHeight()));
+            }
+        } finally {
+            g2d.dispose();
+        }
+
+        System.out.println("Atlas tekstur dibangun: " + atlasWidth + "x" + atlasHeight + ", " + regions.size() + " sprite");
+        return new TextureAtlas(atlas, regions);
+    }
+
+    /**
+     * Muat atlas yang sudah dibuat saat build dari classpath
+     * @return Atlas, atau null jika berkas atlas tidak tersedia
+     */
+    public static TextureAtlas load(String imagePath, String indexPath) {
+        InputStream indexStream = TextureAtlas.class.getResourceAsStream(indexPath);
+        if (indexStream == null || TextureAtlas.class.getResource(imagePath) == null) {
+            return null;
+        }
+
+        BufferedImage atlas = AssetLoader.loadImage(imagePath);
+        if (atlas == null) {
+            return null;
+        }
+
+        Map<String, Region> regions = new HashMap<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(indexStream, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] parts = line.split("\\s+");
+                regions.put(parts[0], new Region(atlas,
+                    Integer.parseInt(parts[1]), Integer.parseInt(parts[2]),
+                    Integer.parseInt(parts[3]), Integer.parseInt(parts[4])));
+            }
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Error loading texture atlas " + indexPath + ": " + e.getMessage());
+            return null;
+        }
+        return new TextureAtlas(atlas, regions);
+    }
+
+    /**
+     * Tulis atlas ke berkas PNG dan indeks region
+     */
+    public void write(File imageFile, File indexFile) throws IOException {
+        ImageIO.write(image, "png", imageFile);
+        try (PrintWriter writer = new PrintWriter(indexFile, StandardCharsets.UTF_8)) {
+            writer.println("# path x y width height");
+            List<String> paths = new ArrayList<>(regions.keySet());
+            Collections.sort(paths);
+            for (String path : paths) {
+                Region region = regions.get(path);
+                writer.println(path + " " + region.x + " " + region.y + " " + region.width + " " + region.height);
+            }
+        }
+    }
+
+    /**
+     * Langkah build: kemas sprite dan tulis atlas ke direktori aset
+     * Penggunaan: java -cp "bin:lib/*" utils.TextureAtlas [direktori-keluaran]
+     */
+    public static void main(String[] args) throws IOException {
+        File outputDir = new File(args.length > 0 ? args[0] : "src/assets/images/Atlas");
+        if (!outputDir.isDirectory() && !outputDir.mkdirs()) {
+            throw new IOException("Tidak dapat membuat direktori " + outputDir);
+        }
+
+        TextureAtlas atlas = build(AssetLoader.SPRITE_MANIFEST);
+        File imageFile = new File(outputDir, "sprites.png");
+        File indexFile = new File(outputDir, "sprites.atlas");
+        atlas.write(imageFile, indexFile);
+        System.out.println("Atlas ditulis ke " + imageFile.getPath() + " dan " + indexFile.getPath());
+    }
+}
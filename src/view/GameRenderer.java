@@ -0,0 +1,501 @@
+package view;
+
+import viewmodel.GameSnapshot;
+import view.components.Ball;
+import view.components.HudTextLayer;
+import view.components.animations.DotSprites;
+import view.components.animations.SparkleSprites;
+
+import view.constants.RenderResources;
+
+import utils.AssetLoader;
+import utils.GameConstants;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.awt.image.VolatileImage;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Merender satu frame permainan dari GameSnapshot ke Graphics2D apa pun
+ * Dipakai bersama oleh jalur render pasif (JPanel + repaint) dan jalur render aktif
+ * (Canvas + BufferStrategy) sehingga kedua jalur menghasilkan gambar yang sama
+ */
+public class GameRenderer {
+    // Isi panel nilai permata: jalur ikon dan keterangan
+    private static final String[][] GEM_LEGEND = {
+        {AssetLoader.GOLDEN_GEM, "Permata Emas: 90"},
+        {AssetLoader.FROST_GEM, "Permata Es: 80pts"},
+        {AssetLoader.PURPLE_GEM, "Permata Ungu: 70pts"},
+        {AssetLoader.RUBY_GEM, "Permata Ruby: 60pts"},
+        {AssetLoader.CYAN_GEM, "Permata Cyan: 50pts"},
+        {AssetLoader.SAPPHIRE_GEM, "Permata Safir: 40pts"},
+        {AssetLoader.EMERALD_GEM, "Permata Zamrud: 30pts"},
+        {AssetLoader.ORANGE_GEM, "Permata Oranye: 20pts"},
+        {AssetLoader.BLACK_GEM, "Permata Hitam: Bom"}
+    };
+    private static final int GEM_LEGEND_WIDTH = 180;
+    private static final int GEM_LEGEND_HEIGHT = 300;
+    // Ruang tambahan agar garis bingkai tidak terpotong di tepi lapisan
+    private static final int LAYER_PADDING = 2;
+
+    // Warna tetap yang digambar setiap frame; warna dengan alfa berubah memakai RenderResources
+    private static final Color FRAME_PURPLE = new Color(100, 50, 200, 100);
+    private static final Color BACKGROUND_TOP = new Color(15, 15, 40);
+    private static final Color BACKGROUND_BOTTOM = new Color(40, 15, 60);
+    private static final Color GAME_OVER_SHADE = new Color(20, 20, 60, 180);
+    private static final Color GEMS_TEXT = new Color(255, 192, 203);
+    private static final Color SAVE_STATUS_TEXT = new Color(200, 200, 255);
+    // Keranjang tidak pernah berpindah, jadi gradiennya cukup dibuat sekali
+    private static final GradientPaint BASKET_GRADIENT = new GradientPaint(
+        GameConstants.BASKET_X, GameConstants.BASKET_Y, new Color(139, 69, 19),
+        GameConstants.BASKET_X + GameConstants.BASKET_WIDTH, GameConstants.BASKET_Y + GameConstants.BASKET_HEIGHT,
+        new Color(160, 82, 45)
+    );
+
+    // Komponen tujuan, dipakai untuk mendapatkan GraphicsConfiguration
+    private final Component target;
+
+    // Teks HUD yang terikat ke nilai; hanya dirender ulang saat nilainya berubah
+    private final HudTextLayer scoreLayer = new HudTextLayer("✨ Skor: ", "", RenderResources.serif(Font.BOLD, 18), Color.WHITE);
+    private final HudTextLayer timeLayer = new HudTextLayer("⏰ Waktu: ", "s", RenderResources.serif(Font.BOLD, 18), Color.WHITE);
+    private final HudTextLayer gemLayer = new HudTextLayer("💎 Permata: ", "", RenderResources.serif(Font.BOLD, 18), Color.WHITE);
+    private final HudTextLayer finalScoreLayer = new HudTextLayer("✨ Skor Akhir: ", " ✨",
+        RenderResources.serif(Font.BOLD, 28), RenderResources.GOLD.at(255));
+    private final HudTextLayer finalGemsLayer = new HudTextLayer("💎 Permata Sihir yang Dikumpulkan: ", " 💎",
+        RenderResources.serif(Font.BOLD, 24), GEMS_TEXT);
+
+    // Teks overlay tetap; drawString langsung membuat objek layout glyph setiap frame
+    private final HudTextLayer pauseShadowLayer = new HudTextLayer("⏸️ DIJEDA ⏸️",
+        RenderResources.serif(Font.BOLD, 48), RenderResources.BLACK.at(100));
+    private final HudTextLayer pauseTitleLayer = new HudTextLayer("⏸️ DIJEDA ⏸️",
+        RenderResources.serif(Font.BOLD, 48), Color.YELLOW);
+    private final HudTextLayer pauseSubtitleLayer = new HudTextLayer("✨ Klik untuk melanjutkan perjalanan sihir Anda ✨",
+        RenderResources.serif(Font.BOLD, 20), Color.YELLOW);
+    private final HudTextLayer gameOverShadowLayer = new HudTextLayer("🔮 Perjalanan Sihir Berakhir 🔮",
+        RenderResources.serif(Font.BOLD, 42), RenderResources.BLACK.at(100));
+    private final HudTextLayer gameOverTitleLayer = new HudTextLayer("🔮 Perjalanan Sihir Berakhir 🔮",
+        RenderResources.serif(Font.BOLD, 42), Color.YELLOW);
+    private final HudTextLayer returnLayer = new HudTextLayer("🌟 Kembali ke Alam Sihir... 🌟",
+        RenderResources.serif(Font.ITALIC, 18), Color.WHITE);
+    private final Map<GameSnapshot.SaveState, HudTextLayer> saveStatusLayers = new EnumMap<>(GameSnapshot.SaveState.class);
+
+    // Kilauan di sekitar teks layar selesai
+    private static final SparkleSprites GAME_OVER_SPARKLES = new SparkleSprites(6, 4, -2, 4);
+
+    // Elemen tema sihir
+    private float magicParticleTimer = 0.0f;
+    private VolatileImage backgroundCache;
+    private BufferedImage gemLegendLayer;
+    private BufferedImage basketLayer;
+    // Gradien latar untuk jalur tanpa VolatileImage, dibuat ulang hanya saat tinggi berubah
+    private GradientPaint backgroundPaint;
+    private int backgroundPaintHeight;
+
+    // Ukuran frame yang sedang dirender
+    private int width;
+    private int height;
+
+    public GameRenderer(Component target) {
+        this.target = target;
+        for (GameSnapshot.SaveState state : GameSnapshot.SaveState.values()) {
+            String text = getSaveStatusText(state);
+            if (text != null) {
+                saveStatusLayers.put(state, new HudTextLayer(text, RenderResources.serif(Font.PLAIN, 16), SAVE_STATUS_TEXT));
+            }
+        }
+    }
+
+    /**
+     * Render satu frame penuh
+     * @param g2d Graphics2D tujuan
+     * @param snapshot Potret status game terbaru, atau null jika belum ada
+     * @param width Lebar area gambar
+     * @param height Tinggi area gambar
+     */
+    public void render(Graphics2D g2d, GameSnapshot snapshot, int width, int height) {
+        this.width = width;
+        this.height = height;
+
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+
+        if (snapshot != null) {
+            magicParticleTimer = snapshot.getTick() * 0.1f;
+        }
+
+        drawMagicalBackground(g2d);
+        if (snapshot != null) {
+            drawGame(g2d, snapshot);
+        }
+    }
+
+    /**
+     * Lepaskan memori grafis yang dipercepat
+     */
+    public void dispose() {
+        if (backgroundCache != null) {
+            backgroundCache.flush();
+            backgroundCache = null;
+        }
+        gemLegendLayer = null;
+        basketLayer = null;
+        scoreLayer.dispose();
+        timeLayer.dispose();
+        gemLayer.dispose();
+        finalScoreLayer.dispose();
+        finalGemsLayer.dispose();
+        pauseShadowLayer.dispose();
+        pauseTitleLayer.dispose();
+        pauseSubtitleLayer.dispose();
+        gameOverShadowLayer.dispose();
+        gameOverTitleLayer.dispose();
+        returnLayer.dispose();
+        for (HudTextLayer layer : saveStatusLayers.values()) {
+            layer.dispose();
+        }
+    }
+
+    private void drawMagicalBackground(Graphics2D g2d) {
+        // Gradien latar belakang disalin dari cache yang dipercepat
+        drawBackgroundGradient(g2d);
+
+        // Partikel sihir melayang
+        drawMagicalParticles(g2d);
+
+        // Bingkai sihir
+        g2d.setColor(FRAME_PURPLE);
+        g2d.setStroke(RenderResources.stroke(3));
+        g2d.drawRect(10, 10, width - 20, height - 20);
+    }
+
+    /**
+     * Menggambar gradien latar belakang melalui VolatileImage yang disimpan,
+     * membuat ulang isinya saat hilang atau tidak kompatibel dengan konfigurasi grafis
+     */
+    private void drawBackgroundGradient(Graphics2D g2d) {
+        GraphicsConfiguration gc = target.getGraphicsConfiguration();
+        if (gc == null) {
+            paintBackgroundGradient(g2d);
+            return;
+        }
+
+        do {
+            if (backgroundCache == null
+                    || backgroundCache.getWidth() != width
+                    || backgroundCache.getHeight() != height) {
+                createBackgroundCache(gc);
+            }
+
+            int status = backgroundCache.validate(gc);
+            if (status == VolatileImage.IMAGE_INCOMPATIBLE) {
+                createBackgroundCache(gc);
+            } else if (status == VolatileImage.IMAGE_RESTORED) {
+                renderBackgroundCache();
+            }
+
+            g2d.drawImage(backgroundCache, 0, 0, null);
+        } while (backgroundCache.contentsLost());
+    }
+
+    private void createBackgroundCache(GraphicsConfiguration gc) {
+        if (backgroundCache != null) {
+            backgroundCache.flush();
+        }
+        backgroundCache = gc.createCompatibleVolatileImage(width, height, Transparency.OPAQUE);
+        renderBackgroundCache();
+    }
+
+    private void renderBackgroundCache() {
+        Graphics2D cacheGraphics = backgroundCache.createGraphics();
+        try {
+            paintBackgroundGradient(cacheGraphics);
+        } finally {
+            cacheGraphics.dispose();
+        }
+    }
+
+    private void paintBackgroundGradient(Graphics2D g2d) {
+        // Menggambar latar belakang dengan efek sihir
+        if (backgroundPaint == null || backgroundPaintHeight != height) {
+            backgroundPaint = new GradientPaint(
+                0, 0, BACKGROUND_TOP,
+                0, height, BACKGROUND_BOTTOM
+            );
+            backgroundPaintHeight = height;
+        }
+        g2d.setPaint(backgroundPaint);
+        g2d.fillRect(0, 0, width, height);
+    }
+
+    private void drawMagicalParticles(Graphics2D g2d) {
+        // Menggambar partikel sihir
+        g2d.setColor(RenderResources.WHITE.at(50));
+
+        for (int i = 0; i < 20; i++) {
+            int x = (int)(Math.sin(magicParticleTimer + i) * 50 + width / 2 + i * 30);
+            int y = (int)(Math.cos(magicParticleTimer * 0.7 + i * 0.5) * 30 + height / 2 + i * 20);
+
+            x = Math.max(0, Math.min(width, x));
+            y = Math.max(0, Math.min(height, y));
+
+            g2d.fillOval(x, y, 3, 3);
+
+            // Efek kilauan
+            g2d.setColor(RenderResources.WHITE.at(30));
+            g2d.drawLine(x - 5, y, x + 5, y);
+            g2d.drawLine(x, y - 5, x, y + 5);
+            g2d.setColor(RenderResources.WHITE.at(50));
+        }
+    }
+
+    private void drawGame(Graphics2D g2d, GameSnapshot snapshot) {
+        // Menggambar elemen permainan
+        float alpha = snapshot.getAlpha();
+        Ball.renderAll(g2d, snapshot.getBalls(), alpha);
+
+        snapshot.getCharacter().render(g2d, alpha);
+        snapshot.getLasso().render(g2d, snapshot.getBalls());
+
+        drawMagicalBasket(g2d);
+        drawMagicalUI(g2d, snapshot);
+        drawGemLeaderboard(g2d);
+
+        if (snapshot.isPaused()) {
+            drawMagicalPauseOverlay(g2d);
+        }
+
+        if (snapshot.isGameOver()) {
+            drawMagicalGameOverOverlay(g2d, snapshot);
+        }
+    }
+
+    private void drawMagicalBasket(Graphics2D g2d) {
+        // Keranjang statis, disalin dari lapisan; isi gradien dan simbol teks mengalokasikan setiap frame
+        if (basketLayer == null) {
+            basketLayer = createBasketLayer();
+        }
+        g2d.drawImage(basketLayer, GameConstants.BASKET_X - 10, GameConstants.BASKET_Y - 10, null);
+    }
+
+    /**
+     * Komposisi keranjang sihir ke sebuah gambar, termasuk kilauan 10 piksel di sekelilingnya
+     */
+    private BufferedImage createBasketLayer() {
+        int basketW = GameConstants.BASKET_WIDTH;
+        int basketH = GameConstants.BASKET_HEIGHT;
+
+        BufferedImage layer = createTranslucentImage(basketW + 20, basketH + 20);
+        Graphics2D g2d = layer.createGraphics();
+        try {
+            g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            // Gradien statis memakai koordinat layar, jadi lapisan digambar di posisi aslinya
+            g2d.translate(10 - GameConstants.BASKET_X, 10 - GameConstants.BASKET_Y);
+            int basketX = GameConstants.BASKET_X;
+            int basketY = GameConstants.BASKET_Y;
+
+            // Efek kilauan
+            g2d.setColor(RenderResources.GOLD.at(50));
+            g2d.fillRect(basketX - 10, basketY - 10, basketW + 20, basketH + 20);
+
+            // Keranjang utama dengan gradien
+            g2d.setPaint(BASKET_GRADIENT);
+            g2d.fillRect(basketX, basketY, basketW, basketH);
+
+            // Bingkai sihir
+            g2d.setColor(RenderResources.GOLD.at(255));
+            g2d.setStroke(RenderResources.stroke(3));
+            g2d.drawRect(basketX, basketY, basketW, basketH);
+
+            // Simbol sihir pada keranjang
+            g2d.setColor(RenderResources.GOLD.at(150));
+            g2d.setFont(RenderResources.serif(Font.BOLD, 16));
+            g2d.drawString("✨", basketX + basketW/2 - 8, basketY + basketH/2 + 5);
+        } finally {
+            g2d.dispose();
+        }
+        return layer;
+    }
+
+    private void drawMagicalUI(Graphics2D g2d, GameSnapshot snapshot) {
+        // Panel UI sihir
+        g2d.setColor(RenderResources.BLACK.at(100));
+        g2d.fillRoundRect(10, 10, 250, 80, 15, 15);
+
+        g2d.setColor(RenderResources.GOLD.at(255));
+        g2d.setStroke(RenderResources.stroke(2));
+        g2d.drawRoundRect(10, 10, 250, 80, 15, 15);
+
+        scoreLayer.draw(g2d, snapshot.getScore(), 20, 35);
+        timeLayer.draw(g2d, snapshot.getTimeRemaining(), 20, 60);
+        gemLayer.draw(g2d, snapshot.getCount(), 20, 80);
+    }
+
+    private void drawGemLeaderboard(Graphics2D g2d) {
+        // Panel papan peringkat permata, disalin dari lapisan yang sudah dikomposisi
+        int panelX = width - 200;
+        int panelY = 10;
+
+        // Isi panel statis, jadi lapisan hanya dibuat ulang setelah dispose()
+        if (gemLegendLayer == null) {
+            gemLegendLayer = createGemLegendLayer(GEM_LEGEND_WIDTH, GEM_LEGEND_HEIGHT);
+        }
+        g2d.drawImage(gemLegendLayer, panelX - LAYER_PADDING, panelY - LAYER_PADDING, null);
+    }
+
+    /**
+     * Komposisi panel nilai permata ke sebuah gambar; ikon diskalakan sekali ke 20x20
+     * @param panelW Lebar panel
+     * @param panelH Tinggi panel
+     */
+    private BufferedImage createGemLegendLayer(int panelW, int panelH) {
+        // Teks keterangan boleh melewati tepi panel, jadi lebar lapisan mengikuti teks terpanjang
+        Font labelFont = RenderResources.serif(Font.PLAIN, 12);
+        FontMetrics labelMetrics = target.getFontMetrics(labelFont);
+        int layerW = panelW;
+        for (String[] info : GEM_LEGEND) {
+            layerW = Math.max(layerW, 40 + labelMetrics.stringWidth(info[1]));
+        }
+
+        BufferedImage layer = createTranslucentImage(layerW + LAYER_PADDING * 2, panelH + LAYER_PADDING * 2);
+        Graphics2D g2d = layer.createGraphics();
+        try {
+            g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g2d.translate(LAYER_PADDING, LAYER_PADDING);
+
+            g2d.setColor(RenderResources.BLACK.at(120));
+            g2d.fillRoundRect(0, 0, panelW, panelH, 15, 15);
+
+            g2d.setColor(RenderResources.GOLD.at(255));
+            g2d.setStroke(RenderResources.stroke(2));
+            g2d.drawRoundRect(0, 0, panelW, panelH, 15, 15);
+
+            // Judul
+            g2d.setColor(Color.YELLOW);
+            g2d.setFont(RenderResources.serif(Font.BOLD, 14));
+            g2d.drawString("🏆 Nilai Permata 🏆", 10, 20);
+
+            // Peringkat permata dengan gambar
+            g2d.setFont(labelFont);
+            int yPos = 40;
+            for (String[] info : GEM_LEGEND) {
+                if (yPos > panelH - 15) break;
+                BufferedImage gemImage = AssetLoader.loadImage(info[0]);
+
+                if (gemImage != null) {
+                    g2d.drawImage(gemImage, 10, yPos, 20, 20, null);
+                } else {
+                    System.err.println("Gagal memuat gambar permata untuk: " + info[1]);
+                }
+                g2d.drawString(info[1], 40, yPos + 15);
+                yPos += 30;
+            }
+        } finally {
+            g2d.dispose();
+        }
+        return layer;
+    }
+
+    private BufferedImage createTranslucentImage(int imageWidth, int imageHeight) {
+        GraphicsConfiguration gc = target.getGraphicsConfiguration();
+        if (gc != null) {
+            return gc.createCompatibleImage(imageWidth, imageHeight, Transparency.TRANSLUCENT);
+        }
+        return new BufferedImage(imageWidth, imageHeight, BufferedImage.TYPE_INT_ARGB_PRE);
+    }
+
+    private void drawMagicalPauseOverlay(Graphics2D g2d) {
+        // Overlay semi-transparan
+        g2d.setColor(RenderResources.BLACK.at(150));
+        g2d.fillRect(0, 0, width, height);
+
+        // Bingkai sihir
+        g2d.setColor(RenderResources.GOLD.at(100));
+        g2d.setStroke(RenderResources.stroke(5));
+        g2d.drawRect(100, 100, width - 200, height - 200);
+
+        // Teks jeda
+        int y = height / 2;
+
+        // Efek bayangan teks
+        pauseShadowLayer.drawCentered(g2d, width / 2 + 3, y + 3);
+
+        // Teks utama
+        pauseTitleLayer.drawCentered(g2d, width / 2, y);
+
+        // Subjudul
+        pauseSubtitleLayer.drawCentered(g2d, width / 2, y + 60);
+    }
+
+    private void drawMagicalGameOverOverlay(Graphics2D g2d, GameSnapshot snapshot) {
+        // Overlay semi transparan sihir
+        g2d.setColor(GAME_OVER_SHADE);
+        g2d.fillRect(0, 0, width, height);
+
+        // Bingkai sihir dengan animasi
+        g2d.setColor(RenderResources.GOLD.at((int)(100 + 50 * Math.sin(magicParticleTimer))));
+        g2d.setStroke(RenderResources.stroke(8));
+        g2d.drawRect(50, 50, width - 100, height - 100);
+
+        // Bingkai sihir bagian dalam
+        g2d.setColor(RenderResources.PURPLE.at(150));
+        g2d.setStroke(RenderResources.stroke(4));
+        g2d.drawRect(70, 70, width - 140, height - 140);
+
+        // Judul Game Over dengan efek kilauan
+        int y = height / 2 - 80;
+
+        // Gambar bayangan terlebih dahulu
+        gameOverShadowLayer.drawCentered(g2d, width / 2 + 3, y + 3);
+
+        // Gambar teks utama di atas bayangan
+        gameOverTitleLayer.drawCentered(g2d, width / 2, y);
+
+        // Tampilan skor
+        finalScoreLayer.drawCentered(g2d, snapshot.getScore(), width / 2, y + 70);
+
+        // Tampilan permata yang dikumpulkan
+        finalGemsLayer.drawCentered(g2d, snapshot.getCount(), width / 2, y + 110);
+
+        // Pesan kembali
+        returnLayer.drawCentered(g2d, width / 2, y + 160);
+        int x = width / 2 - returnLayer.getTextWidth() / 2;
+
+        // Status penyimpanan skor; penulisan berjalan di latar sehingga overlay tetap beranimasi
+        HudTextLayer saveStatusLayer = saveStatusLayers.get(snapshot.getSaveState());
+        if (saveStatusLayer != null) {
+            saveStatusLayer.drawCentered(g2d, width / 2, y + 195);
+        }
+
+        // Partikel kilauan animasi di sekitar teks
+        drawGameOverSparkles(g2d, x, y);
+    }
+
+    private static String getSaveStatusText(GameSnapshot.SaveState state) {
+        switch (state) {
+            case SAVING: return "⏳ Menyimpan skor...";
+            case SAVED: return "✅ Skor tersimpan";
+            case JOURNALED: return "📜 Database tidak tersedia, skor disimpan lokal dan akan dikirim ulang";
+            case FAILED: return "⚠ Skor gagal disimpan";
+            default: return null;
+        }
+    }
+
+    private void drawGameOverSparkles(Graphics2D g2d, int centerX, int centerY) {
+        // Menggambar kilauan animasi
+        int level = DotSprites.level((float)(150 + 100 * Math.sin(magicParticleTimer * 2)) / 255f);
+
+        for (int i = 0; i < 12; i++) {
+            double angle = (magicParticleTimer + i * 0.5) * 0.8;
+            int sparkleX = (int)(centerX + Math.cos(angle) * (80 + 20 * Math.sin(magicParticleTimer + i)));
+            int sparkleY = (int)(centerY + Math.sin(angle) * (60 + 15 * Math.cos(magicParticleTimer + i)));
+
+            // Membatasi posisi kilauan agar tidak keluar dari batas panel
+            sparkleX = Math.max(20, Math.min(width - 20, sparkleX));
+            sparkleY = Math.max(20, Math.min(height - 20, sparkleY));
+
+            // Menggambar kilauan beserta sinarnya
+            GAME_OVER_SPARKLES.draw(g2d, sparkleX, sparkleY, level);
+        }
+    }
+}
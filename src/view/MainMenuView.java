@@ -3,7 +3,7 @@ package view;
 import viewmodel.MainMenuViewModel;
 import model.Player;
 import utils.GameConstants;
-import view.components.animations.Particle;
+import view.components.animations.ParticleEngine;
 import view.components.animations.ParticleBackgroundPanel;
 import view.components.dialogs.ConfirmationDialog;
 import view.components.dialogs.NotificationDialog;
@@ -29,11 +29,12 @@ import java.awt.event.WindowEvent;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.util.List;
-import javax.sound.sampled.*;
+
 import java.awt.image.BufferedImage;
-import java.util.ArrayList;
 
 import utils.AssetLoader;
+import utils.AssetPreloader;
+import utils.MusicPlayer;
 
 /**
  * Kelas ini bertanggung jawab untuk menampilkan antarmuka pengguna (GUI)
@@ -45,22 +46,30 @@ import utils.AssetLoader;
 public class MainMenuView extends JFrame {
 
     // Konstanta animasi
-    private static final int PARTICLE_COUNT = 50;
+    // Jumlah partikel latar, dapat diubah dengan -Dgame.menuParticles=<jumlah>
+    private static final int PARTICLE_COUNT = Integer.getInteger("game.menuParticles", 50);
 
     // Komponen inti
     private MainMenuViewModel viewModel;
     private JTable scoreTable;
     private DefaultTableModel tableModel;
+    private JScrollPane scoreScrollPane;
+    private Timer staggerTimer;
+    private boolean pageLoading;
+    // Bertambah setiap kali tabel diisi ulang, agar halaman yang terlambat datang diabaikan
+    private int tableGeneration;
     private ModernTextField usernameField;
     private UltraModernButton playButton;
     private UltraModernButton quitButton;
     private UltraModernButton refreshButton;
-    private Clip backgroundMusic;
+    private JLabel assetProgressLabel;
+    private AssetPreloader.ProgressListener assetProgressListener;
     private BufferedImage backgroundImage;
 
     // Animasi dan efek
     private Timer particleTimer;
-    private java.util.List<Particle> particles;
+    private ParticleEngine particles;
+    private ParticleBackgroundPanel particlePanel;
     private Timer fadeTimer;
     private float globalOpacity = 0.0f;
     private boolean isInitialized = false;
@@ -81,16 +90,16 @@ public class MainMenuView extends JFrame {
      * Inisialisasi sistem partikel untuk efek latar belakang
      */
     private void initializeParticleSystem() {
-        particles = new ArrayList<>();
-        for (int i = 0; i < PARTICLE_COUNT; i++) {
-            particles.add(new Particle());
-        }
+        particles = ParticleBackgroundPanel.createAmbientParticles(PARTICLE_COUNT,
+            GameConstants.WINDOW_WIDTH, GameConstants.WINDOW_HEIGHT);
 
+        // Panel latar menggambar ulang hanya area partikel yang berubah, bukan seluruh jendela
         particleTimer = new Timer(32, e -> {
-            for (Particle p : particles) {
-                p.update();
+            if (particlePanel != null) {
+                particlePanel.updateParticles();
+            } else {
+                particles.update();
             }
-            repaint();
         });
         particleTimer.start();
     }
@@ -214,7 +223,8 @@ public class MainMenuView extends JFrame {
         setLayout(new BorderLayout());
 
         // Kontainer utama dengan latar belakang partikel
-        JPanel mainContainer = new ParticleBackgroundPanel(backgroundImage, particles, () -> isInitialized, () -> globalOpacity);
+        particlePanel = new ParticleBackgroundPanel(backgroundImage, particles, () -> isInitialized, () -> globalOpacity);
+        JPanel mainContainer = particlePanel;
         mainContainer.setLayout(new BorderLayout(0, 30));
         mainContainer.setBorder(BorderFactory.createEmptyBorder(40, 50, 40, 50));
 
@@ -273,9 +283,30 @@ public class MainMenuView extends JFrame {
         titleLabel.setForeground(ColorConstants.TEXT_PRIMARY);
 
         hero.add(titleLabel, BorderLayout.CENTER);
+
+        // Kemajuan pemuatan aset di latar belakang
+        assetProgressLabel = new JLabel(" ", SwingConstants.CENTER);
+        assetProgressLabel.setFont(FontConstants.FONT_CAPTION);
+        assetProgressLabel.setForeground(ColorConstants.TEXT_SECONDARY);
+        hero.add(assetProgressLabel, BorderLayout.SOUTH);
+
+        assetProgressListener = this::updateAssetProgress;
+        AssetPreloader.addProgressListener(assetProgressListener);
         return hero;
     }
 
+    /**
+     * Perbarui label kemajuan pemuatan aset
+     */
+    private void updateAssetProgress(int loaded, int total) {
+        if (total == 0 || loaded >= total) {
+            assetProgressLabel.setText(" ");
+            AssetPreloader.removeProgressListener(assetProgressListener);
+        } else {
+            assetProgressLabel.setText("✨ Memuat aset sihir... " + loaded + "/" + total);
+        }
+    }
+
     /**
      * Buat bagian statistik dengan kartu glassmorphism
      */
@@ -303,8 +334,10 @@ public class MainMenuView extends JFrame {
         headerPanel.add(statsTitle, BorderLayout.WEST);
         headerPanel.add(refreshPanel, BorderLayout.EAST);
 
-        // Kontainer tabel dengan scroll kustom
+        // Kontainer tabel dengan scroll kustom; halaman berikutnya dimuat saat mendekati akhir
         JScrollPane scrollPane = new JScrollPane(scoreTable);
+        scoreScrollPane = scrollPane;
+        scrollPane.getVerticalScrollBar().addAdjustmentListener(e -> loadMoreRowsIfNeeded());
         scrollPane.setOpaque(false);
         scrollPane.getViewport().setOpaque(false);
         scrollPane.setBorder(BorderFactory.createEmptyBorder());
@@ -424,7 +457,7 @@ public class MainMenuView extends JFrame {
 
         Timer loadingTimer = new Timer(1200, e -> {
             if (viewModel.startGame(username)) {
-                stopBackgroundMusic();
+                // Musik menu tetap berjalan hingga musik permainan mengambil alih dengan crossfade
                 startExitAnimation(() -> {
                     setVisible(false);
                     SwingUtilities.invokeLater(() -> {
@@ -459,11 +492,11 @@ public class MainMenuView extends JFrame {
     private void handleRefreshButtonWithAnimation() {
         refreshButton.startSpinAnimation();
 
-        Timer refreshTimer = new Timer(800, e -> {
-            loadData();
+        // Tombol refresh selalu membaca ulang dari database, melewati cache
+        Timer refreshTimer = new Timer(800, e -> loadData(true, () -> {
             NotificationDialog.showModernNotification(this, "Hall of Fame updated! ✨", NotificationDialog.NotificationType.SUCCESS);
             refreshButton.stopSpinAnimation();
-        });
+        }));
         refreshTimer.setRepeats(false);
         refreshTimer.start();
     }
@@ -472,37 +505,69 @@ public class MainMenuView extends JFrame {
      * Memuat dan menyegarkan data
      */
     private void loadData() {
-        viewModel.refreshData();
-        updateTableWithAnimation();
+        loadData(false, null);
+    }
+
+    /**
+     * Baca papan skor di latar, lalu perbarui tabel di EDT
+     * Koneksi database bisa menunggu beberapa detik saat server mati, sehingga tidak boleh di EDT
+     * @param reload true untuk membuang cache dan membaca ulang dari database
+     * @param onLoaded Dijalankan di EDT setelah tabel diperbarui; boleh null
+     */
+    private void loadData(boolean reload, Runnable onLoaded) {
+        new SwingWorker<Void, Void>() {
+            @Override
+            protected Void doInBackground() {
+                if (reload) {
+                    viewModel.reloadData();
+                } else {
+                    viewModel.refreshData();
+                }
+                return null;
+            }
+
+            @Override
+            protected void done() {
+                try {
+                    get();
+                } catch (Exception e) {
+                    System.err.println("Error loading leaderboard: " + e.getMessage());
+                }
+                updateTableWithAnimation();
+                if (onLoaded != null) {
+                    onLoaded.run();
+                }
+            }
+        }.execute();
     }
 
     /**
      * Perbarui tabel dengan animasi bertahap
+     * Hanya baris teratas yang dianimasikan; halaman berikutnya dimuat saat pengguna menggulir
      */
     private void updateTableWithAnimation() {
+        if (staggerTimer != null) {
+            staggerTimer.stop();
+        }
+        tableGeneration++;
         tableModel.setRowCount(0);
 
         List<Player> players = viewModel.getPlayers();
-        Timer staggerTimer = new Timer(UIConstants.STAGGER_ANIMATION_DELAY, null);
+        int animatedRows = Math.min(players.size(), UIConstants.STAGGER_ANIMATION_ROWS);
+        staggerTimer = new Timer(UIConstants.STAGGER_ANIMATION_DELAY, null);
 
         staggerTimer.addActionListener(new ActionListener() {
             private int index = 0;
 
             @Override
             public void actionPerformed(ActionEvent e) {
-                if (index < players.size()) {
-                    Player player = players.get(index);
-                    String medal = getMedalForRank(index);
-
-                    Object[] rowData = {
-                        medal + " " + player.getUsername(),
-                        player.getScore(),
-                        player.getCount()
-                    };
-                    tableModel.addRow(rowData);
+                if (index < animatedRows) {
+                    addPlayerRow(players.get(index));
                     index++;
                 } else {
                     staggerTimer.stop();
+                    appendPlayerRows(players.subList(animatedRows, players.size()));
+                    loadMoreRowsIfNeeded();
                 }
 
                 scoreTable.revalidate();
@@ -513,6 +578,61 @@ public class MainMenuView extends JFrame {
         staggerTimer.start();
     }
 
+    private void addPlayerRow(Player player) {
+        String medal = getMedalForRank(tableModel.getRowCount());
+        Object[] rowData = {
+            medal + " " + player.getUsername(),
+            player.getScore(),
+            player.getCount()
+        };
+        tableModel.addRow(rowData);
+    }
+
+    private void appendPlayerRows(List<Player> players) {
+        for (Player player : players) {
+            addPlayerRow(player);
+        }
+    }
+
+    /**
+     * Muat halaman papan skor berikutnya di latar jika pengguna sudah menggulir dekat ke akhir tabel
+     */
+    private void loadMoreRowsIfNeeded() {
+        if (pageLoading || (staggerTimer != null && staggerTimer.isRunning()) || !viewModel.hasMorePlayers()) {
+            return;
+        }
+        JScrollBar bar = scoreScrollPane.getVerticalScrollBar();
+        int threshold = scoreTable.getRowHeight() * UIConstants.LEADERBOARD_PREFETCH_ROWS;
+        if (bar.getValue() + bar.getVisibleAmount() < bar.getMaximum() - threshold) {
+            return;
+        }
+
+        pageLoading = true;
+        int generation = tableGeneration;
+        new SwingWorker<List<Player>, Void>() {
+            @Override
+            protected List<Player> doInBackground() {
+                return viewModel.loadMorePlayers();
+            }
+
+            @Override
+            protected void done() {
+                pageLoading = false;
+                if (generation != tableGeneration) {
+                    return;
+                }
+                try {
+                    appendPlayerRows(get());
+                } catch (Exception e) {
+                    System.err.println("Error loading leaderboard page: " + e.getMessage());
+                    return;
+                }
+                // Tabel mungkin masih belum cukup tinggi untuk digulir
+                SwingUtilities.invokeLater(MainMenuView.this::loadMoreRowsIfNeeded);
+            }
+        }.execute();
+    }
+
     /**
      * Dapatkan emoji medali untuk peringkat pemain
      */
@@ -528,34 +648,18 @@ public class MainMenuView extends JFrame {
     }
 
     /**
-     * Musik latar belakang yang ditingkatkan
+     * Musik latar belakang yang ditingkatkan (streaming, crossfade dari musik permainan)
      */
     private void playBackgroundMusic() {
-        try {
-            AudioInputStream audioStream = AssetLoader.loadAudio(AssetLoader.AUDIO_MENU_MUSIC);
-            
-            if (audioStream != null) {
-                backgroundMusic = AudioSystem.getClip();
-                backgroundMusic.open(audioStream);
-                backgroundMusic.loop(Clip.LOOP_CONTINUOUSLY);
-                System.out.println("🎵 Musik latar belakang dimulai");
-            } else {
-                System.err.println("🔇 Musik latar belakang tidak tersedia: Audio stream is null.");
-            }
-        } catch (Exception e) {
-            System.err.println("🔇 Musik latar belakang tidak tersedia: " + e.getMessage());
-        }
+        MusicPlayer.play(AssetLoader.AUDIO_MENU_MUSIC, MusicPlayer.CROSSFADE_MILLIS);
+        System.out.println("🎵 Musik latar belakang dimulai");
     }
 
     /**
      * Hentikan musik latar belakang
      */
     private void stopBackgroundMusic() {
-        if (backgroundMusic != null && backgroundMusic.isRunning()) {
-            backgroundMusic.stop();
-            backgroundMusic.close();
-            backgroundMusic = null;
-        }
+        MusicPlayer.stop(AssetLoader.AUDIO_MENU_MUSIC);
     }
 
     /**
@@ -606,6 +710,15 @@ public class MainMenuView extends JFrame {
         requestFocus();
     }
 
+    /**
+     * Muat ulang papan skor, misalnya setelah skor permainan selesai disimpan di latar
+     */
+    public void refreshScores() {
+        if (isVisible()) {
+            loadData();
+        }
+    }
+
     /**
      * Dapatkan nama pengguna saat ini
      */
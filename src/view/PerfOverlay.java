@@ -0,0 +1,83 @@
+package view;
+
+import utils.FrameMetrics;
+import utils.GameConstants;
+import utils.LatencyHistogram;
+import view.constants.RenderResources;
+import viewmodel.GameSnapshot;
+
+import java.awt.*;
+import java.util.Locale;
+
+/**
+ * Overlay performa di atas frame permainan, ditampilkan dan disembunyikan dengan F3
+ * Menampilkan FPS, p50/p99/maks waktu frame, langkah simulasi, dan render, korelasi GC,
+ * serta jumlah entitas. Teks disusun ulang paling sering setiap REFRESH_NANOS agar terbaca
+ * dan agar overlay sendiri tidak membebani frame yang sedang diukur
+ */
+public class PerfOverlay {
+    private static final long REFRESH_NANOS = 250_000_000L;
+    private static final int X = 10;
+    private static final int Y = 100;
+    private static final int WIDTH = 340;
+    private static final int LINE_HEIGHT = 15;
+    private static final Font FONT = new Font(Font.MONOSPACED, Font.PLAIN, 12);
+    private static final Color TEXT = new Color(180, 255, 180);
+    private static final Color WARNING_TEXT = new Color(255, 170, 120);
+
+    private final FrameMetrics metrics;
+    private String[] lines = new String[0];
+    private boolean warning;
+    private long lastRefresh;
+
+    public PerfOverlay(FrameMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Gambar overlay; dipanggil setelah frame permainan selesai dirender
+     */
+    public void render(Graphics2D g2d, GameSnapshot snapshot) {
+        long now = System.nanoTime();
+        if (lastRefresh == 0 || now - lastRefresh >= REFRESH_NANOS) {
+            refresh(snapshot);
+            lastRefresh = now;
+        }
+
+        int height = lines.length * LINE_HEIGHT + 10;
+        g2d.setColor(RenderResources.BLACK.at(170));
+        g2d.fillRoundRect(X, Y, WIDTH, height, 10, 10);
+
+        g2d.setFont(FONT);
+        g2d.setColor(warning ? WARNING_TEXT : TEXT);
+        for (int i = 0; i < lines.length; i++) {
+            g2d.drawString(lines[i], X + 8, Y + 17 + i * LINE_HEIGHT);
+        }
+    }
+
+    private void refresh(GameSnapshot snapshot) {
+        LatencyHistogram frame = metrics.getFrameInterval();
+        long slow = metrics.getSlowFrames();
+        int balls = snapshot != null ? snapshot.getBalls().size() : 0;
+        int particles = snapshot != null ? snapshot.getLasso().getParticleCount() : 0;
+        long tick = snapshot != null ? snapshot.getTick() : 0;
+
+        lines = new String[] {
+            String.format(Locale.ROOT, "FPS %3d   frame ke-%d", metrics.getFps(), metrics.getFrames()),
+            describe("frame ", frame),
+            describe("update", metrics.getUpdate()),
+            describe("paint ", metrics.getPaint()),
+            String.format(Locale.ROOT, "lambat %d (saat GC %d)  frame GC %d",
+                slow, metrics.getSlowFramesWithGc(), metrics.getGcFrames()),
+            String.format(Locale.ROOT, "bola %d  partikel %d  tick %d", balls, particles, tick)
+        };
+        warning = frame.getValueAtPercentile(99) > 2 * GameConstants.FRAME_STEP_NANOS;
+    }
+
+    private static String describe(String label, LatencyHistogram histogram) {
+        return String.format(Locale.ROOT, "%s p50 %6.2f  p99 %6.2f  maks %6.2f ms", label,
+            histogram.getValueAtPercentile(50) / 1_000_000.0,
+            histogram.getValueAtPercentile(99) / 1_000_000.0,
+            histogram.getMax() / 1_000_000.0);
+    }
+}
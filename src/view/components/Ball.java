@@ -1,314 +1,239 @@
 package view.components;
 
 import java.awt.Color;
+import java.awt.Composite;
 import java.awt.Graphics2D;
-import java.awt.Rectangle;
+import java.awt.Paint;
+import java.awt.Transparency;
+import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
-import java.awt.AlphaComposite;
-import java.awt.RadialGradientPaint;
-import java.awt.MultipleGradientPaint;
-import java.awt.geom.Point2D;
-import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 import utils.GameConstants;
 import utils.AssetLoader;
+import utils.TextureAtlas;
+import view.components.animations.DotSprites;
+import view.components.animations.SparkleSprites;
 
 /**
- * Merepresentasikan komponen visual untuk bola dalam game dengan tema sihir
- * Bertanggung jawab untuk mengelola posisi, nilai, arah, dan efek visual sihir bola
+ * Renderer bola dalam game dengan tema sihir
+ * Status bola (posisi, nilai, arah, efek) disimpan di BallStore; kelas ini hanya menggambar
+ * satu slot BallStore dengan efek visual sihirnya
  */
-public class Ball {
-    private int x, y;
-    private int value;
-    private int direction; 
-    private Color color;
-    private boolean active;
-    private static Random random = new Random();
-    private boolean transitioningToBasket = false;
-    private boolean transitioningFromCharacterToBasket = false;
-    private int basketX = GameConstants.BASKET_X + GameConstants.BASKET_WIDTH / 2 - GameConstants.BALL_SIZE / 2;
-    private int basketY = GameConstants.BASKET_Y + GameConstants.BASKET_HEIGHT / 2 - GameConstants.BALL_SIZE / 2;
-
-    // Magic effects
-    private float glowIntensity = 0.0f;
-    private boolean glowIncreasing = true;
-    private int sparkleTimer = 0;
-    private float rotation = 0.0f;
-    private float pulseScale = 1.0f;
-    private boolean pulseIncreasing = true;
-
-    private static BufferedImage goldenGem, frostGem, purpleGem, rubyGem, cyanGem, sapphireGem, emeraldGem, orangeGem, bomb;
+public final class Ball {
+    // Warna per nilai bola, dibuat sekali; indeks = nilai / 10
+    private static final Color[] COLORS = {
+        new Color(192, 192, 192), // Light Gray (neutral)
+        new Color(255, 69, 0),    // Red-Orange (bomb/danger)
+        new Color(34, 139, 34),   // Forest Green (low value)
+        new Color(30, 144, 255),  // Dodger Blue (medium-low)
+        new Color(138, 43, 226),  // Blue Violet (medium)
+        new Color(255, 140, 0),   // Dark Orange (medium-high)
+        new Color(220, 20, 60),   // Crimson (high value)
+        new Color(255, 215, 0),   // Gold (very high)
+        new Color(148, 0, 211),   // Dark Violet (premium)
+        new Color(255, 20, 147)   // Deep Pink (rare/special)
+    };
+    // Titik 3 piksel di kanan bawah pusat dengan silang lengan 3 piksel
+    private static final SparkleSprites SPARKLE_SPRITES = new SparkleSprites(3, 0, 0, 3);
+    // Cincin luar lingkaran cadangan, warna yang sama dengan alfa 100
+    private static final Color[] RING_COLORS = new Color[COLORS.length];
 
     static {
-        goldenGem = AssetLoader.loadImage(AssetLoader.GOLDEN_GEM);
-        frostGem = AssetLoader.loadImage(AssetLoader.FROST_GEM);
-        purpleGem = AssetLoader.loadImage(AssetLoader.PURPLE_GEM);
-        rubyGem = AssetLoader.loadImage(AssetLoader.RUBY_GEM);
-        cyanGem = AssetLoader.loadImage(AssetLoader.CYAN_GEM);
-        sapphireGem = AssetLoader.loadImage(AssetLoader.SAPPHIRE_GEM);
-        emeraldGem = AssetLoader.loadImage(AssetLoader.EMERALD_GEM);
-        orangeGem = AssetLoader.loadImage(AssetLoader.ORANGE_GEM);
-        bomb = AssetLoader.loadImage(AssetLoader.BLACK_GEM);
-
-        if (goldenGem == null || bomb == null) {
-            System.err.println("Warning: Some essential gem images failed to load!");
+        for (int i = 0; i < COLORS.length; i++) {
+            RING_COLORS[i] = new Color(COLORS[i].getRed(), COLORS[i].getGreen(), COLORS[i].getBlue(), 100);
         }
     }
 
-    public Ball(int x, int y, int direction) {
-        this.x = x;
-        this.y = y;
-        this.direction = direction;
-        this.value = GameConstants.BALL_VALUES[random.nextInt(GameConstants.BALL_VALUES.length)];
-        this.active = true;
-        
-        this.color = generateColorByValue(value);
-        this.glowIntensity = random.nextFloat() * 0.5f + 0.3f;
+    private Ball() {
     }
 
-    private Color generateColorByValue(int value) {
-        switch (value) {
-            case 10: return new Color(255, 69, 0);    // Red-Orange (bomb/danger)
-            case 20: return new Color(34, 139, 34);   // Forest Green (low value)
-            case 30: return new Color(30, 144, 255);  // Dodger Blue (medium-low)
-            case 40: return new Color(138, 43, 226);  // Blue Violet (medium)
-            case 50: return new Color(255, 140, 0);   // Dark Orange (medium-high)
-            case 60: return new Color(220, 20, 60);   // Crimson (high value)
-            case 70: return new Color(255, 215, 0);   // Gold (very high)
-            case 80: return new Color(148, 0, 211);   // Dark Violet (premium)
-            case 90: return new Color(255, 20, 147);  // Deep Pink (rare/special)
-            default: return new Color(192, 192, 192); // Light Gray (neutral)
-        }
-    
+    /**
+     * Warna sihir untuk nilai bola
+     */
+    public static Color colorOf(int value) {
+        return COLORS[colorIndex(value)];
     }
 
-    private BufferedImage getGemImageByValue(int value) {
-        switch (value) {
-            case 10: return bomb; // Orange gem for 10 points
-            case 20: return orangeGem; // Green gem
-            case 30: return emeraldGem; // Blue gem
-            case 40: return sapphireGem; // Cyan gem
-            case 50: return cyanGem; // Red gem
-            case 60: return rubyGem; // Frost gem
-            case 70: return purpleGem; // Golden gem
-            case 80: return frostGem; // Magical green gem
-            case 90: return goldenGem; // Magical red gem
-            default: return bomb; // Fallback to bomb image for undefined values
-        }
+    private static int colorIndex(int value) {
+        return value % 10 == 0 && value >= 10 && value <= 90 ? value / 10 : 0;
     }
 
-    public void update() {
-        if (!active) return;
-
-        // Update magical effects
-        updateMagicalEffects();
-
-        if (transitioningFromCharacterToBasket || transitioningToBasket) {
-            int dx = basketX - x;
-            int dy = basketY - y;
-            double distance = Math.sqrt(dx * dx + dy * dy);
-
-            if (distance > GameConstants.BALL_SPEED * 3) {
-                double ratio = GameConstants.BALL_SPEED * 3 / distance;
-                x += (int)(dx * ratio);
-                y += (int)(dy * ratio);
-            } else {
-                x = basketX;
-                y = basketY;
-            }
-
-            if (x == basketX && y == basketY) {
-                active = false;
-                transitioningFromCharacterToBasket = false;
-                transitioningToBasket = false;
-            }
-        } else {
-            x += direction * GameConstants.BALL_SPEED;
-
-            // Periksa jika bola sudah keluar dari layar
-            if (direction == 1 && x > GameConstants.WINDOW_WIDTH + GameConstants.BALL_SIZE) { // Bergerak ke kanan, keluar di kanan
-                active = false;
-            } else if (direction == -1 && x < -GameConstants.BALL_SIZE) { // Bergerak ke kiri, keluar di kiri
-                active = false;
-            }
+    private static TextureAtlas.Region getGemImageByValue(int value) {
+        switch (value) {
+            case 10: return GemSprites.bomb; // Orange gem for 10 points
+            case 20: return GemSprites.orangeGem; // Green gem
+            case 30: return GemSprites.emeraldGem; // Blue gem
+            case 40: return GemSprites.sapphireGem; // Cyan gem
+            case 50: return GemSprites.cyanGem; // Red gem
+            case 60: return GemSprites.rubyGem; // Frost gem
+            case 70: return GemSprites.purpleGem; // Golden gem
+            case 80: return GemSprites.frostGem; // Magical green gem
+            case 90: return GemSprites.goldenGem; // Magical red gem
+            default: return GemSprites.bomb; // Fallback to bomb image for undefined values
         }
     }
 
-    private void updateMagicalEffects() {
-        // Glow effect
-        if (glowIncreasing) {
-            glowIntensity += 0.02f;
-            if (glowIntensity >= 1.0f) {
-                glowIntensity = 1.0f;
-                glowIncreasing = false;
-            }
-        } else {
-            glowIntensity -= 0.02f;
-            if (glowIntensity <= 0.3f) {
-                glowIntensity = 0.3f;
-                glowIncreasing = true;
-            }
-        }
-
-        // Rotation for magical spinning
-        rotation += 2.0f;
-        if (rotation >= 360.0f) {
-            rotation = 0.0f;
-        }
-
-        // Pulse effect for high-value gems
-        if (value >= 70) {
-            if (pulseIncreasing) {
-                pulseScale += 0.01f;
-                if (pulseScale >= 1.2f) {
-                    pulseScale = 1.2f;
-                    pulseIncreasing = false;
-                }
-            } else {
-                pulseScale -= 0.01f;
-                if (pulseScale <= 1.0f) {
-                    pulseScale = 1.0f;
-                    pulseIncreasing = true;
-                }
-            }
+    /**
+     * Render semua bola aktif di penyimpanan
+     * @param g2d Graphics2D untuk menggambar
+     * @param balls Penyimpanan bola
+     * @param alpha Faktor interpolasi (0 = posisi sebelumnya, 1 = posisi saat ini)
+     */
+    public static void renderAll(Graphics2D g2d, BallStore balls, float alpha) {
+        AffineTransform base = g2d.getTransform();
+        for (int slot = 0; slot < balls.size(); slot++) {
+            render(g2d, balls, slot, alpha, base);
         }
-
-        sparkleTimer++;
     }
 
     /**
-     * Render bola dengan efek visual sihir
+     * Render satu bola pada posisi interpolasi antara langkah simulasi sebelumnya dan saat ini
      * @param g2d Graphics2D untuk menggambar
+     * @param balls Penyimpanan bola
+     * @param slot Slot bola di penyimpanan
+     * @param alpha Faktor interpolasi (0 = posisi sebelumnya, 1 = posisi saat ini)
+     */
+    public static void render(Graphics2D g2d, BallStore balls, int slot, float alpha) {
+        if (!balls.isActive(slot)) return;
+        render(g2d, balls, slot, alpha, g2d.getTransform());
+    }
+
+    /**
+     * @param base Transformasi sebelum bola digambar; dipulihkan persis setelah rotasi, karena
+     *             rotasi balik menyisakan galat pembulatan yang membuat setiap drawImage berikutnya
+     *             melewati jalur transformasi gambar yang mengalokasikan
      */
-    public void render(Graphics2D g2d) {
-        if (!active) return;
-    
-        Graphics2D g2dCopy = (Graphics2D) g2d.create();
-        
+    private static void render(Graphics2D g2d, BallStore balls, int slot, float alpha, AffineTransform base) {
+        if (!balls.isActive(slot)) return;
+
+        // Status grafis dipulihkan manual di akhir; Graphics2D.create() per bola membuat objek baru setiap frame
+        Composite previousComposite = g2d.getComposite();
+        Paint previousPaint = g2d.getPaint();
+
+        int value = balls.value[slot];
+        int x = Math.round(balls.prevX[slot] + (balls.x[slot] - balls.prevX[slot]) * alpha);
+        int y = Math.round(balls.prevY[slot] + (balls.y[slot] - balls.prevY[slot]) * alpha);
+        float glowIntensity = balls.glow[slot];
+
         int ballSize = GameConstants.BALL_SIZE + (value == 100 ? 10 : 0);
-        int renderSize = (int)(ballSize * pulseScale);
+        int renderSize = (int)(ballSize * balls.pulse[slot]);
         int offsetX = (ballSize - renderSize) / 2;
         int offsetY = (ballSize - renderSize) / 2;
-    
-        // Gambar efek cahaya sihir
-        drawMagicalGlow(g2dCopy, x + offsetX, y + offsetY, renderSize);
-    
+
+        // Gambar efek cahaya sihir; sprite cahaya diambil dari cache, bukan gradien baru setiap frame
+        GlowSpriteCache.draw(g2d, colorIndex(value), colorOf(value), glowIntensity, x + offsetX, y + offsetY, renderSize);
+
         // Gambar kilauan untuk bola bernilai tinggi
-        if (value >= 50 && sparkleTimer % 10 == 0) {
-            drawSparkles(g2dCopy, x + ballSize/2, y + ballSize/2);
+        if (value >= 50 && balls.sparkleTimer[slot] % 10 == 0) {
+            drawSparkles(g2d, x + ballSize/2, y + ballSize/2);
         }
-    
+
         // Terapkan rotasi untuk efek sihir
-        if (value >= 70) {
-            g2dCopy.rotate(Math.toRadians(rotation), x + ballSize/2.0, y + ballSize/2.0);
+        double rotation = value >= 70 ? Math.toRadians(balls.rotation[slot]) : 0.0;
+        if (rotation != 0.0) {
+            g2d.rotate(rotation, x + ballSize/2.0, y + ballSize/2.0);
         }
-    
+
         // Gambar gambar permata
-        BufferedImage gemImage = getGemImageByValue(value);
+        TextureAtlas.Region gemImage = getGemImageByValue(value);
         if (gemImage != null) {
             // Tambahkan efek shimmer sihir
             if (value >= 50) {
-                g2dCopy.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.8f + glowIntensity * 0.2f));
+                g2d.setComposite(GlowSpriteCache.composite(0.8f + glowIntensity * 0.2f));
+            }
+            BufferedImage scaled = GemSprites.scaled(colorIndex(value), gemImage, renderSize);
+            if (scaled != null) {
+                g2d.drawImage(scaled, x + offsetX, y + offsetY, null);
+            } else {
+                gemImage.draw(g2d, x + offsetX, y + offsetY, renderSize, renderSize);
             }
-            g2dCopy.drawImage(gemImage, x + offsetX, y + offsetY, renderSize, renderSize, null);
-            g2dCopy.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 1.0f));
         } else {
             // Gambar lingkaran sihir sebagai fallback
-            drawMagicalCircle(g2dCopy, x + offsetX, y + offsetY, renderSize);
+            drawMagicalCircle(g2d, colorIndex(value), x + offsetX, y + offsetY, renderSize);
         }
-    
-        g2dCopy.dispose();
-    }
 
-    private void drawMagicalGlow(Graphics2D g2d, int centerX, int centerY, int size) {
-        Color glowColor = new Color(color.getRed(), color.getGreen(), color.getBlue(), 
-                                   (int)(100 * glowIntensity));
-        
-        float[] fractions = {0.0f, 0.5f, 1.0f};
-        Color[] colors = {
-            new Color(glowColor.getRed(), glowColor.getGreen(), glowColor.getBlue(), 
-                     (int)(150 * glowIntensity)),
-            new Color(glowColor.getRed(), glowColor.getGreen(), glowColor.getBlue(), 
-                     (int)(50 * glowIntensity)),
-            new Color(glowColor.getRed(), glowColor.getGreen(), glowColor.getBlue(), 0)
-        };
-
-        RadialGradientPaint gradient = new RadialGradientPaint(
-            new Point2D.Float(centerX + size/2, centerY + size/2),
-            size/2 + 20,
-            fractions, colors,
-            MultipleGradientPaint.CycleMethod.NO_CYCLE
-        );
-
-        g2d.setPaint(gradient);
-        g2d.fillOval(centerX - 10, centerY - 10, size + 20, size + 20);
+        if (rotation != 0.0) {
+            g2d.setTransform(base);
+        }
+        g2d.setComposite(previousComposite);
+        g2d.setPaint(previousPaint);
     }
 
-    private void drawSparkles(Graphics2D g2d, int centerX, int centerY) {
-        g2d.setColor(Color.WHITE);
+    private static void drawSparkles(Graphics2D g2d, int centerX, int centerY) {
+        // Acak khusus render, terpisah dari sumber acak sesi agar tidak memengaruhi simulasi
+        ThreadLocalRandom random = ThreadLocalRandom.current();
         for (int i = 0; i < 5; i++) {
             int sparkleX = centerX + random.nextInt(40) - 20;
             int sparkleY = centerY + random.nextInt(40) - 20;
-            g2d.fillOval(sparkleX, sparkleY, 3, 3);
-            
-            // Draw cross sparkle
-            g2d.drawLine(sparkleX - 3, sparkleY, sparkleX + 3, sparkleY);
-            g2d.drawLine(sparkleX, sparkleY - 3, sparkleX, sparkleY + 3);
+            SPARKLE_SPRITES.draw(g2d, sparkleX, sparkleY, DotSprites.ALPHA_LEVELS - 1);
         }
     }
 
-    private void drawMagicalCircle(Graphics2D g2d, int x, int y, int size) {
+    private static void drawMagicalCircle(Graphics2D g2d, int colorIndex, int x, int y, int size) {
+        Color color = COLORS[colorIndex];
         // Outer magical ring
-        g2d.setColor(new Color(color.getRed(), color.getGreen(), color.getBlue(), 100));
+        g2d.setColor(RING_COLORS[colorIndex]);
         g2d.fillOval(x - 5, y - 5, size + 10, size + 10);
-        
+
         // Inner gem
         g2d.setColor(color);
         g2d.fillOval(x, y, size, size);
-        
+
         // Magical border
         g2d.setColor(Color.WHITE);
         g2d.drawOval(x, y, size, size);
     }
 
-    public Rectangle getBounds() {
-        return new Rectangle(x, y, GameConstants.BALL_SIZE, GameConstants.BALL_SIZE);
-    }
-
-    public boolean contains(int px, int py) {
-        return getBounds().contains(px, py);
-    }
-
-    // Getters
-    public int getX() { return x; }
-    public int getY() { return y; }
-    public int getValue() { return value; }
-    public boolean isActive() { return active; }
-    public Color getColor() { return color; }
-
-    public boolean isTransitioningToBasket() {
-        return transitioningToBasket || transitioningFromCharacterToBasket;
-    }
-
-    // Setters
-    public void setX(int x) { this.x = x; }
-    public void setY(int y) { this.y = y; }
-    public void setActive(boolean active) { this.active = active; }
-
-    public int getCenterX() {
-        return x + GameConstants.BALL_SIZE / 2;
-    }
-
-    public int getCenterY() {
-        return y + GameConstants.BALL_SIZE / 2;
-    }
-
-    public void startTransitionToBasket() {
-        transitioningToBasket = true;
-    }
-
-    public void startTransitionFromCharacterToBasket() {
-        transitioningFromCharacterToBasket = true;
-        transitioningToBasket = false;
+    /**
+     * Region permata di atlas tekstur sprite
+     * Baru dimuat saat bola pertama kali dirender, sehingga simulasi headless tidak membaca gambar.
+     * Salinan berskala per ukuran render disimpan agar drawImage per frame tidak perlu menskalakan,
+     * karena jalur skala Java2D membuat objek transformasi baru setiap panggilan
+     */
+    private static final class GemSprites {
+        // Ukuran render terbesar yang disimpan; sama dengan batas cache cahaya
+        static final int MAX_SCALED_SIZE = 96;
+
+        static final TextureAtlas.Region goldenGem, frostGem, purpleGem, rubyGem, cyanGem, sapphireGem, emeraldGem, orangeGem, bomb;
+        // [indeks warna][ukuran]; setiap indeks warna selalu memetakan ke region yang sama
+        static final BufferedImage[][] scaled = new BufferedImage[COLORS.length][MAX_SCALED_SIZE + 1];
+
+        static {
+            TextureAtlas atlas = TextureAtlas.getSprites();
+            goldenGem = atlas.getRegion(AssetLoader.GOLDEN_GEM);
+            frostGem = atlas.getRegion(AssetLoader.FROST_GEM);
+            purpleGem = atlas.getRegion(AssetLoader.PURPLE_GEM);
+            rubyGem = atlas.getRegion(AssetLoader.RUBY_GEM);
+            cyanGem = atlas.getRegion(AssetLoader.CYAN_GEM);
+            sapphireGem = atlas.getRegion(AssetLoader.SAPPHIRE_GEM);
+            emeraldGem = atlas.getRegion(AssetLoader.EMERALD_GEM);
+            orangeGem = atlas.getRegion(AssetLoader.ORANGE_GEM);
+            bomb = atlas.getRegion(AssetLoader.BLACK_GEM);
+
+            if (goldenGem == null || bomb == null) {
+                System.err.println("Warning: Some essential gem images failed to load!");
+            }
+        }
 
+        /**
+         * Salinan region pada ukuran render, atau null jika ukurannya di luar cache
+         */
+        static BufferedImage scaled(int colorIndex, TextureAtlas.Region region, int size) {
+            if (size <= 0 || size > MAX_SCALED_SIZE) {
+                return null;
+            }
+            BufferedImage image = scaled[colorIndex][size];
+            if (image == null) {
+                image = AssetLoader.createCompatibleImage(size, size, Transparency.TRANSLUCENT);
+                Graphics2D g2d = image.createGraphics();
+                try {
+                    region.draw(g2d, 0, 0, size, size);
+                } finally {
+                    g2d.dispose();
+                }
+                scaled[colorIndex][size] = image;
+            }
+            return image;
+        }
     }
-}
\ No newline at end of file
+}
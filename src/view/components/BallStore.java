@@ -0,0 +1,353 @@
+package view.components;
+
+import java.util.Arrays;
+import java.util.Random;
+import utils.GameConstants;
+
+/**
+ * Penyimpanan bola dalam bentuk struct-of-arrays
+ * Setiap atribut bola disimpan di array primitif paralel yang diindeks dengan slot. Slot selalu
+ * rapat: bola yang dihapus digantikan bola di slot terakhir (swap-remove), sehingga update dan
+ * render cukup mengiterasi 0..size()-1 tanpa objek per bola. Karena slot dapat berpindah,
+ * referensi jangka panjang ke bola (misalnya bola yang tertangkap lasso) memakai handle stabil
+ * yang diterjemahkan ke slot dengan slotOf()
+ */
+public class BallStore {
+    // Bit status di array flags
+    static final int ACTIVE = 1;
+    static final int TO_BASKET = 1 << 1;
+    static final int FROM_CHARACTER_TO_BASKET = 1 << 2;
+    static final int GLOW_INCREASING = 1 << 3;
+    static final int PULSE_INCREASING = 1 << 4;
+
+    // Handle = [generasi | indeks id]; generasi bertambah setiap kali id dipakai ulang
+    private static final int ID_BITS = 20;
+    private static final int ID_MASK = (1 << ID_BITS) - 1;
+    private static final int GENERATION_MASK = (1 << (31 - ID_BITS)) - 1;
+
+    private static final int BASKET_X = GameConstants.BASKET_X + GameConstants.BASKET_WIDTH / 2 - GameConstants.BALL_SIZE / 2;
+    private static final int BASKET_Y = GameConstants.BASKET_Y + GameConstants.BASKET_HEIGHT / 2 - GameConstants.BALL_SIZE / 2;
+
+    private int size;
+    int[] x, y, prevX, prevY;
+    int[] value, direction, sparkleTimer, flags, handle;
+    float[] glow, rotation, pulse;
+    // Tautan daftar intrusif SpatialGrid per slot
+    int[] gridPrev, gridNext, gridCell;
+
+    // Tabel id -> slot untuk handle stabil
+    private int[] slotOfId;
+    private int[] generation;
+    private int[] freeIds;
+    private int freeCount;
+    private int nextId;
+
+    // Statistik pemakaian ulang slot
+    private int highWater;
+    private long adds;
+    private long reusedSlots;
+    private int grows;
+
+    // Null pada salinan untuk render
+    private final SpatialGrid grid;
+
+    public BallStore(int initialCapacity) {
+        int capacity = Math.max(1, initialCapacity);
+        x = new int[capacity];
+        y = new int[capacity];
+        prevX = new int[capacity];
+        prevY = new int[capacity];
+        value = new int[capacity];
+        direction = new int[capacity];
+        sparkleTimer = new int[capacity];
+        flags = new int[capacity];
+        handle = new int[capacity];
+        glow = new float[capacity];
+        rotation = new float[capacity];
+        pulse = new float[capacity];
+        gridPrev = new int[capacity];
+        gridNext = new int[capacity];
+        gridCell = new int[capacity];
+        slotOfId = new int[capacity];
+        generation = new int[capacity];
+        freeIds = new int[capacity];
+        grid = new SpatialGrid(this);
+    }
+
+    /**
+     * Salinan untuk potret render; hanya slot yang terpakai yang disalin, tanpa grid
+     */
+    private BallStore(BallStore other) {
+        size = other.size;
+        x = Arrays.copyOf(other.x, size);
+        y = Arrays.copyOf(other.y, size);
+        prevX = Arrays.copyOf(other.prevX, size);
+        prevY = Arrays.copyOf(other.prevY, size);
+        value = Arrays.copyOf(other.value, size);
+        direction = Arrays.copyOf(other.direction, size);
+        sparkleTimer = Arrays.copyOf(other.sparkleTimer, size);
+        flags = Arrays.copyOf(other.flags, size);
+        handle = Arrays.copyOf(other.handle, size);
+        glow = Arrays.copyOf(other.glow, size);
+        rotation = Arrays.copyOf(other.rotation, size);
+        pulse = Arrays.copyOf(other.pulse, size);
+        slotOfId = Arrays.copyOf(other.slotOfId, other.nextId);
+        generation = Arrays.copyOf(other.generation, other.nextId);
+        nextId = other.nextId;
+        grid = null;
+    }
+
+    public BallStore copy() {
+        return new BallStore(this);
+    }
+
+    /**
+     * Tambahkan bola baru dengan nilai dan fase cahaya acak dari sumber acak sesi
+     * @return Handle stabil bola
+     */
+    public int add(int x, int y, int direction, Random random) {
+        if (size == this.x.length) {
+            grow();
+        }
+        int slot = size++;
+        adds++;
+        if (slot < highWater) {
+            reusedSlots++;
+        } else {
+            highWater = size;
+        }
+        this.x[slot] = x;
+        this.y[slot] = y;
+        this.prevX[slot] = x;
+        this.prevY[slot] = y;
+        this.direction[slot] = direction;
+        this.value[slot] = GameConstants.BALL_VALUES[random.nextInt(GameConstants.BALL_VALUES.length)];
+        this.glow[slot] = random.nextFloat() * 0.5f + 0.3f;
+        this.rotation[slot] = 0.0f;
+        this.pulse[slot] = 1.0f;
+        this.sparkleTimer[slot] = 0;
+        this.flags[slot] = ACTIVE | GLOW_INCREASING | PULSE_INCREASING;
+
+        int id = freeCount > 0 ? freeIds[--freeCount] : nextId++;
+        slotOfId[id] = slot;
+        handle[slot] = generation[id] << ID_BITS | id;
+
+        gridCell[slot] = -1;
+        grid.insert(slot);
+        return handle[slot];
+    }
+
+    /**
+     * Hapus bola dengan memindahkan bola di slot terakhir ke slot ini
+     */
+    public void remove(int slot) {
+        int id = handle[slot] & ID_MASK;
+        generation[id] = (generation[id] + 1) & GENERATION_MASK;
+        slotOfId[id] = -1;
+        freeIds[freeCount++] = id;
+        if (grid != null) {
+            grid.remove(slot);
+        }
+
+        int last = --size;
+        if (slot == last) {
+            return;
+        }
+        if (grid != null) {
+            grid.remove(last);
+        }
+        x[slot] = x[last];
+        y[slot] = y[last];
+        prevX[slot] = prevX[last];
+        prevY[slot] = prevY[last];
+        value[slot] = value[last];
+        direction[slot] = direction[last];
+        sparkleTimer[slot] = sparkleTimer[last];
+        flags[slot] = flags[last];
+        handle[slot] = handle[last];
+        glow[slot] = glow[last];
+        rotation[slot] = rotation[last];
+        pulse[slot] = pulse[last];
+        slotOfId[handle[slot] & ID_MASK] = slot;
+        if (grid != null) {
+            grid.insert(slot);
+        }
+    }
+
+    /**
+     * Satu langkah simulasi: buang bola yang sudah tidak aktif lalu gerakkan semua bola
+     */
+    public void update() {
+        for (int slot = size - 1; slot >= 0; slot--) {
+            if ((flags[slot] & ACTIVE) == 0) {
+                remove(slot);
+            }
+        }
+        for (int slot = 0; slot < size; slot++) {
+            updateBall(slot);
+            grid.update(slot);
+        }
+    }
+
+    private void updateBall(int slot) {
+        prevX[slot] = x[slot];
+        prevY[slot] = y[slot];
+
+        updateMagicalEffects(slot);
+
+        if ((flags[slot] & (TO_BASKET | FROM_CHARACTER_TO_BASKET)) != 0) {
+            int dx = BASKET_X - x[slot];
+            int dy = BASKET_Y - y[slot];
+            int step = GameConstants.BALL_SPEED * 3;
+
+            // Bandingkan jarak kuadrat; akar hanya dihitung saat bola masih jauh
+            if (dx * dx + dy * dy > step * step) {
+                double ratio = step / Math.sqrt(dx * dx + dy * dy);
+                x[slot] += (int) (dx * ratio);
+                y[slot] += (int) (dy * ratio);
+            } else {
+                x[slot] = BASKET_X;
+                y[slot] = BASKET_Y;
+            }
+
+            if (x[slot] == BASKET_X && y[slot] == BASKET_Y) {
+                flags[slot] &= ~(ACTIVE | TO_BASKET | FROM_CHARACTER_TO_BASKET);
+            }
+        } else {
+            x[slot] += direction[slot] * GameConstants.BALL_SPEED;
+
+            // Periksa jika bola sudah keluar dari layar
+            if (direction[slot] == 1 && x[slot] > GameConstants.WINDOW_WIDTH + GameConstants.BALL_SIZE) {
+                flags[slot] &= ~ACTIVE;
+            } else if (direction[slot] == -1 && x[slot] < -GameConstants.BALL_SIZE) {
+                flags[slot] &= ~ACTIVE;
+            }
+        }
+    }
+
+    private void updateMagicalEffects(int slot) {
+        // Efek cahaya
+        if ((flags[slot] & GLOW_INCREASING) != 0) {
+            glow[slot] += 0.02f;
+            if (glow[slot] >= 1.0f) {
+                glow[slot] = 1.0f;
+                flags[slot] &= ~GLOW_INCREASING;
+            }
+        } else {
+            glow[slot] -= 0.02f;
+            if (glow[slot] <= 0.3f) {
+                glow[slot] = 0.3f;
+                flags[slot] |= GLOW_INCREASING;
+            }
+        }
+
+        // Rotasi untuk putaran sihir
+        rotation[slot] += 2.0f;
+        if (rotation[slot] >= 360.0f) {
+            rotation[slot] = 0.0f;
+        }
+
+        // Efek denyut untuk permata bernilai tinggi
+        if (value[slot] >= 70) {
+            if ((flags[slot] & PULSE_INCREASING) != 0) {
+                pulse[slot] += 0.01f;
+                if (pulse[slot] >= 1.2f) {
+                    pulse[slot] = 1.2f;
+                    flags[slot] &= ~PULSE_INCREASING;
+                }
+            } else {
+                pulse[slot] -= 0.01f;
+                if (pulse[slot] <= 1.0f) {
+                    pulse[slot] = 1.0f;
+                    flags[slot] |= PULSE_INCREASING;
+                }
+            }
+        }
+
+        sparkleTimer[slot]++;
+    }
+
+    /**
+     * Pindahkan bola langsung tanpa interpolasi (misalnya ditempelkan ke ujung lasso)
+     */
+    public void setPosition(int slot, int x, int y) {
+        this.x[slot] = x;
+        this.y[slot] = y;
+        this.prevX[slot] = x;
+        this.prevY[slot] = y;
+        if (grid != null) {
+            grid.update(slot);
+        }
+    }
+
+    public void startTransitionToBasket(int slot) {
+        flags[slot] |= TO_BASKET;
+    }
+
+    public void startTransitionFromCharacterToBasket(int slot) {
+        flags[slot] = (flags[slot] | FROM_CHARACTER_TO_BASKET) & ~TO_BASKET;
+    }
+
+    /**
+     * Slot bola untuk handle, atau -1 jika bola sudah dihapus
+     */
+    public int slotOf(int handle) {
+        int id = handle & ID_MASK;
+        if (handle < 0 || id >= nextId || generation[id] != handle >>> ID_BITS) {
+            return -1;
+        }
+        return slotOfId[id];
+    }
+
+    private void grow() {
+        grows++;
+        int capacity = x.length * 2;
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        prevX = Arrays.copyOf(prevX, capacity);
+        prevY = Arrays.copyOf(prevY, capacity);
+        value = Arrays.copyOf(value, capacity);
+        direction = Arrays.copyOf(direction, capacity);
+        sparkleTimer = Arrays.copyOf(sparkleTimer, capacity);
+        flags = Arrays.copyOf(flags, capacity);
+        handle = Arrays.copyOf(handle, capacity);
+        glow = Arrays.copyOf(glow, capacity);
+        rotation = Arrays.copyOf(rotation, capacity);
+        pulse = Arrays.copyOf(pulse, capacity);
+        gridPrev = Arrays.copyOf(gridPrev, capacity);
+        gridNext = Arrays.copyOf(gridNext, capacity);
+        gridCell = Arrays.copyOf(gridCell, capacity);
+        // Jumlah id hidup tidak pernah melebihi kapasitas slot
+        slotOfId = Arrays.copyOf(slotOfId, capacity);
+        generation = Arrays.copyOf(generation, capacity);
+        freeIds = Arrays.copyOf(freeIds, capacity);
+    }
+
+    /**
+     * Ringkasan pemakaian ulang slot: berapa bola baru yang menempati slot bekas tanpa alokasi
+     */
+    public String getSlotStats() {
+        return String.format("BallStore{adds=%d, reused=%d (%.1f%%), grows=%d, size=%d/%d}",
+                             adds, reusedSlots, adds == 0 ? 0 : reusedSlots * 100.0 / adds, grows, size, x.length);
+    }
+
+    public SpatialGrid getGrid() { return grid; }
+    public int size() { return size; }
+    public int getHandle(int slot) { return handle[slot]; }
+    public int getX(int slot) { return x[slot]; }
+    public int getY(int slot) { return y[slot]; }
+    public int getValue(int slot) { return value[slot]; }
+    public boolean isActive(int slot) { return (flags[slot] & ACTIVE) != 0; }
+
+    public boolean isTransitioningToBasket(int slot) {
+        return (flags[slot] & (TO_BASKET | FROM_CHARACTER_TO_BASKET)) != 0;
+    }
+
+    public int getCenterX(int slot) {
+        return x[slot] + GameConstants.BALL_SIZE / 2;
+    }
+
+    public int getCenterY(int slot) {
+        return y[slot] + GameConstants.BALL_SIZE / 2;
+    }
+}
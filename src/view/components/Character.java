@@ -2,9 +2,9 @@ package view.components;
 
 import java.awt.Graphics2D;
 import java.awt.Rectangle;
-import java.awt.image.BufferedImage;
 import utils.GameConstants;
 import utils.AssetLoader; // Tambahkan import ini
+import utils.TextureAtlas;
 
 /**
  * Merepresentasikan komponen visual untuk karakter utama game.
@@ -12,15 +12,10 @@ import utils.AssetLoader; // Tambahkan import ini
  */
 public class Character {
     private int x, y;
+    private int prevX, prevY;
     private int targetX, targetY;
     private boolean moving;
     
-    // Variabel animasi
-    private BufferedImage[] downSprites = new BufferedImage[4];  
-    private BufferedImage[] upSprites = new BufferedImage[4];    
-    private BufferedImage[] leftSprites = new BufferedImage[4];   
-    private BufferedImage[] rightSprites = new BufferedImage[4];  
-    
     private int currentFrame = 0;
     private int animationCounter = 0;
     private static final int ANIMATION_SPEED = 8; // Mengontrol kecepatan animasi
@@ -39,53 +34,39 @@ public class Character {
         this.y = GameConstants.CHARACTER_START_Y;
         this.targetX = x;
         this.targetY = y;
+        this.prevX = x;
+        this.prevY = y;
         this.moving = false;
-        
-        loadSprites();
     }
 
     /**
-     * Memuat semua sprite karakter
+     * Salinan karakter untuk potret render
      */
-    private void loadSprites() {
-        // Ganti string literal dengan konstanta dari AssetLoader
-        downSprites[0] = AssetLoader.loadImage(AssetLoader.CHAR_DOWN_F1);
-        downSprites[1] = AssetLoader.loadImage(AssetLoader.CHAR_DOWN_F2);
-        downSprites[2] = AssetLoader.loadImage(AssetLoader.CHAR_DOWN_F3);
-        downSprites[3] = AssetLoader.loadImage(AssetLoader.CHAR_DOWN_F4);
-        
-        upSprites[0] = AssetLoader.loadImage(AssetLoader.CHAR_UP_F1);
-        upSprites[1] = AssetLoader.loadImage(AssetLoader.CHAR_UP_F2);
-        upSprites[2] = AssetLoader.loadImage(AssetLoader.CHAR_UP_F3);
-        upSprites[3] = AssetLoader.loadImage(AssetLoader.CHAR_UP_F4);
-        
-        leftSprites[0] = AssetLoader.loadImage(AssetLoader.CHAR_LEFT_F1);
-        leftSprites[1] = AssetLoader.loadImage(AssetLoader.CHAR_LEFT_F2);
-        leftSprites[2] = AssetLoader.loadImage(AssetLoader.CHAR_LEFT_F3);
-        leftSprites[3] = AssetLoader.loadImage(AssetLoader.CHAR_LEFT_F4);
-        
-        rightSprites[0] = AssetLoader.loadImage(AssetLoader.CHAR_RIGHT_F1);
-        rightSprites[1] = AssetLoader.loadImage(AssetLoader.CHAR_RIGHT_F2);
-        rightSprites[2] = AssetLoader.loadImage(AssetLoader.CHAR_RIGHT_F3);
-        rightSprites[3] = AssetLoader.loadImage(AssetLoader.CHAR_RIGHT_F4);
-        
-        boolean allLoaded = true;
-        for (BufferedImage sprite : downSprites) if (sprite == null) allLoaded = false;
-        for (BufferedImage sprite : upSprites) if (sprite == null) allLoaded = false;
-        for (BufferedImage sprite : leftSprites) if (sprite == null) allLoaded = false;
-        for (BufferedImage sprite : rightSprites) if (sprite == null) allLoaded = false;
+    private Character(Character other) {
+        this.x = other.x;
+        this.y = other.y;
+        this.prevX = other.prevX;
+        this.prevY = other.prevY;
+        this.targetX = other.targetX;
+        this.targetY = other.targetY;
+        this.moving = other.moving;
+        this.currentFrame = other.currentFrame;
+        this.animationCounter = other.animationCounter;
+        this.currentDirection = other.currentDirection;
+        this.lastDirection = other.lastDirection;
+    }
 
-        if (allLoaded) {
-            System.out.println("Sprite karakter berhasil dimuat!");
-        } else {
-            System.err.println("Error: Beberapa sprite karakter gagal dimuat.");
-        }
+    public Character copy() {
+        return new Character(this);
     }
 
     /**
      * Memperbarui posisi karakter dengan pergerakan halus dan animasi
      */
     public void update() {
+        prevX = x;
+        prevY = y;
+
         // Selalu perbarui penghitung animasi untuk animasi yang halus
         updateAnimation();
         
@@ -216,6 +197,8 @@ public class Character {
     public void setPosition(int x, int y) {
         this.x = Math.max(0, Math.min(GameConstants.WINDOW_WIDTH - GameConstants.CHARACTER_SIZE, x));
         this.y = Math.max(0, Math.min(GameConstants.GAME_AREA_HEIGHT - GameConstants.CHARACTER_SIZE, y));
+        this.prevX = this.x;
+        this.prevY = this.y;
         this.targetX = this.x;
         this.targetY = this.y;
         this.moving = false;
@@ -227,11 +210,22 @@ public class Character {
      * @param g2d Graphics2D untuk menggambar
      */
     public void render(Graphics2D g2d) {
-        BufferedImage currentSprite = getCurrentSprite();
+        render(g2d, 1.0f);
+    }
+
+    /**
+     * Merender karakter pada posisi interpolasi antara langkah simulasi sebelumnya dan saat ini
+     * @param g2d Graphics2D untuk menggambar
+     * @param alpha Faktor interpolasi (0 = posisi sebelumnya, 1 = posisi saat ini)
+     */
+    public void render(Graphics2D g2d, float alpha) {
+        TextureAtlas.Region currentSprite = getCurrentSprite();
+        int x = Math.round(prevX + (this.x - prevX) * alpha);
+        int y = Math.round(prevY + (this.y - prevY) * alpha);
         
         if (currentSprite != null) {
             // Gambar sprite pada posisi karakter
-            g2d.drawImage(currentSprite, x, y, GameConstants.CHARACTER_SIZE, GameConstants.CHARACTER_SIZE, null);
+            currentSprite.drawCached(g2d, x, y, GameConstants.CHARACTER_SIZE, GameConstants.CHARACTER_SIZE);
         } else {
             // Fallback ke persegi sederhana jika sprite gagal dimuat
             g2d.setColor(GameConstants.CHARACTER_COLOR);
@@ -242,19 +236,19 @@ public class Character {
     /**
      * Mendapatkan sprite saat ini berdasarkan arah dan frame animasi
      */
-    private BufferedImage getCurrentSprite() {
+    private TextureAtlas.Region getCurrentSprite() {
         try {
             switch (currentDirection) {
                 case DIRECTION_DOWN:
-                    return downSprites[currentFrame];
+                    return Sprites.DOWN[currentFrame];
                 case DIRECTION_UP:
-                    return upSprites[currentFrame];
+                    return Sprites.UP[currentFrame];
                 case DIRECTION_LEFT:
-                    return leftSprites[currentFrame];
+                    return Sprites.LEFT[currentFrame];
                 case DIRECTION_RIGHT:
-                    return rightSprites[currentFrame];
+                    return Sprites.RIGHT[currentFrame];
                 default:
-                    return downSprites[0]; // Default ke menghadap bawah
+                    return Sprites.DOWN[0]; // Default ke menghadap bawah
             }
         } catch (Exception e) {
             System.err.println("Error mendapatkan sprite saat ini: " + e.getMessage());
@@ -294,4 +288,44 @@ public class Character {
         animationCounter = 0;
     }
 
-}
\ No newline at end of file
+    /**
+     * Sprite karakter; setiap frame adalah region di atlas tekstur sprite
+     * Kelas ini baru dimuat saat karakter pertama kali dirender, sehingga simulasi headless
+     * tidak pernah membaca gambar
+     */
+    private static final class Sprites {
+        static final TextureAtlas.Region[] DOWN;
+        static final TextureAtlas.Region[] UP;
+        static final TextureAtlas.Region[] LEFT;
+        static final TextureAtlas.Region[] RIGHT;
+
+        static {
+            TextureAtlas atlas = TextureAtlas.getSprites();
+            DOWN = regions(atlas, AssetLoader.CHAR_DOWN_F1, AssetLoader.CHAR_DOWN_F2, AssetLoader.CHAR_DOWN_F3, AssetLoader.CHAR_DOWN_F4);
+            UP = regions(atlas, AssetLoader.CHAR_UP_F1, AssetLoader.CHAR_UP_F2, AssetLoader.CHAR_UP_F3, AssetLoader.CHAR_UP_F4);
+            LEFT = regions(atlas, AssetLoader.CHAR_LEFT_F1, AssetLoader.CHAR_LEFT_F2, AssetLoader.CHAR_LEFT_F3, AssetLoader.CHAR_LEFT_F4);
+            RIGHT = regions(atlas, AssetLoader.CHAR_RIGHT_F1, AssetLoader.CHAR_RIGHT_F2, AssetLoader.CHAR_RIGHT_F3, AssetLoader.CHAR_RIGHT_F4);
+
+            boolean allLoaded = true;
+            for (TextureAtlas.Region[] frames : new TextureAtlas.Region[][] { DOWN, UP, LEFT, RIGHT }) {
+                for (TextureAtlas.Region sprite : frames) {
+                    if (sprite == null) allLoaded = false;
+                }
+            }
+
+            if (allLoaded) {
+                System.out.println("Sprite karakter berhasil dimuat!");
+            } else {
+                System.err.println("Error: Beberapa sprite karakter gagal dimuat.");
+            }
+        }
+
+        private static TextureAtlas.Region[] regions(TextureAtlas atlas, String... paths) {
+            TextureAtlas.Region[] frames = new TextureAtlas.Region[paths.length];
+            for (int i = 0; i < paths.length; i++) {
+                frames[i] = atlas.getRegion(paths[i]);
+            }
+            return frames;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package view.components;
+
+import java.awt.AlphaComposite;
+import java.awt.Color;
+import java.awt.Composite;
+import java.awt.Graphics2D;
+import java.awt.MultipleGradientPaint;
+import java.awt.RadialGradientPaint;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.geom.Point2D;
+import java.awt.image.BufferedImage;
+import utils.AssetLoader;
+
+/**
+ * Cache sprite cahaya sihir bola yang sudah dirasterisasi
+ * Setiap sprite menyimpan gradien radial pada intensitas penuh untuk satu warna permata dan
+ * satu ukuran render (hasil kuantisasi pulseScale). Intensitas cahaya dikuantisasi dan
+ * diterapkan saat menggambar melalui AlphaComposite yang sudah dibuat sebelumnya,
+ * karena alfa gradien berbanding lurus dengan glowIntensity
+ */
+class GlowSpriteCache {
+    // Jumlah tingkat intensitas cahaya yang dibedakan
+    private static final int INTENSITY_LEVELS = 32;
+    // Jarak cahaya di luar ukuran bola
+    private static final int GLOW_MARGIN = 10;
+
+    // Ukuran render terbesar yang disimpan; bola terbesar berukuran 50 dengan pulsa hingga 1.2
+    private static final int MAX_CACHED_SIZE = 96;
+
+    private static final AlphaComposite[] INTENSITY_COMPOSITES = new AlphaComposite[INTENSITY_LEVELS + 1];
+    // [indeks warna][ukuran]; diisi saat pertama diminta, tanpa kunci objek agar pencarian tidak mengalokasikan
+    private static final BufferedImage[][] sprites = new BufferedImage[16][MAX_CACHED_SIZE + 1];
+
+    static {
+        for (int i = 0; i <= INTENSITY_LEVELS; i++) {
+            INTENSITY_COMPOSITES[i] = AlphaComposite.getInstance(AlphaComposite.SRC_OVER, (float) i / INTENSITY_LEVELS);
+        }
+    }
+
+    private GlowSpriteCache() {
+    }
+
+    /**
+     * Gambar cahaya sihir di sekitar bola
+     * @param g2d Graphics2D tujuan
+     * @param colorIndex Indeks warna permata (0-15), kunci cache
+     * @param color Warna dasar cahaya untuk indeks tersebut
+     * @param glowIntensity Intensitas cahaya saat ini (0..1)
+     * @param x Posisi kiri bola
+     * @param y Posisi atas bola
+     * @param size Ukuran render bola
+     */
+    static void draw(Graphics2D g2d, int colorIndex, Color color, float glowIntensity, int x, int y, int size) {
+        int level = Math.max(0, Math.min(INTENSITY_LEVELS, Math.round(glowIntensity * INTENSITY_LEVELS)));
+        if (level == 0 || size <= 0) {
+            return;
+        }
+
+        BufferedImage sprite;
+        if (size <= MAX_CACHED_SIZE) {
+            sprite = sprites[colorIndex][size];
+            if (sprite == null) {
+                // Balapan antar thread render hanya membuat sprite yang sama dua kali
+                sprite = createSprite(color, size);
+                sprites[colorIndex][size] = sprite;
+            }
+        } else {
+            sprite = createSprite(color, size);
+        }
+
+        Composite previous = g2d.getComposite();
+        g2d.setComposite(INTENSITY_COMPOSITES[level]);
+        g2d.drawImage(sprite, x - GLOW_MARGIN, y - GLOW_MARGIN, null);
+        g2d.setComposite(previous);
+    }
+
+    /**
+     * AlphaComposite SRC_OVER yang sudah dibuat untuk alfa terdekat (dikuantisasi ke 32 tingkat)
+     */
+    static AlphaComposite composite(float alpha) {
+        return INTENSITY_COMPOSITES[Math.max(0, Math.min(INTENSITY_LEVELS, Math.round(alpha * INTENSITY_LEVELS)))];
+    }
+
+    /**
+     * Rasterisasi gradien cahaya pada intensitas penuh
+     */
+    private static BufferedImage createSprite(Color color, int size) {
+        int spriteSize = size + GLOW_MARGIN * 2;
+        BufferedImage sprite = AssetLoader.createCompatibleImage(spriteSize, spriteSize, Transparency.TRANSLUCENT);
+
+        float[] fractions = {0.0f, 0.5f, 1.0f};
+        Color[] colors = {
+            new Color(color.getRed(), color.getGreen(), color.getBlue(), 150),
+            new Color(color.getRed(), color.getGreen(), color.getBlue(), 50),
+            new Color(color.getRed(), color.getGreen(), color.getBlue(), 0)
+        };
+        int center = size / 2 + GLOW_MARGIN;
+        RadialGradientPaint gradient = new RadialGradientPaint(
+            new Point2D.Float(center, center),
+            size / 2 + 20,
+            fractions, colors,
+            MultipleGradientPaint.CycleMethod.NO_CYCLE
+        );
+
+        Graphics2D g2d = sprite.createGraphics();
+        try {
+            g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g2d.setPaint(gradient);
+            g2d.fillOval(0, 0, spriteSize, spriteSize);
+        } finally {
+            g2d.dispose();
+        }
+        return sprite;
+    }
+}
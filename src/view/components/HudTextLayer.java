@@ -0,0 +1,167 @@
+package view.components;
+
+import java.awt.AlphaComposite;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+
+/**
+ * Satu baris teks HUD yang terikat ke sebuah nilai angka, misalnya "✨ Skor: 120"
+ * Teks dirender sekali ke gambar transparan dan hanya dirender ulang saat nilainya berubah.
+ * Setiap frame cukup menyalin gambar tersebut, sehingga string tidak dibangun ulang dan layout
+ * glyph (termasuk font cadangan untuk emoji) tidak dihitung ulang setiap frame.
+ * Teks tetap tanpa nilai (judul overlay) dibuat dengan konstruktor tiga argumen
+ */
+public class HudTextLayer {
+    // Ruang tambahan di kiri dan kanan untuk glyph miring atau emoji yang melewati lebar advance
+    private static final int PADDING = 4;
+
+    private final String prefix;
+    private final String suffix;
+    private final Font font;
+    private final Color color;
+    // true untuk teks tetap; nilai diabaikan
+    private final boolean fixed;
+
+    private BufferedImage image;
+    private boolean hasValue;
+    private int value;
+    private int textWidth;
+    private int ascent;
+    private int height;
+    private int redrawCount;
+
+    /**
+     * @param prefix Teks sebelum nilai
+     * @param suffix Teks sesudah nilai
+     * @param font Font teks
+     * @param color Warna teks
+     */
+    public HudTextLayer(String prefix, String suffix, Font font, Color color) {
+        this(prefix, suffix, font, color, false);
+    }
+
+    /**
+     * Teks tetap yang dirender sekali
+     */
+    public HudTextLayer(String text, Font font, Color color) {
+        this(text, "", font, color, true);
+    }
+
+    private HudTextLayer(String prefix, String suffix, Font font, Color color, boolean fixed) {
+        this.prefix = prefix;
+        this.suffix = suffix;
+        this.font = font;
+        this.color = color;
+        this.fixed = fixed;
+    }
+
+    /**
+     * Gambar teks dengan garis dasar di (x, baselineY)
+     * @param g2d Graphics2D tujuan
+     * @param value Nilai terikat; gambar dirender ulang hanya jika berbeda dari sebelumnya
+     */
+    public void draw(Graphics2D g2d, int value, int x, int baselineY) {
+        update(g2d, value);
+        g2d.drawImage(image, x - PADDING, baselineY - ascent, null);
+    }
+
+    /**
+     * Gambar teks di tengah horizontal pada centerX
+     */
+    public void drawCentered(Graphics2D g2d, int value, int centerX, int baselineY) {
+        update(g2d, value);
+        draw(g2d, value, centerX - textWidth / 2, baselineY);
+    }
+
+    /**
+     * Gambar teks tetap dengan garis dasar di (x, baselineY)
+     */
+    public void draw(Graphics2D g2d, int x, int baselineY) {
+        draw(g2d, 0, x, baselineY);
+    }
+
+    /**
+     * Gambar teks tetap di tengah horizontal pada centerX
+     */
+    public void drawCentered(Graphics2D g2d, int centerX, int baselineY) {
+        drawCentered(g2d, 0, centerX, baselineY);
+    }
+
+    /**
+     * Lebar teks untuk nilai terakhir yang digambar
+     */
+    public int getTextWidth() {
+        return textWidth;
+    }
+
+    /**
+     * Jumlah render ulang sejak dibuat, untuk diagnosis
+     */
+    public int getRedrawCount() {
+        return redrawCount;
+    }
+
+    /**
+     * Lepaskan gambar; digambar ulang pada pemanggilan berikutnya
+     */
+    public void dispose() {
+        image = null;
+        hasValue = false;
+    }
+
+    private void update(Graphics2D g2d, int newValue) {
+        if (hasValue && image != null && (fixed || value == newValue)) {
+            return;
+        }
+        value = newValue;
+        hasValue = true;
+        redrawCount++;
+
+        String text = fixed ? prefix : prefix + newValue + suffix;
+        FontMetrics metrics = g2d.getFontMetrics(font);
+        textWidth = metrics.stringWidth(text);
+        ascent = metrics.getAscent();
+        height = ascent + metrics.getDescent();
+
+        // Gambar lama dipakai ulang selama masih cukup besar, misalnya saat angka berkurang digit
+        int imageWidth = textWidth + PADDING * 2;
+        if (image == null || image.getWidth() < imageWidth || image.getHeight() < height) {
+            image = createImage(g2d.getDeviceConfiguration(), imageWidth, height);
+        }
+
+        Graphics2D layer = image.createGraphics();
+        try {
+            layer.setComposite(AlphaComposite.Clear);
+            layer.fillRect(0, 0, image.getWidth(), image.getHeight());
+            layer.setComposite(AlphaComposite.SrcOver);
+            // Ikuti petunjuk antialiasing tujuan agar hasilnya sama dengan menggambar langsung
+            copyHint(g2d, layer, RenderingHints.KEY_ANTIALIASING);
+            copyHint(g2d, layer, RenderingHints.KEY_TEXT_ANTIALIASING);
+            layer.setFont(font);
+            layer.setColor(color);
+            layer.drawString(text, PADDING, ascent);
+        } finally {
+            layer.dispose();
+        }
+    }
+
+    private static void copyHint(Graphics2D from, Graphics2D to, RenderingHints.Key key) {
+        Object hint = from.getRenderingHint(key);
+        if (hint != null) {
+            to.setRenderingHint(key, hint);
+        }
+    }
+
+    private static BufferedImage createImage(GraphicsConfiguration gc, int width, int height) {
+        if (gc != null) {
+            return gc.createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+        }
+        return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB_PRE);
+    }
+}
@@ -1,10 +1,18 @@
 package view.components;
 
 import java.awt.*;
+import java.awt.geom.Line2D;
 import java.awt.geom.Path2D;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 import utils.GameConstants;
+import utils.ObjectPool;
+import view.components.animations.DotSprites;
+import view.components.animations.ParticleEngine;
+import view.components.animations.SparkleSprites;
+import view.constants.RenderResources;
 
 /**
  * Merepresentasikan komponen visual Lasso Ajaib dalam permainan
@@ -17,36 +25,132 @@ public class Lasso {
     private int currentLength;
     private boolean extending;
     private boolean active;
-    private Ball caughtBall;
+    // Handle BallStore bola yang tertangkap, -1 jika tidak ada
+    private int caughtBall = -1;
     
     // Properti peningkatan ajaib
     private float animationTimer = 0.0f;
-    private List<MagicalParticle> particles;
-    private Color[] magicalColors;
+    // Partikel ajaib, disimpan sebagai array primitif dalam ring berkapasitas tetap
+    private final ParticleEngine particles;
     private float glowIntensity = 0.0f;
     private boolean sparkleEffect = false;
+
+    // Warna ajaib dan tabel alfanya; partikel menyimpan indeks warna, bukan objek Color
+    private static final Color[] MAGICAL_COLORS = {
+        new Color(255, 215, 0, 200),    // Emas
+        new Color(138, 43, 226, 200),   // Ungu
+        new Color(0, 191, 255, 200),    // Biru Langit
+        new Color(255, 20, 147, 200),   // Merah Muda
+        new Color(50, 205, 50, 200)     // Hijau Lime
+    };
+    // Sprite titik partikel per warna ajaib; alfa dasar partikel sama dengan alfa warnanya
+    private static final DotSprites PARTICLE_SPRITES = new DotSprites(MAGICAL_COLORS, 4);
+    private static final float PARTICLE_ALPHA = 200 / 255f;
+    // Sprite rantai dan ujung lasso: indeks 0 emas, 1 putih
+    private static final DotSprites TIP_SPRITES = new DotSprites(new Color[] {
+        RenderResources.GOLD.at(255), Color.WHITE
+    }, 16);
+    private static final int GOLD = 0;
+    private static final int WHITE = 1;
+    private static final int CHAIN_LEVEL = DotSprites.level(180 / 255f);
+    private static final int FULL_LEVEL = DotSprites.ALPHA_LEVELS - 1;
+    // Kilauan silang di sekitar ujung
+    private static final SparkleSprites TIP_SPARKLES = new SparkleSprites(3, 0, 0, 0);
+    private static final int SPARKLE_LEVEL = DotSprites.level(150 / 255f);
+    // Garis lasso yang dipakai ulang; drawLine antialias membuat Line2D baru setiap panggilan.
+    // Render selalu berjalan di satu thread, sama seperti cache sprite
+    private static final Line2D.Float LASSO_LINE = new Line2D.Float();
     private int chargeLevel = 0; 
     
     // Efek rantai lasso
     private List<ChainLink> chainLinks;
     private static final int CHAIN_SEGMENT_SIZE = 8;
-
-    public Lasso() {
+    // Radius tangkap diukur dari titik tengah permata
+    private static final int CATCH_RADIUS = GameConstants.BALL_SIZE / 2 + 5;
+
+    // Posisi ujung di awal langkah ini; checkCollision menyapu dari sini ke ujung saat ini
+    private int sweepFromX, sweepFromY;
+    private boolean sweepPending;
+
+    // Sumber acak sesi untuk partikel yang disimulasikan; efek saat render memakai ThreadLocalRandom
+    private final Random random;
+
+    // Kapasitas ring partikel; jika penuh, partikel tertua ditimpa
+    private static final int PARTICLE_CAPACITY = 256;
+    // Jenis partikel yang dimunculkan
+    private static final int PARTICLE_TRAIL = 0;
+    private static final int PARTICLE_COLLECTION = 1;
+    private static final int PARTICLE_CAPTURE = 2;
+
+    // Pool rantai yang dipakai ulang antar lemparan; salinan render memiliki pool sendiri
+    // untuk rantai yang dipakai ulang antar potret
+    private static final int CHAIN_LINK_POOL_CAPACITY = 256;
+    private final ObjectPool<ChainLink> chainLinkPool;
+
+    public Lasso(Random random) {
+        this.random = random;
+        this.chainLinkPool = new ObjectPool<>("lasso-chain", CHAIN_LINK_POOL_CAPACITY,
+            ChainLink::new, ChainLink::reset);
         this.currentLength = 0;
         this.extending = false;
         this.active = false;
-        this.caughtBall = null;
-        this.particles = new ArrayList<>();
+        this.caughtBall = -1;
+        this.particles = new ParticleEngine("lasso-particles", PARTICLE_CAPACITY);
+        this.particles.setDrag(0.98f);
         this.chainLinks = new ArrayList<>();
-        
-        // Inisialisasi warna ajaib
-        this.magicalColors = new Color[] {
-            new Color(255, 215, 0, 200),    // Emas
-            new Color(138, 43, 226, 200),   // Ungu
-            new Color(0, 191, 255, 200),    // Biru Langit
-            new Color(255, 20, 147, 200),   // Merah Muda
-            new Color(50, 205, 50, 200)     // Hijau Lime
-        };
+    }
+
+    /**
+     * Salinan lasso untuk potret render, termasuk partikel, rantai, dan bola yang tertangkap
+     * Array partikel dan rantai dibuat dengan kapasitas penuh agar salinan dapat dipakai ulang lewat copyInto
+     */
+    private Lasso(Lasso other) {
+        this.random = other.random;
+        this.chainLinkPool = new ObjectPool<>("lasso-chain-snapshot", CHAIN_LINK_POOL_CAPACITY,
+            ChainLink::new, ChainLink::reset);
+        this.particles = new ParticleEngine("lasso-particles-snapshot", PARTICLE_CAPACITY);
+        this.chainLinks = new ArrayList<>(other.chainLinks.size());
+        copyFrom(other);
+    }
+
+    public Lasso copy() {
+        return new Lasso(this);
+    }
+
+    /**
+     * Salin status lasso ke salinan render yang sudah ada, tanpa membuat rantai atau array partikel baru
+     * @param target Salinan dari copy() yang tidak lagi dibaca thread render, atau null
+     * @return target, atau salinan baru jika target null
+     */
+    public Lasso copyInto(Lasso target) {
+        if (target == null) {
+            return copy();
+        }
+        target.copyFrom(this);
+        return target;
+    }
+
+    private void copyFrom(Lasso other) {
+        this.startX = other.startX;
+        this.startY = other.startY;
+        this.endX = other.endX;
+        this.endY = other.endY;
+        this.currentLength = other.currentLength;
+        this.extending = other.extending;
+        this.active = other.active;
+        this.caughtBall = other.caughtBall;
+        this.animationTimer = other.animationTimer;
+        this.glowIntensity = other.glowIntensity;
+        this.sparkleEffect = other.sparkleEffect;
+        this.chargeLevel = other.chargeLevel;
+
+        other.particles.copyInto(particles);
+        chainLinkPool.releaseAll(chainLinks);
+        for (int i = 0; i < other.chainLinks.size(); i++) {
+            ChainLink link = chainLinkPool.acquire();
+            link.set(other.chainLinks.get(i));
+            chainLinks.add(link);
+        }
     }
 
     /**
@@ -75,7 +179,7 @@ public class Lasso {
         this.currentLength = 0;
         this.extending = true;
         this.active = true;
-        this.caughtBall = null;
+        this.caughtBall = -1;
         this.animationTimer = 0.0f;
         this.glowIntensity = 1.0f;
         this.sparkleEffect = true;
@@ -89,14 +193,14 @@ public class Lasso {
      * Inisialisasi rantai untuk efek tali lasso
      */
     private void initializeChainLinks() {
-        chainLinks.clear();
+        chainLinkPool.releaseAll(chainLinks);
         int dx = endX - startX;
         int dy = endY - startY;
         double totalDistance = Math.sqrt(dx * dx + dy * dy);
         int numLinks = (int)(totalDistance / CHAIN_SEGMENT_SIZE) + 1;
         
         for (int i = 0; i < numLinks; i++) {
-            chainLinks.add(new ChainLink());
+            chainLinks.add(chainLinkPool.acquire());
         }
     }
 
@@ -106,7 +210,7 @@ public class Lasso {
     private void createInitialParticles() {
         particles.clear();
         for (int i = 0; i < 5; i++) {
-            particles.add(new MagicalParticle(startX, startY));
+            spawnParticle(startX, startY, PARTICLE_TRAIL);
         }
     }
 
@@ -122,13 +226,17 @@ public class Lasso {
 
     /**
      * Perbarui lasso dengan efek ajaib
+     * @param balls Penyimpanan bola, untuk menggerakkan bola yang tertangkap
      */
-    public void update() {
+    public void update(BallStore balls) {
         if (!active) return;
 
         animationTimer += 0.15f;
         
+        sweepPending = extending;
         if (extending) {
+            sweepFromX = getCurrentTipX();
+            sweepFromY = getCurrentTipY();
             currentLength += GameConstants.LASSO_SPEED;
             chargeLevel = Math.min(100, chargeLevel + 2);
             
@@ -144,10 +252,10 @@ public class Lasso {
             }
             
             // Tambahkan partikel saat memperpanjang
-            if (Math.random() < 0.3) {
+            if (random.nextDouble() < 0.3) {
                 int tipX = getCurrentTipX();
                 int tipY = getCurrentTipY();
-                particles.add(new MagicalParticle(tipX, tipY));
+                spawnParticle(tipX, tipY, PARTICLE_TRAIL);
             }
         } else {
             // Menarik kembali dengan efek ajaib
@@ -160,15 +268,18 @@ public class Lasso {
                 glowIntensity = 0.0f;
                 
                 // Efek pengumpulan ajaib
-                if (caughtBall != null) {
+                int slot = balls.slotOf(caughtBall);
+                if (slot >= 0) {
                     createCollectionEffect();
-                    caughtBall.startTransitionFromCharacterToBasket();
-                    caughtBall = null;
+                    balls.startTransitionFromCharacterToBasket(slot);
                 }
+                caughtBall = -1;
+            } else if (caughtBall >= 0) {
+                pinCaughtBall(balls);
             }
         }
         
-        updateParticles();
+        particles.update();
         updateChainLinks();
         
         // Perbarui intensitas cahaya
@@ -176,13 +287,50 @@ public class Lasso {
     }
 
     /**
-     * Perbarui partikel ajaib
+     * Tempelkan bola yang tertangkap ke ujung lasso
+     */
+    private void pinCaughtBall(BallStore balls) {
+        int slot = balls.slotOf(caughtBall);
+        if (slot >= 0) {
+            balls.setPosition(slot, getCurrentTipX() - GameConstants.BALL_SIZE / 2, getCurrentTipY() - GameConstants.BALL_SIZE / 2);
+        }
+    }
+
+    /**
+     * Munculkan partikel ajaib di sekitar posisi tertentu
+     * Urutan pengambilan angka acak sesi dijaga tetap agar rekaman sesi lama tetap dapat diputar ulang
+     * @param kind PARTICLE_TRAIL (jatuh karena gravitasi), PARTICLE_COLLECTION (lebih cepat dan lama),
+     *             atau PARTICLE_CAPTURE (menyebar ke segala arah dengan kilauan)
      */
-    private void updateParticles() {
-        particles.removeIf(particle -> {
-            particle.update();
-            return particle.isDead();
-        });
+    private void spawnParticle(int x, int y, int kind) {
+        float px = x + (float)(random.nextDouble() - 0.5) * 10;
+        float py = y + (float)(random.nextDouble() - 0.5) * 10;
+        float pvx = (float)(random.nextDouble() - 0.5) * 4;
+        float pvy = (float)(random.nextDouble() - 0.5) * 4;
+        float lifetime = 30 + (float)random.nextDouble() * 20;
+        int colorIndex = random.nextInt(MAGICAL_COLORS.length);
+
+        if (kind == PARTICLE_COLLECTION) {
+            pvx *= 2;
+            pvy *= 2;
+            lifetime *= 1.5f;
+        } else if (kind == PARTICLE_CAPTURE) {
+            float angle = (float)(random.nextDouble() * Math.PI * 2);
+            float speed = 2 + (float)random.nextDouble() * 3;
+            pvx = (float)Math.cos(angle) * speed;
+            pvy = (float)Math.sin(angle) * speed;
+        }
+
+        int slot = particles.spawn(px, py, pvx, pvy, lifetime);
+        if (kind == PARTICLE_CAPTURE) {
+            particles.style(slot, colorIndex, 4, PARTICLE_ALPHA, ParticleEngine.SPARKLE);
+        } else {
+            particles.style(slot, colorIndex, 2, PARTICLE_ALPHA, 0);
+        }
+        // Hanya partikel jejak yang jatuh karena gravitasi
+        if (kind == PARTICLE_TRAIL) {
+            particles.setGravity(slot, 0.1f);
+        }
     }
 
     /**
@@ -219,42 +367,37 @@ public class Lasso {
         int tipY = getCurrentTipY();
         
         for (int i = 0; i < 15; i++) {
-            MagicalParticle particle = new MagicalParticle(tipX, tipY);
-            particle.setCollectionEffect(true);
-            particles.add(particle);
+            spawnParticle(tipX, tipY, PARTICLE_COLLECTION);
         }
     }
 
     /**
-     * Deteksi tabrakan yang ditingkatkan
+     * Periksa tabrakan ujung lasso dengan permata sepanjang gerakan ujung pada langkah ini
+     * @param balls Penyimpanan bola beserta broadphase-nya
+     * @return Slot bola yang tertangkap, atau -1
      */
-    public Ball checkCollision(Ball[] balls) {
-        if (!active || !extending || caughtBall != null) return null;
+    public int checkCollision(BallStore balls) {
+        if (!active || !sweepPending || caughtBall >= 0) return -1;
+        sweepPending = false;
         
         int tipX = getCurrentTipX();
         int tipY = getCurrentTipY();
         
-        for (Ball ball : balls) {
-            if (ball != null && ball.isActive() && !ball.isTransitioningToBasket()) {
-                // Deteksi tabrakan yang ditingkatkan dengan radius ajaib
-                int ballCenterX = ball.getX() + GameConstants.BALL_SIZE / 2;
-                int ballCenterY = ball.getY() + GameConstants.BALL_SIZE / 2;
-                double distance = Math.sqrt(Math.pow(tipX - ballCenterX, 2) + Math.pow(tipY - ballCenterY, 2));
-                
-                if (distance <= GameConstants.BALL_SIZE / 2 + 5) { 
-                    caughtBall = ball;
-                    extending = false;
-                    
-                    // Buat efek penangkapan
-                    createCaptureEffect(tipX, tipY);
-                    
-                    System.out.println("✨ Permata ajaib tertangkap! ✨");
-                    return ball;
-                }
-            }
+        // Deteksi tabrakan yang ditingkatkan dengan radius ajaib
+        int slot = balls.getGrid().sweep(sweepFromX, sweepFromY, tipX, tipY, CATCH_RADIUS);
+        if (slot < 0) {
+            return -1;
         }
+
+        caughtBall = balls.getHandle(slot);
+        extending = false;
+        pinCaughtBall(balls);
         
-        return null;
+        // Buat efek penangkapan
+        createCaptureEffect(tipX, tipY);
+        
+        System.out.println("✨ Permata ajaib tertangkap! ✨");
+        return slot;
     }
 
     /**
@@ -262,9 +405,7 @@ public class Lasso {
      */
     private void createCaptureEffect(int x, int y) {
         for (int i = 0; i < 20; i++) {
-            MagicalParticle particle = new MagicalParticle(x, y);
-            particle.setCaptureEffect(true);
-            particles.add(particle);
+            spawnParticle(x, y, PARTICLE_CAPTURE);
         }
     }
 
@@ -299,8 +440,10 @@ public class Lasso {
 
     /**
      * Render lasso dengan efek ajaib
+     * @param g2d Graphics2D untuk menggambar
+     * @param balls Penyimpanan bola dari potret yang sama, untuk menggambar bola yang tertangkap
      */
-    public void render(Graphics2D g2d) {
+    public void render(Graphics2D g2d, BallStore balls) {
         if (!active || currentLength <= 0) return;
         
         // Aktifkan antialiasing untuk rendering yang halus
@@ -309,7 +452,7 @@ public class Lasso {
         renderMagicalChain(g2d);
         renderMainLasso(g2d);
         renderMagicalTip(g2d);
-        renderCaughtBall(g2d);
+        renderCaughtBall(g2d, balls);
         renderParticles(g2d);
 
         if (extending && chargeLevel > 20) {
@@ -322,7 +465,8 @@ public class Lasso {
      * @param g2d Graphics2D untuk menggambar
      */
     private void renderMagicalChain(Graphics2D g2d) {
-        for (ChainLink link : chainLinks) {
+        for (int i = 0; i < chainLinks.size(); i++) {
+            ChainLink link = chainLinks.get(i);
             if (!link.active) continue;
             
             // Posisi rantai dengan efek ayunan
@@ -330,14 +474,11 @@ public class Lasso {
             int linkY = link.y;
             
             // Gradien untuk rantai
-            Color chainColor = new Color(255, 215, 0, 180);
-            g2d.setColor(chainColor);
-            g2d.fillOval(linkX - 2, linkY - 2, 4, 4);
+            drawDot(g2d, GOLD, CHAIN_LEVEL, linkX - 2, linkY - 2, 4);
             
             // Kilauan kecil pada setiap rantai
-            if (Math.random() < 0.1) {
-                g2d.setColor(Color.WHITE);
-                g2d.fillOval(linkX - 1, linkY - 1, 2, 2);
+            if (ThreadLocalRandom.current().nextDouble() < 0.1) {
+                drawDot(g2d, WHITE, FULL_LEVEL, linkX - 1, linkY - 1, 2);
             }
         }
     }
@@ -349,21 +490,21 @@ public class Lasso {
     private void renderMainLasso(Graphics2D g2d) {
         int tipX = getCurrentTipX();
         int tipY = getCurrentTipY();
+        LASSO_LINE.setLine(startX, startY, tipX, tipY);
         
         // Lapisan efek cahaya
         for (int i = 6; i >= 1; i--) {
             float alpha = glowIntensity * (7 - i) / 6.0f * 0.3f;
-            Color glowColor = new Color(255, 215, 0, (int)(alpha * 255));
-            g2d.setColor(glowColor);
-            g2d.setStroke(new BasicStroke(i * 1.5f, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
-            g2d.drawLine(startX, startY, tipX, tipY);
+            g2d.setColor(RenderResources.GOLD.at(alpha));
+            g2d.setStroke(RenderResources.roundStroke(i * 1.5f));
+            g2d.draw(LASSO_LINE);
         }
         
         // Garis utama lasso dengan siklus warna sihir
-        Color mainColor = magicalColors[(int)(animationTimer * 2) % magicalColors.length];
+        Color mainColor = MAGICAL_COLORS[(int)(animationTimer * 2) % MAGICAL_COLORS.length];
         g2d.setColor(mainColor);
-        g2d.setStroke(new BasicStroke(3, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
-        g2d.drawLine(startX, startY, tipX, tipY);
+        g2d.setStroke(RenderResources.roundStroke(3));
+        g2d.draw(LASSO_LINE);
     }
 
     /**
@@ -376,17 +517,14 @@ public class Lasso {
         // Cahaya luar
         for (int i = 8; i >= 1; i--) {
             float alpha = glowIntensity * (9 - i) / 8.0f * 0.4f;
-            g2d.setColor(new Color(255, 255, 255, (int)(alpha * 255)));
-            g2d.fillOval(tipX - i, tipY - i, i * 2, i * 2);
+            drawDot(g2d, WHITE, DotSprites.level(alpha), tipX - i, tipY - i, i * 2);
         }
         
         // Ujung inti
-        g2d.setColor(new Color(255, 255, 255, 220));
-        g2d.fillOval(tipX - 4, tipY - 4, 8, 8);
+        drawDot(g2d, WHITE, DotSprites.level(220 / 255f), tipX - 4, tipY - 4, 8);
         
         // Inti dalam
-        g2d.setColor(new Color(255, 215, 0));
-        g2d.fillOval(tipX - 2, tipY - 2, 4, 4);
+        drawDot(g2d, GOLD, FULL_LEVEL, tipX - 2, tipY - 2, 4);
         
         // Efek kilauan di sekitar ujung
         if (sparkleEffect) {
@@ -394,42 +532,44 @@ public class Lasso {
         }
     }
 
+    // Seperti fillOval(x, y, size, size), disalin dari sprite titik
+    private static void drawDot(Graphics2D g2d, int color, int level, int x, int y, int size) {
+        Image sprite = TIP_SPRITES.get(color, size, level);
+        if (sprite != null) {
+            g2d.drawImage(sprite, x, y, null);
+        }
+    }
+
     /**
      * Render kilauan di sekitar ujung
      */
     private void renderTipSparkles(Graphics2D g2d, int tipX, int tipY) {
-        g2d.setStroke(new BasicStroke(1));
-        
         for (int i = 0; i < 6; i++) {
             float angle = animationTimer * 3 + i * (float)Math.PI / 3;
             int sparkleX = tipX + (int)(Math.cos(angle) * 10);
             int sparkleY = tipY + (int)(Math.sin(angle) * 10);
-            
-            g2d.setColor(new Color(255, 255, 255, 150));
-            g2d.drawLine(sparkleX - 3, sparkleY, sparkleX + 3, sparkleY);
-            g2d.drawLine(sparkleX, sparkleY - 3, sparkleX, sparkleY + 3);
+            TIP_SPARKLES.draw(g2d, sparkleX, sparkleY, SPARKLE_LEVEL);
         }
     }
 
     /**
      * Render bola yang tertangkap dengan efek pengikatan ajaib
      */
-    private void renderCaughtBall(Graphics2D g2d) {
-        if (caughtBall != null && !extending) {
+    private void renderCaughtBall(Graphics2D g2d, BallStore balls) {
+        int slot = balls.slotOf(caughtBall);
+        if (slot >= 0 && !extending) {
             int tipX = getCurrentTipX();
             int tipY = getCurrentTipY();
             
             // Lingkaran pengikatan ajaib di sekitar bola
-            g2d.setColor(new Color(255, 215, 0, 100));
-            g2d.setStroke(new BasicStroke(2, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+            g2d.setColor(RenderResources.GOLD.at(100));
+            g2d.setStroke(RenderResources.roundStroke(2));
             float bindingRadius = 20 + 5 * (float)Math.sin(animationTimer * 4);
             g2d.drawOval(tipX - (int)bindingRadius, tipY - (int)bindingRadius, 
                         (int)bindingRadius * 2, (int)bindingRadius * 2);
             
-            // Perbarui posisi bola
-            caughtBall.setX(tipX - GameConstants.BALL_SIZE / 2);
-            caughtBall.setY(tipY - GameConstants.BALL_SIZE / 2);
-            caughtBall.render(g2d);
+            // Posisi bola sudah ditempelkan ke ujung lasso saat update
+            Ball.render(g2d, balls, slot, 1.0f);
         }
     }
 
@@ -437,9 +577,7 @@ public class Lasso {
      * Render partikel ajaib
      */
     private void renderParticles(Graphics2D g2d) {
-        for (MagicalParticle particle : particles) {
-            particle.render(g2d);
-        }
+        particles.render(g2d, PARTICLE_SPRITES);
     }
 
     /**
@@ -452,7 +590,7 @@ public class Lasso {
         int barY = startY - 20;
         
         // Latar belakang
-        g2d.setColor(new Color(0, 0, 0, 100));
+        g2d.setColor(RenderResources.BLACK.at(100));
         g2d.fillRoundRect(barX, barY, barWidth, barHeight, 4, 4);
         
         // Isi pengisian daya
@@ -464,28 +602,31 @@ public class Lasso {
         
         // Border
         g2d.setColor(Color.WHITE);
-        g2d.setStroke(new BasicStroke(1));
+        g2d.setStroke(RenderResources.stroke(1));
         g2d.drawRoundRect(barX, barY, barWidth, barHeight, 4, 4);
     }
 
     // Getters
     public boolean isActive() { return active; }
     public boolean isExtending() { return extending; }
-    public Ball getCaughtBall() { return caughtBall; }
+    public int getCaughtBall() { return caughtBall; }
     public int getCurrentLength() { return currentLength; }
+    public int getParticleCount() { return particles.getLiveCount(); }
+    public String getParticleStats() { return particles.getStats(); }
+    public ObjectPool.PoolStats getChainLinkPoolStats() { return chainLinkPool.getStats(); }
 
     /**
      * Paksa hentikan lasso ajaib
      */
     public void stop() {
         active = false;
-        caughtBall = null;
+        caughtBall = -1;
         currentLength = 0;
         extending = false;
         sparkleEffect = false;
         glowIntensity = 0.0f;
         particles.clear();
-        chainLinks.clear();
+        chainLinkPool.releaseAll(chainLinks);
         System.out.println("🔮 Lasso ajaib dihentikan");
     }
 
@@ -496,89 +637,6 @@ public class Lasso {
         return !active && currentLength == 0;
     }
 
-    /**
-     * Kelas dalam untuk partikel ajaib
-     */
-    private class MagicalParticle {
-        float x, y;
-        float vx, vy;
-        float life;
-        float maxLife;
-        Color color;
-        boolean isCollectionEffect = false;
-        boolean isCaptureEffect = false;
-        
-        public MagicalParticle(int startX, int startY) {
-            this.x = startX + (float)(Math.random() - 0.5) * 10;
-            this.y = startY + (float)(Math.random() - 0.5) * 10;
-            this.vx = (float)(Math.random() - 0.5) * 4;
-            this.vy = (float)(Math.random() - 0.5) * 4;
-            this.maxLife = 30 + (float)Math.random() * 20;
-            this.life = maxLife;
-            this.color = magicalColors[(int)(Math.random() * magicalColors.length)];
-        }
-        
-        public void setCollectionEffect(boolean collection) {
-            this.isCollectionEffect = collection;
-            if (collection) {
-                this.vx *= 2;
-                this.vy *= 2;
-                this.maxLife *= 1.5f;
-                this.life = maxLife;
-            }
-        }
-        
-        public void setCaptureEffect(boolean capture) {
-            this.isCaptureEffect = capture;
-            if (capture) {
-                float angle = (float)(Math.random() * Math.PI * 2);
-                float speed = 2 + (float)Math.random() * 3;
-                this.vx = (float)Math.cos(angle) * speed;
-                this.vy = (float)Math.sin(angle) * speed;
-            }
-        }
-        
-        public void update() {
-            x += vx;
-            y += vy;
-            life--;
-            
-            // Efek gravitasi untuk beberapa partikel
-            if (!isCollectionEffect && !isCaptureEffect) {
-                vy += 0.1f;
-            }
-            
-            // Kecepatan memudar
-            vx *= 0.98f;
-            vy *= 0.98f;
-        }
-        
-        public void render(Graphics2D g2d) {
-            float alpha = Math.max(0, life / maxLife);
-            Color renderColor = new Color(
-                color.getRed(), 
-                color.getGreen(), 
-                color.getBlue(), 
-                (int)(color.getAlpha() * alpha)
-            );
-            
-            g2d.setColor(renderColor);
-            int size = isCaptureEffect ? 4 : 2;
-            g2d.fillOval((int)x - size/2, (int)y - size/2, size, size);
-            
-            // Efek kilauan untuk partikel penangkapan
-            if (isCaptureEffect && Math.random() < 0.3) {
-                g2d.setColor(Color.WHITE);
-                g2d.drawLine((int)x - 3, (int)y, (int)x + 3, (int)y);
-                g2d.drawLine((int)x, (int)y - 3, (int)x, (int)y + 3);
-            }
-        }
-        
-        public boolean isDead() {
-            return life <= 0;
-        }
-    }
-
     /**
      * Kelas dalam untuk rantai
      */
@@ -586,5 +644,22 @@ public class Lasso {
         int x, y;
         boolean active = false;
         float sway = 0.0f;
+
+        ChainLink() {
+        }
+
+        void reset() {
+            x = 0;
+            y = 0;
+            active = false;
+            sway = 0.0f;
+        }
+
+        void set(ChainLink other) {
+            this.x = other.x;
+            this.y = other.y;
+            this.active = other.active;
+            this.sway = other.sway;
+        }
     }
 }
\ No newline at end of file
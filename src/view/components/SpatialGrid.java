@@ -0,0 +1,145 @@
+package view.components;
+
+import java.util.Arrays;
+import utils.GameConstants;
+
+/**
+ * Broadphase grid seragam untuk bola di area permainan
+ * Setiap sel adalah daftar berantai ganda intrusif melalui array tautan per slot di BallStore,
+ * sehingga menyisipkan, memindahkan, menghapus, dan query tidak mengalokasikan objek. Bola
+ * dikelompokkan berdasarkan titik tengahnya; BallStore memanggil update(slot) setiap kali bola
+ * bergerak. Bola di luar layar dimasukkan ke sel tepi terdekat
+ */
+public class SpatialGrid {
+    public static final int CELL_SIZE = 64;
+
+    private final BallStore balls;
+    private final int cols;
+    private final int rows;
+    // Slot kepala daftar bola di setiap sel (baris demi baris), -1 jika kosong
+    private final int[] heads;
+    private int size;
+
+    SpatialGrid(BallStore balls) {
+        this.balls = balls;
+        this.cols = (GameConstants.WINDOW_WIDTH + CELL_SIZE - 1) / CELL_SIZE;
+        this.rows = (GameConstants.WINDOW_HEIGHT + CELL_SIZE - 1) / CELL_SIZE;
+        this.heads = new int[cols * rows];
+        Arrays.fill(heads, -1);
+    }
+
+    void insert(int slot) {
+        if (balls.gridCell[slot] >= 0) {
+            return;
+        }
+        link(slot, cellOf(balls.getCenterX(slot), balls.getCenterY(slot)));
+        size++;
+    }
+
+    void remove(int slot) {
+        if (balls.gridCell[slot] < 0) {
+            return;
+        }
+        unlink(slot);
+        size--;
+    }
+
+    /**
+     * Pindahkan bola ke sel barunya jika titik tengahnya berpindah sel
+     */
+    void update(int slot) {
+        if (balls.gridCell[slot] < 0) {
+            return;
+        }
+        int cell = cellOf(balls.getCenterX(slot), balls.getCenterY(slot));
+        if (cell != balls.gridCell[slot]) {
+            unlink(slot);
+            link(slot, cell);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Cari bola pertama yang disapu segmen (x0, y0) ke (x1, y1) dengan radius tertentu
+     * Hanya sel yang dilalui kotak pembatas segmen yang diperiksa; uji sempit memakai jarak
+     * kuadrat titik tengah bola ke segmen sehingga ujung lasso yang cepat tidak menembus permata
+     * @return Slot bola aktif yang tidak sedang menuju keranjang dengan titik sentuh paling dekat
+     *         ke (x0, y0), atau -1
+     */
+    public int sweep(int x0, int y0, int x1, int y1, int radius) {
+        int minCol = clampCol(Math.min(x0, x1) - radius);
+        int maxCol = clampCol(Math.max(x0, x1) + radius);
+        int minRow = clampRow(Math.min(y0, y1) - radius);
+        int maxRow = clampRow(Math.max(y0, y1) + radius);
+
+        long dx = x1 - x0;
+        long dy = y1 - y0;
+        long lengthSquared = dx * dx + dy * dy;
+        long radiusSquared = (long) radius * radius;
+
+        int hit = -1;
+        double hitT = Double.MAX_VALUE;
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int col = minCol; col <= maxCol; col++) {
+                for (int slot = heads[row * cols + col]; slot >= 0; slot = balls.gridNext[slot]) {
+                    if (!balls.isActive(slot) || balls.isTransitioningToBasket(slot)) {
+                        continue;
+                    }
+                    long px = balls.getCenterX(slot) - x0;
+                    long py = balls.getCenterY(slot) - y0;
+                    // Proyeksi titik tengah ke segmen, dibatasi ke [0, 1]
+                    double t = lengthSquared == 0 ? 0 : Math.max(0, Math.min(1, (double) (px * dx + py * dy) / lengthSquared));
+                    double ex = px - t * dx;
+                    double ey = py - t * dy;
+                    if (ex * ex + ey * ey <= radiusSquared && t < hitT) {
+                        hit = slot;
+                        hitT = t;
+                    }
+                }
+            }
+        }
+        return hit;
+    }
+
+    private void link(int slot, int cell) {
+        int head = heads[cell];
+        balls.gridPrev[slot] = -1;
+        balls.gridNext[slot] = head;
+        if (head >= 0) {
+            balls.gridPrev[head] = slot;
+        }
+        heads[cell] = slot;
+        balls.gridCell[slot] = cell;
+    }
+
+    private void unlink(int slot) {
+        int prev = balls.gridPrev[slot];
+        int next = balls.gridNext[slot];
+        if (prev >= 0) {
+            balls.gridNext[prev] = next;
+        } else {
+            heads[balls.gridCell[slot]] = next;
+        }
+        if (next >= 0) {
+            balls.gridPrev[next] = prev;
+        }
+        balls.gridPrev[slot] = -1;
+        balls.gridNext[slot] = -1;
+        balls.gridCell[slot] = -1;
+    }
+
+    private int cellOf(int x, int y) {
+        return clampRow(y) * cols + clampCol(x);
+    }
+
+    private int clampCol(int x) {
+        return Math.max(0, Math.min(cols - 1, Math.floorDiv(x, CELL_SIZE)));
+    }
+
+    private int clampRow(int y) {
+        return Math.max(0, Math.min(rows - 1, Math.floorDiv(y, CELL_SIZE)));
+    }
+}
@@ -0,0 +1,71 @@
+package view.components.animations;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+
+/**
+ * Sprite titik bulat yang sudah dipanggang per warna, ukuran, dan tingkat alfa
+ * Partikel digambar dengan drawImage dari sprite ini, bukan fillOval dengan Color baru,
+ * sehingga tidak ada rasterisasi bentuk atau objek baru per partikel per frame.
+ * Sprite dibuat saat pertama kali diminta
+ */
+public class DotSprites {
+    // Jumlah tingkat alfa; cukup halus untuk memudar tanpa terlihat bertingkat
+    public static final int ALPHA_LEVELS = 32;
+
+    private final Color[] palette;
+    private final int maxSize;
+    // [warna][ukuran][tingkat alfa]
+    private final BufferedImage[][][] sprites;
+
+    /**
+     * @param palette Warna partikel; hanya RGB yang dipakai, alfa diatur per partikel
+     * @param maxSize Ukuran titik terbesar dalam piksel
+     */
+    public DotSprites(Color[] palette, int maxSize) {
+        this.palette = palette.clone();
+        this.maxSize = maxSize;
+        this.sprites = new BufferedImage[palette.length][maxSize + 1][ALPHA_LEVELS];
+    }
+
+    /**
+     * Tingkat alfa untuk alfa 0.0-1.0
+     */
+    public static int level(float alpha) {
+        if (alpha <= 0) return 0;
+        if (alpha >= 1) return ALPHA_LEVELS - 1;
+        return (int) (alpha * (ALPHA_LEVELS - 1) + 0.5f);
+    }
+
+    /**
+     * Sprite untuk warna, ukuran, dan tingkat alfa; null jika tidak terlihat
+     */
+    public BufferedImage get(int color, int size, int level) {
+        if (level <= 0 || size <= 0) {
+            return null;
+        }
+        int clampedSize = Math.min(size, maxSize);
+        BufferedImage sprite = sprites[color][clampedSize][level];
+        if (sprite == null) {
+            sprite = bake(palette[color], clampedSize, level);
+            sprites[color][clampedSize][level] = sprite;
+        }
+        return sprite;
+    }
+
+    private static BufferedImage bake(Color color, int size, int level) {
+        BufferedImage sprite = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB_PRE);
+        Graphics2D g2d = sprite.createGraphics();
+        try {
+            g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g2d.setColor(new Color(color.getRed(), color.getGreen(), color.getBlue(),
+                Math.round(level * 255f / (ALPHA_LEVELS - 1))));
+            g2d.fillOval(0, 0, size, size);
+        } finally {
+            g2d.dispose();
+        }
+        return sprite;
+    }
+}
@@ -4,7 +4,7 @@ import view.components.panels.TransparentPanel;
 
 import java.awt.*;
 import java.awt.image.BufferedImage;
-import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.BooleanSupplier;
 import java.util.function.Supplier;
 
@@ -12,45 +12,221 @@ import java.util.function.Supplier;
  * Ini adalah panel khusus yang menampilkan gambar latar belakang
  * dan sistem partikel animasi di atasnya. Panel ini dirancang untuk transparan
  * dan mendukung opacity global untuk efek fade in/out
+ *
+ * Gambar latar diskalakan sekali ke ukuran panel dalam gambar yang kompatibel dengan layar.
+ * Saat partikel diperbarui, hanya area bekas dan area baru partikel yang berubah yang digambar ulang
  */
 public class ParticleBackgroundPanel extends TransparentPanel {
+    // Ruang tambahan di sekitar partikel untuk tepi antialiasing
+    private static final int DIRTY_PADDING = 1;
+    // Area kotor yang berjarak sedekat ini digabung menjadi satu area gambar ulang
+    private static final int MERGE_GAP = 8;
+    // Di atas jumlah area ini seluruh panel digambar ulang sekaligus
+    private static final int MAX_DIRTY_REGIONS = 64;
+
+    // Partikel latar: warna, ukuran maksimum, dan umur dalam langkah timer
+    private static final Color[] AMBIENT_COLORS = {Color.BLUE, Color.MAGENTA, Color.GREEN, Color.ORANGE};
+    private static final DotSprites AMBIENT_SPRITES = new DotSprites(AMBIENT_COLORS, 4);
+    private static final int AMBIENT_LIFETIME = 1000;
+
     // Gambar latar belakang
     private BufferedImage backgroundImage;
-    // Daftar partikel yang akan digambar
-    private List<Particle> particles;
+    // Gambar latar yang sudah diskalakan ke ukuran panel
+    private Image scaledBackground;
+    private GraphicsConfiguration scaledConfiguration;
+    // Partikel yang akan digambar
+    private ParticleEngine particles;
     // Supplier untuk mengecek apakah panel sudah diinisialisasi
     private BooleanSupplier isInitializedSupplier;
     // Supplier untuk mendapatkan nilai opacity global
     private Supplier<Float> globalOpacitySupplier;
 
+    // Tampilan partikel sebelum langkah ini sebagai [x, y, ukuran, tingkat alfa] per slot
+    private int[] previous = new int[0];
+    // Area kotor per langkah sebagai [x0, y0, x1, y1], dipakai ulang antar langkah
+    private int[] dirty = new int[0];
+    private int dirtyCount;
+
     // Konstruktor untuk menginisialisasi panel dengan gambar latar belakang, partikel, dan supplier
-    public ParticleBackgroundPanel(BufferedImage backgroundImage, List<Particle> particles, BooleanSupplier isInitializedSupplier, Supplier<Float> globalOpacitySupplier) {
+    public ParticleBackgroundPanel(BufferedImage backgroundImage, ParticleEngine particles, BooleanSupplier isInitializedSupplier, Supplier<Float> globalOpacitySupplier) {
         this.backgroundImage = backgroundImage;
         this.particles = particles;
         this.isInitializedSupplier = isInitializedSupplier;
         this.globalOpacitySupplier = globalOpacitySupplier;
     }
 
+    /**
+     * Buat partikel latar yang melayang pelan di area width x height
+     * Partikel yang habis umurnya atau keluar area dimunculkan ulang di posisi acak
+     */
+    public static ParticleEngine createAmbientParticles(int count, int width, int height) {
+        ParticleEngine engine = new ParticleEngine("menu-particles", count);
+        engine.setBounds(width, height);
+        engine.setEmitter((target, slot) -> emitAmbient(target, slot, width, height));
+        for (int i = 0; i < count; i++) {
+            emitAmbient(engine, engine.spawn(0, 0, 0, 0, AMBIENT_LIFETIME), width, height);
+        }
+        return engine;
+    }
+
+    private static void emitAmbient(ParticleEngine engine, int slot, int width, int height) {
+        // Acak khusus tampilan; aman dipanggil dari thread pembaruan paralel
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        engine.set(slot,
+            (float) (random.nextDouble() * width),
+            (float) (random.nextDouble() * height),
+            (float) (random.nextDouble() - 0.5) * 0.5f,
+            (float) (random.nextDouble() - 0.5) * 0.5f,
+            AMBIENT_LIFETIME);
+        engine.style(slot, random.nextInt(AMBIENT_COLORS.length), 1 + random.nextInt(3),
+            (float) (random.nextDouble() * 0.3 + 0.1), 0);
+    }
+
+    /**
+     * Perbarui semua partikel lalu gambar ulang hanya area yang berubah
+     * Dipanggil dari timer partikel di EDT, menggantikan repaint seluruh jendela
+     */
+    public void updateParticles() {
+        boolean visible = isInitializedSupplier.getAsBoolean() && isShowing();
+        if (!visible) {
+            particles.update();
+            return;
+        }
+
+        int slots = particles.getSlotCount();
+        if (previous.length < slots * 4) {
+            previous = new int[slots * 4];
+        }
+        for (int i = 0; i < slots; i++) {
+            int slot = particles.slotAt(i);
+            previous[i * 4] = particles.getDrawX(slot);
+            previous[i * 4 + 1] = particles.getDrawY(slot);
+            previous[i * 4 + 2] = particles.getDrawSize(slot);
+            previous[i * 4 + 3] = particles.getAlphaLevel(slot);
+        }
+
+        particles.update();
+
+        if (dirty.length < MAX_DIRTY_REGIONS * 4) {
+            dirty = new int[MAX_DIRTY_REGIONS * 4];
+        }
+        dirtyCount = 0;
+        boolean overflow = false;
+        for (int i = 0; i < slots && !overflow; i++) {
+            int slot = particles.slotAt(i);
+            int oldX = previous[i * 4];
+            int oldY = previous[i * 4 + 1];
+            int oldSize = previous[i * 4 + 2];
+            int newX = particles.getDrawX(slot);
+            int newY = particles.getDrawY(slot);
+            int newSize = particles.getDrawSize(slot);
+            if (newX != oldX || newY != oldY || newSize != oldSize) {
+                overflow = !addDirty(oldX, oldY, oldSize) || !addDirty(newX, newY, newSize);
+            } else if (particles.getAlphaLevel(slot) != previous[i * 4 + 3]) {
+                overflow = !addDirty(newX, newY, newSize);
+            }
+        }
+
+        // Dengan banyak partikel, satu gambar ulang penuh lebih murah daripada banyak area kecil
+        if (overflow) {
+            repaint();
+            return;
+        }
+        for (int i = 0; i < dirtyCount; i += 4) {
+            paintImmediately(dirty[i], dirty[i + 1], dirty[i + 2] - dirty[i], dirty[i + 3] - dirty[i + 1]);
+        }
+    }
+
+    /**
+     * Tambahkan area satu partikel, digabung ke area yang sudah ada jika berdekatan
+     * @return false jika jumlah area sudah mencapai batas
+     */
+    private boolean addDirty(int x, int y, int size) {
+        int x0 = x - DIRTY_PADDING;
+        int y0 = y - DIRTY_PADDING;
+        int x1 = x + size + DIRTY_PADDING + 1;
+        int y1 = y + size + DIRTY_PADDING + 1;
+
+        for (int i = 0; i < dirtyCount; i += 4) {
+            if (x0 <= dirty[i + 2] + MERGE_GAP && x1 >= dirty[i] - MERGE_GAP
+                    && y0 <= dirty[i + 3] + MERGE_GAP && y1 >= dirty[i + 1] - MERGE_GAP) {
+                dirty[i] = Math.min(dirty[i], x0);
+                dirty[i + 1] = Math.min(dirty[i + 1], y0);
+                dirty[i + 2] = Math.max(dirty[i + 2], x1);
+                dirty[i + 3] = Math.max(dirty[i + 3], y1);
+                return true;
+            }
+        }
+        if (dirtyCount == dirty.length) {
+            return false;
+        }
+        dirty[dirtyCount] = x0;
+        dirty[dirtyCount + 1] = y0;
+        dirty[dirtyCount + 2] = x1;
+        dirty[dirtyCount + 3] = y1;
+        dirtyCount += 4;
+        return true;
+    }
+
     @Override
     protected void paintComponent(Graphics g) {
         Graphics2D g2d = (Graphics2D) g.create();
         // Mengaktifkan anti-aliasing untuk kualitas gambar yang lebih baik
         g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 
-        // Menggambar gambar latar belakang dengan opacity global
-        if (backgroundImage != null) {
-            g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, globalOpacitySupplier.get()));
-            g2d.drawImage(backgroundImage, 0, 0, getWidth(), getHeight(), this);
+        // Menggambar gambar latar belakang dengan opacity global, disalin tanpa penskalaan
+        Image background = getScaledBackground();
+        if (background != null) {
+            float opacity = globalOpacitySupplier.get();
+            if (opacity < 1.0f) {
+                g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, opacity));
+            }
+            g2d.drawImage(background, 0, 0, null);
         }
 
-        // Menggambar partikel hanya jika panel sudah diinisialisasi
+        // Menggambar partikel hanya jika panel sudah diinisialisasi, dan hanya yang berada di area klip
         if (isInitializedSupplier.getAsBoolean()) {
             g2d.setComposite(AlphaComposite.SrcOver); // Reset composite untuk partikel
-            for (Particle particle : particles) {
-                particle.draw(g2d); // Memanggil metode draw pada setiap partikel
+            Rectangle clip = g2d.getClipBounds();
+            if (clip == null) {
+                particles.render(g2d, AMBIENT_SPRITES);
+            } else {
+                particles.render(g2d, AMBIENT_SPRITES, clip.x, clip.y, clip.width, clip.height);
             }
         }
 
         g2d.dispose(); // Membersihkan resource Graphics2D
     }
-}
\ No newline at end of file
+
+    /**
+     * Latar yang sudah diskalakan ke ukuran panel; dibuat ulang saat ukuran atau layar berubah
+     */
+    private Image getScaledBackground() {
+        int width = getWidth();
+        int height = getHeight();
+        if (backgroundImage == null || width <= 0 || height <= 0) {
+            return null;
+        }
+        GraphicsConfiguration gc = getGraphicsConfiguration();
+        if (scaledBackground == null || scaledBackground.getWidth(null) != width
+                || scaledBackground.getHeight(null) != height || scaledConfiguration != gc) {
+            scaledBackground = createScaledBackground(gc, width, height);
+            scaledConfiguration = gc;
+        }
+        return scaledBackground;
+    }
+
+    private BufferedImage createScaledBackground(GraphicsConfiguration gc, int width, int height) {
+        BufferedImage scaled = gc != null
+            ? gc.createCompatibleImage(width, height, backgroundImage.getTransparency())
+            : new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB_PRE);
+        Graphics2D g2d = scaled.createGraphics();
+        try {
+            g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g2d.drawImage(backgroundImage, 0, 0, width, height, null);
+        } finally {
+            g2d.dispose();
+        }
+        return scaled;
+    }
+}
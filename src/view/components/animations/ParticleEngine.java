@@ -0,0 +1,354 @@
+package view.components.animations;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Mesin partikel dengan penyimpanan array primitif (struct-of-arrays) dalam ring berkapasitas tetap
+ * Partikel baru ditulis di ekor ring; jika ring penuh, partikel tertua ditimpa. Partikel yang mati
+ * dilewati dan kepala ring maju melewatinya, sehingga urutan gambar tetap urutan kemunculan.
+ * Jika Emitter dipasang, partikel yang mati atau keluar batas dimunculkan ulang di slot yang sama.
+ * Pembaruan berjalan per batch; di atas ambang tertentu dibagi ke ForkJoinPool.
+ * Partikel digambar dari DotSprites, bukan fillOval
+ */
+public class ParticleEngine {
+    // Partikel bertanda ini menggambar kilauan silang putih secara acak
+    public static final int SPARKLE = 1;
+
+    // Di atas jumlah ini pembaruan dibagi ke ForkJoinPool
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 8192;
+    private static final int PARALLEL_CHUNK = 2048;
+
+    /**
+     * Pemunculan ulang partikel di slot yang sama
+     * Dipanggil dari thread pembaruan, termasuk thread ForkJoinPool, jadi harus aman thread
+     */
+    public interface Emitter {
+        void emit(ParticleEngine engine, int slot);
+    }
+
+    private final String name;
+    private final int mask;
+
+    // Status per partikel; indeks = slot fisik di ring
+    final float[] x, y, vx, vy;
+    final float[] life, maxLife;
+    final float[] gravity, alpha;
+    final byte[] color, size, flags;
+
+    // Slot tertua dan jumlah slot terpakai dari kepala (termasuk lubang partikel mati)
+    private int head;
+    private int count;
+    private int live;
+
+    private float drag = 1.0f;
+    private Emitter emitter;
+    private boolean bounded;
+    private float boundsWidth, boundsHeight;
+    private int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+
+    private long spawned;
+    private long overwritten;
+
+    /**
+     * @param name Nama untuk statistik
+     * @param capacity Jumlah partikel maksimum, dibulatkan ke pangkat dua
+     */
+    public ParticleEngine(String name, int capacity) {
+        this.name = name;
+        int size = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        this.mask = size - 1;
+        x = new float[size];
+        y = new float[size];
+        vx = new float[size];
+        vy = new float[size];
+        life = new float[size];
+        maxLife = new float[size];
+        gravity = new float[size];
+        alpha = new float[size];
+        color = new byte[size];
+        this.size = new byte[size];
+        flags = new byte[size];
+    }
+
+    /**
+     * Salinan padat untuk potret render; hanya partikel hidup yang disalin
+     */
+    public ParticleEngine copy() {
+        ParticleEngine copy = new ParticleEngine(name, Math.max(1, live));
+        copyInto(copy);
+        return copy;
+    }
+
+    /**
+     * Seperti copy(), tetapi menimpa isi engine yang sudah ada; untuk salinan render yang dipakai ulang
+     * @param target Engine tujuan dengan kapasitas minimal jumlah partikel hidup
+     */
+    public void copyInto(ParticleEngine target) {
+        if (live > target.mask + 1) {
+            throw new IllegalArgumentException("Kapasitas " + target.name + " kurang dari " + live + " partikel");
+        }
+        target.drag = drag;
+        target.head = 0;
+        target.count = 0;
+        for (int i = 0; i < count; i++) {
+            int from = (head + i) & mask;
+            if (life[from] <= 0) continue;
+            int to = target.count++;
+            target.x[to] = x[from];
+            target.y[to] = y[from];
+            target.vx[to] = vx[from];
+            target.vy[to] = vy[from];
+            target.life[to] = life[from];
+            target.maxLife[to] = maxLife[from];
+            target.gravity[to] = gravity[from];
+            target.alpha[to] = alpha[from];
+            target.color[to] = color[from];
+            target.size[to] = size[from];
+            target.flags[to] = flags[from];
+        }
+        target.live = target.count;
+    }
+
+    /**
+     * Faktor redaman kecepatan per langkah (1 = tanpa redaman)
+     */
+    public void setDrag(float drag) {
+        this.drag = drag;
+    }
+
+    /**
+     * Munculkan ulang partikel yang mati di slot yang sama, bukan menghapusnya
+     */
+    public void setEmitter(Emitter emitter) {
+        this.emitter = emitter;
+    }
+
+    /**
+     * Partikel di luar [-ukuran, lebar + ukuran] x [-ukuran, tinggi + ukuran] dianggap mati
+     */
+    public void setBounds(float width, float height) {
+        this.bounded = true;
+        this.boundsWidth = width;
+        this.boundsHeight = height;
+    }
+
+    public void setParallelThreshold(int parallelThreshold) {
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    /**
+     * Tambahkan partikel; menimpa partikel tertua jika ring penuh
+     * Tampilan bawaan: warna 0, ukuran 2, alfa 1, tanpa gravitasi dan tanda
+     * @return Slot partikel
+     */
+    public int spawn(float px, float py, float pvx, float pvy, float lifetime) {
+        if (count == mask + 1) {
+            if (life[head] > 0) {
+                live--;
+                overwritten++;
+            }
+            head = (head + 1) & mask;
+            count--;
+        }
+        int slot = (head + count) & mask;
+        count++;
+        live++;
+        spawned++;
+        set(slot, px, py, pvx, pvy, lifetime);
+        color[slot] = 0;
+        size[slot] = 2;
+        alpha[slot] = 1.0f;
+        gravity[slot] = 0;
+        flags[slot] = 0;
+        return slot;
+    }
+
+    /**
+     * Atur ulang gerak dan umur partikel di slot; dipakai Emitter untuk memunculkan ulang
+     */
+    public void set(int slot, float px, float py, float pvx, float pvy, float lifetime) {
+        x[slot] = px;
+        y[slot] = py;
+        vx[slot] = pvx;
+        vy[slot] = pvy;
+        life[slot] = lifetime;
+        maxLife[slot] = lifetime;
+    }
+
+    /**
+     * Atur tampilan partikel
+     * @param colorIndex Indeks warna di palet DotSprites
+     * @param dotSize Diameter dalam piksel
+     * @param baseAlpha Alfa saat umur penuh, 0.0-1.0
+     * @param particleFlags Gabungan tanda seperti SPARKLE
+     */
+    public void style(int slot, int colorIndex, int dotSize, float baseAlpha, int particleFlags) {
+        color[slot] = (byte) colorIndex;
+        size[slot] = (byte) dotSize;
+        alpha[slot] = baseAlpha;
+        flags[slot] = (byte) particleFlags;
+    }
+
+    public void setGravity(int slot, float g) {
+        gravity[slot] = g;
+    }
+
+    /**
+     * Hapus semua partikel
+     */
+    public void clear() {
+        for (int i = 0; i < count; i++) {
+            life[(head + i) & mask] = 0;
+        }
+        head = 0;
+        count = 0;
+        live = 0;
+    }
+
+    /**
+     * Perbarui semua partikel satu langkah
+     */
+    public void update() {
+        if (count >= parallelThreshold) {
+            ForkJoinPool.commonPool().invoke(new UpdateTask(0, count));
+        } else {
+            updateRange(0, count);
+        }
+
+        if (emitter == null) {
+            // Hitung ulang yang hidup lalu majukan kepala melewati partikel mati di depan
+            int alive = 0;
+            for (int i = 0; i < count; i++) {
+                if (life[(head + i) & mask] > 0) alive++;
+            }
+            live = alive;
+            while (count > 0 && life[head] <= 0) {
+                head = (head + 1) & mask;
+                count--;
+            }
+        }
+    }
+
+    private void updateRange(int from, int to) {
+        for (int i = from; i < to; i++) {
+            int slot = (head + i) & mask;
+            if (life[slot] <= 0 && emitter == null) continue;
+
+            x[slot] += vx[slot];
+            y[slot] += vy[slot];
+            life[slot] -= 1;
+            vy[slot] += gravity[slot];
+            vx[slot] *= drag;
+            vy[slot] *= drag;
+
+            boolean dead = life[slot] <= 0;
+            if (!dead && bounded) {
+                float margin = size[slot];
+                dead = x[slot] < -margin || x[slot] > boundsWidth + margin
+                    || y[slot] < -margin || y[slot] > boundsHeight + margin;
+            }
+            if (dead) {
+                if (emitter != null) {
+                    emitter.emit(this, slot);
+                } else {
+                    life[slot] = 0;
+                }
+            }
+        }
+    }
+
+    /**
+     * Gambar semua partikel hidup sesuai urutan kemunculan, berpusat di posisinya
+     */
+    public void render(Graphics2D g2d, DotSprites sprites) {
+        for (int i = 0; i < count; i++) {
+            renderSlot(g2d, sprites, (head + i) & mask);
+        }
+    }
+
+    /**
+     * Gambar partikel yang kotak gambarnya beririsan dengan area klip
+     */
+    public void render(Graphics2D g2d, DotSprites sprites, int clipX, int clipY, int clipWidth, int clipHeight) {
+        for (int i = 0; i < count; i++) {
+            int slot = (head + i) & mask;
+            int left = getDrawX(slot) - 1;
+            int top = getDrawY(slot) - 1;
+            int extent = size[slot] + 2;
+            if (left < clipX + clipWidth && left + extent > clipX && top < clipY + clipHeight && top + extent > clipY) {
+                renderSlot(g2d, sprites, slot);
+            }
+        }
+    }
+
+    private void renderSlot(Graphics2D g2d, DotSprites sprites, int slot) {
+        if (life[slot] <= 0) return;
+        BufferedImage sprite = sprites.get(color[slot], size[slot], getAlphaLevel(slot));
+        if (sprite == null) return;
+        int drawX = getDrawX(slot);
+        int drawY = getDrawY(slot);
+        g2d.drawImage(sprite, drawX, drawY, null);
+
+        // Efek kilauan untuk partikel bertanda; acak khusus render
+        if ((flags[slot] & SPARKLE) != 0 && ThreadLocalRandom.current().nextDouble() < 0.3) {
+            int cx = (int) x[slot];
+            int cy = (int) y[slot];
+            g2d.setColor(Color.WHITE);
+            g2d.drawLine(cx - 3, cy, cx + 3, cy);
+            g2d.drawLine(cx, cy - 3, cx, cy + 3);
+        }
+    }
+
+    // Posisi kiri-atas, ukuran, dan tingkat alfa partikel seperti yang digambar
+    public int getDrawX(int slot) { return (int) x[slot] - size[slot] / 2; }
+    public int getDrawY(int slot) { return (int) y[slot] - size[slot] / 2; }
+    public int getDrawSize(int slot) { return size[slot]; }
+    public int getAlphaLevel(int slot) {
+        return life[slot] <= 0 ? 0 : DotSprites.level(alpha[slot] * life[slot] / maxLife[slot]);
+    }
+
+    /**
+     * Slot fisik untuk urutan ke-i dari partikel tertua, 0 <= i < getSlotCount()
+     */
+    public int slotAt(int i) {
+        return (head + i) & mask;
+    }
+
+    // Jumlah slot terpakai dari kepala, termasuk partikel mati yang belum dilewati
+    public int getSlotCount() { return count; }
+    public int getLiveCount() { return live; }
+    public int getCapacity() { return mask + 1; }
+
+    public String getStats() {
+        return String.format("ParticleEngine{%s: live=%d/%d, spawned=%d, overwritten=%d}",
+            name, live, mask + 1, spawned, overwritten);
+    }
+
+    /**
+     * Pembaruan satu rentang urutan; dibagi dua sampai cukup kecil
+     */
+    private final class UpdateTask extends RecursiveAction {
+        private final int from;
+        private final int to;
+
+        UpdateTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PARALLEL_CHUNK) {
+                updateRange(from, to);
+            } else {
+                int middle = (from + to) >>> 1;
+                invokeAll(new UpdateTask(from, middle), new UpdateTask(middle, to));
+            }
+        }
+    }
+}
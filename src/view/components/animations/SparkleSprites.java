@@ -0,0 +1,72 @@
+package view.components.animations;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+
+/**
+ * Sprite kilauan putih berbentuk silang yang sudah dipanggang per tingkat alfa
+ * Menggantikan beberapa drawLine antialias dan fillOval per kilauan per frame; setiap garis
+ * antialias membuat objek bentuk baru di Java2D, sedangkan drawImage tanpa skala tidak.
+ * Tingkat alfa sama dengan DotSprites. Sprite dibuat saat pertama kali diminta
+ */
+public class SparkleSprites {
+    private final int arm;
+    private final int diagonalArm;
+    private final int dotOffset;
+    private final int dotSize;
+    private final BufferedImage[] sprites = new BufferedImage[DotSprites.ALPHA_LEVELS];
+
+    /**
+     * @param arm Panjang lengan horizontal dan vertikal dari pusat
+     * @param diagonalArm Panjang lengan diagonal, 0 jika tanpa diagonal
+     * @param dotOffset Posisi kiri atas titik relatif terhadap pusat
+     * @param dotSize Diameter titik, 0 jika tanpa titik
+     */
+    public SparkleSprites(int arm, int diagonalArm, int dotOffset, int dotSize) {
+        this.arm = arm;
+        this.diagonalArm = diagonalArm;
+        this.dotOffset = dotOffset;
+        this.dotSize = dotSize;
+    }
+
+    /**
+     * Gambar kilauan berpusat di (centerX, centerY); tidak menggambar apa pun jika alfa nol
+     */
+    public void draw(Graphics2D g2d, int centerX, int centerY, int level) {
+        if (level <= 0) {
+            return;
+        }
+        BufferedImage sprite = sprites[Math.min(level, DotSprites.ALPHA_LEVELS - 1)];
+        if (sprite == null) {
+            sprite = bake(level);
+            sprites[Math.min(level, DotSprites.ALPHA_LEVELS - 1)] = sprite;
+        }
+        g2d.drawImage(sprite, centerX - arm, centerY - arm, null);
+    }
+
+    private BufferedImage bake(int level) {
+        int size = arm * 2 + 1;
+        BufferedImage sprite = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB_PRE);
+        Graphics2D g2d = sprite.createGraphics();
+        try {
+            g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g2d.setStroke(new BasicStroke(1));
+            g2d.setColor(new Color(255, 255, 255, Math.round(level * 255f / (DotSprites.ALPHA_LEVELS - 1))));
+            if (dotSize > 0) {
+                g2d.fillOval(arm + dotOffset, arm + dotOffset, dotSize, dotSize);
+            }
+            g2d.drawLine(0, arm, arm * 2, arm);
+            g2d.drawLine(arm, 0, arm, arm * 2);
+            if (diagonalArm > 0) {
+                g2d.drawLine(arm - diagonalArm, arm - diagonalArm, arm + diagonalArm, arm + diagonalArm);
+                g2d.drawLine(arm - diagonalArm, arm + diagonalArm, arm + diagonalArm, arm - diagonalArm);
+            }
+        } finally {
+            g2d.dispose();
+        }
+        return sprite;
+    }
+}
@@ -2,6 +2,7 @@ package view.components.ui;
 
 import view.constants.ColorConstants;
 import view.constants.FontConstants;
+import view.constants.RenderResources;
 
 import javax.swing.*;
 import java.awt.*;
@@ -15,7 +16,8 @@ import java.awt.event.FocusEvent;
 public class ModernTextField extends JTextField {
     private String placeholder;
     private boolean focused = false;
-    private Color focusColor = ColorConstants.ACCENT_BLUE;
+    // Warna border fokus per tingkat alfa, agar paint tidak membuat Color baru
+    private final RenderResources.AlphaRamp focusRamp = new RenderResources.AlphaRamp(ColorConstants.ACCENT_BLUE);
     private Timer focusTimer;
     private float focusAnimation = 0.0f;
 
@@ -80,15 +82,13 @@ public class ModernTextField extends JTextField {
         g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
         
         // Menggambar latar belakang dengan efek kaca.
-        Color bgColor = new Color(255, 255, 255, (int)(10 + focusAnimation * 15));
-        g2d.setColor(bgColor);
+        g2d.setColor(RenderResources.WHITE.at((int)(10 + focusAnimation * 15)));
         g2d.fillRoundRect(0, 0, getWidth(), getHeight(), 12, 12);
         
         // Menggambar border dengan animasi.
         int borderAlpha = (int)(100 + focusAnimation * 155);
-        Color borderColor = new Color(focusColor.getRed(), focusColor.getGreen(), focusColor.getBlue(), borderAlpha);
-        g2d.setColor(borderColor);
-        g2d.setStroke(new BasicStroke(2.0f));
+        g2d.setColor(focusRamp.at(borderAlpha));
+        g2d.setStroke(RenderResources.stroke(2.0f));
         g2d.drawRoundRect(1, 1, getWidth() - 2, getHeight() - 2, 12, 12);
         
         g2d.dispose();
@@ -3,6 +3,7 @@ package view.components.ui;
 import view.constants.ButtonStyle;
 import view.constants.ColorConstants;
 import view.constants.FontConstants;
+import view.constants.RenderResources;
 
 import javax.swing.*;
 import java.awt.*;
@@ -15,6 +16,12 @@ import java.awt.event.MouseEvent;
  */
 public class UltraModernButton extends JButton {
     private Color baseColor;
+    // Varian alfa baseColor, dihitung sekali per tombol
+    private final RenderResources.AlphaRamp baseRamp;
+    // Gradien latar belakang, dibuat ulang hanya saat tinggi atau opasitas berubah
+    private GradientPaint backgroundGradient;
+    private int gradientHeight = -1;
+    private float gradientOpacity = -1;
     private ButtonStyle style;
     private boolean isHovered = false;
     private boolean isPressed = false;
@@ -31,6 +38,7 @@ public class UltraModernButton extends JButton {
     public UltraModernButton(String text, Color baseColor, ButtonStyle style) {
         super(text);
         this.baseColor = baseColor;
+        this.baseRamp = new RenderResources.AlphaRamp(baseColor);
         this.style = style;
         
         // Mengatur font, warna, dan properti tombol
@@ -182,42 +190,38 @@ public class UltraModernButton extends JButton {
         if (style != ButtonStyle.ICON) {
             // Efek glow
             if (hoverAnimation > 0) {
-                Color glowColor = new Color(baseColor.getRed(), baseColor.getGreen(), baseColor.getBlue(), 
-                                         (int)(hoverAnimation * 100));
+                int glowAlpha = (int)(hoverAnimation * 100);
                 for (int i = 0; i < 10; i++) {
-                    g2d.setColor(new Color(glowColor.getRed(), glowColor.getGreen(), glowColor.getBlue(), 
-                                         glowColor.getAlpha() / (i + 1)));
+                    g2d.setColor(baseRamp.at(glowAlpha / (i + 1)));
                     g2d.fillRoundRect(-i, -i, width + 2*i, height + 2*i, 15 + i, 15 + i);
                 }
             }
             
             // Latar belakang utama
-            GradientPaint gradient = new GradientPaint(
-                0, 0, new Color(baseColor.getRed(), baseColor.getGreen(), baseColor.getBlue(), 
-                               (int)(opacity * (style == ButtonStyle.PRIMARY ? 255 : 100))),
-                0, height, new Color(baseColor.getRed(), baseColor.getGreen(), baseColor.getBlue(), 
-                                    (int)(opacity * (style == ButtonStyle.PRIMARY ? 200 : 50)))
-            );
-            g2d.setPaint(gradient);
+            if (backgroundGradient == null || gradientHeight != height || gradientOpacity != opacity) {
+                backgroundGradient = new GradientPaint(
+                    0, 0, baseRamp.at((int)(opacity * (style == ButtonStyle.PRIMARY ? 255 : 100))),
+                    0, height, baseRamp.at((int)(opacity * (style == ButtonStyle.PRIMARY ? 200 : 50)))
+                );
+                gradientHeight = height;
+                gradientOpacity = opacity;
+            }
+            g2d.setPaint(backgroundGradient);
             g2d.fillRoundRect(0, 0, width, height, 15, 15);
             
             // Border
-            g2d.setColor(new Color(baseColor.getRed(), baseColor.getGreen(), baseColor.getBlue(), 
-                                 (int)(opacity * 150)));
+            g2d.setColor(baseRamp.at((int)(opacity * 150)));
             g2d.drawRoundRect(0, 0, width - 1, height - 1, 15, 15);
         }
         
         // Latar belakang tombol ikon
         if (style == ButtonStyle.ICON) {
-            Color iconBg = new Color(baseColor.getRed(), baseColor.getGreen(), baseColor.getBlue(), 
-                                   (int)(opacity * (50 + hoverAnimation * 100)));
-            g2d.setColor(iconBg);
+            g2d.setColor(baseRamp.at((int)(opacity * (50 + hoverAnimation * 100))));
             g2d.fillRoundRect(0, 0, width, height, 12, 12);
         }
         
         // Animasi loading
         if (isLoading) {
-            g2d.setColor(new Color(255, 255, 255, 100));
             int dotSize = 4;
             int spacing = 12;
             int startX = (width - 2 * spacing) / 2;
@@ -225,7 +229,7 @@ public class UltraModernButton extends JButton {
             
             for (int i = 0; i < 3; i++) {
                 float alpha = (float) Math.abs(Math.sin(loadingAnimation * Math.PI * 2 + i * Math.PI / 2));
-                g2d.setColor(new Color(255, 255, 255, (int)(alpha * 255)));
+                g2d.setColor(RenderResources.WHITE.at(alpha));
                 g2d.fillOval(startX + i * spacing, y, dotSize, dotSize);
             }
         }
@@ -0,0 +1,116 @@
+package view.constants;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Font;
+
+/**
+ * Registri sumber daya render yang dipakai ulang antar frame
+ * Warna dengan alfa berubah diambil dari tabel alfa yang dihitung sekali, sedangkan
+ * BasicStroke dan Font dibuat sekali per ukuran lalu disimpan. Dengan begitu metode paint
+ * tidak membuat objek Color, BasicStroke, atau Font baru setiap frame
+ */
+public final class RenderResources {
+    // Tabel alfa untuk warna yang sering digambar dengan transparansi berubah
+    public static final AlphaRamp WHITE = new AlphaRamp(255, 255, 255);
+    public static final AlphaRamp BLACK = new AlphaRamp(0, 0, 0);
+    public static final AlphaRamp GOLD = new AlphaRamp(255, 215, 0);
+    public static final AlphaRamp PURPLE = new AlphaRamp(138, 43, 226);
+
+    // Lebar garis disimpan per seperempat piksel
+    private static final int STROKE_STEPS_PER_PIXEL = 4;
+    private static final int MAX_STROKE_WIDTH = 32;
+    private static final BasicStroke[] STROKES = new BasicStroke[MAX_STROKE_WIDTH * STROKE_STEPS_PER_PIXEL + 1];
+    private static final BasicStroke[] ROUND_STROKES = new BasicStroke[MAX_STROKE_WIDTH * STROKE_STEPS_PER_PIXEL + 1];
+
+    // Font Serif per gaya (PLAIN, BOLD, ITALIC, BOLD|ITALIC) dan ukuran
+    private static final int MAX_FONT_SIZE = 96;
+    private static final Font[][] SERIF_FONTS = new Font[4][MAX_FONT_SIZE + 1];
+
+    private RenderResources() {
+    }
+
+    /**
+     * Garis dengan ujung dan sambungan bawaan (CAP_SQUARE, JOIN_MITER)
+     * @param width Lebar garis, dibulatkan ke seperempat piksel
+     */
+    public static BasicStroke stroke(float width) {
+        int index = strokeIndex(width);
+        BasicStroke stroke = STROKES[index];
+        if (stroke == null) {
+            stroke = new BasicStroke(index / (float) STROKE_STEPS_PER_PIXEL);
+            STROKES[index] = stroke;
+        }
+        return stroke;
+    }
+
+    /**
+     * Garis dengan ujung dan sambungan bulat
+     * @param width Lebar garis, dibulatkan ke seperempat piksel
+     */
+    public static BasicStroke roundStroke(float width) {
+        int index = strokeIndex(width);
+        BasicStroke stroke = ROUND_STROKES[index];
+        if (stroke == null) {
+            stroke = new BasicStroke(index / (float) STROKE_STEPS_PER_PIXEL,
+                BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND);
+            ROUND_STROKES[index] = stroke;
+        }
+        return stroke;
+    }
+
+    /**
+     * Font Serif dengan gaya dan ukuran tertentu
+     * @param style Font.PLAIN, Font.BOLD, Font.ITALIC, atau gabungannya
+     * @param size Ukuran font dalam poin
+     */
+    public static Font serif(int style, int size) {
+        int clampedSize = Math.max(1, Math.min(MAX_FONT_SIZE, size));
+        Font[] sizes = SERIF_FONTS[style & (Font.BOLD | Font.ITALIC)];
+        Font font = sizes[clampedSize];
+        if (font == null) {
+            font = new Font("Serif", style, clampedSize);
+            sizes[clampedSize] = font;
+        }
+        return font;
+    }
+
+    private static int strokeIndex(float width) {
+        return Math.max(0, Math.min(STROKES.length - 1, Math.round(width * STROKE_STEPS_PER_PIXEL)));
+    }
+
+    /**
+     * Tabel 256 varian alfa dari satu warna RGB, dibuat sekali saat konstruksi
+     * Objek Color tidak dapat diubah, sehingga aman dibagi antar thread render dan EDT
+     */
+    public static final class AlphaRamp {
+        private final Color[] colors = new Color[256];
+
+        public AlphaRamp(int red, int green, int blue) {
+            for (int alpha = 0; alpha < colors.length; alpha++) {
+                colors[alpha] = new Color(red, green, blue, alpha);
+            }
+        }
+
+        /**
+         * Tabel alfa untuk RGB dari warna yang diberikan; alfa warna asal diabaikan
+         */
+        public AlphaRamp(Color base) {
+            this(base.getRed(), base.getGreen(), base.getBlue());
+        }
+
+        /**
+         * @param alpha Alfa 0-255; nilai di luar rentang dipotong
+         */
+        public Color at(int alpha) {
+            return colors[Math.max(0, Math.min(255, alpha))];
+        }
+
+        /**
+         * @param fraction Alfa 0.0-1.0; nilai di luar rentang dipotong
+         */
+        public Color at(float fraction) {
+            return at((int) (fraction * 255));
+        }
+    }
+}
@@ -9,4 +9,8 @@ public class UIConstants {
     public static final int FADE_ANIMATION_DELAY_MS = 16;
     public static final float FADE_ANIMATION_STEP = 0.02f;
     public static final int STAGGER_ANIMATION_DELAY = 100;
+    // Hanya baris teratas papan skor yang dianimasikan; sisanya langsung ditambahkan
+    public static final int STAGGER_ANIMATION_ROWS = 10;
+    // Muat halaman papan skor berikutnya saat sisa gulir kurang dari jumlah baris ini
+    public static final int LEADERBOARD_PREFETCH_ROWS = 5;
 }
\ No newline at end of file
@@ -0,0 +1,121 @@
+package viewmodel;
+
+import utils.FrameMetrics;
+import utils.GameConstants;
+
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Penjadwal simulasi dengan langkah waktu tetap di thread terpisah dari EDT
+ * Waktu diukur dengan System.nanoTime dan diakumulasikan; setiap langkah penuh menjalankan
+ * GameViewModel.update() sekali. Jumlah langkah susulan per frame dibatasi agar simulasi
+ * tidak tertinggal terus-menerus, lalu potret status diserahkan ke pendengar frame
+ */
+public class GameLoop implements Runnable {
+    private final GameViewModel viewModel;
+    private final Consumer<GameSnapshot> frameListener;
+    // Penerima durasi setiap langkah simulasi; boleh null
+    private final FrameMetrics metrics;
+    private volatile boolean running;
+    private Thread thread;
+
+    /**
+     * @param viewModel ViewModel yang disimulasikan.
+     * @param frameListener Dipanggil di thread loop dengan potret terbaru setiap frame.
+     */
+    public GameLoop(GameViewModel viewModel, Consumer<GameSnapshot> frameListener) {
+        this(viewModel, frameListener, null);
+    }
+
+    /**
+     * @param metrics Mencatat durasi setiap GameViewModel.update(); null untuk tidak mencatat.
+     */
+    public GameLoop(GameViewModel viewModel, Consumer<GameSnapshot> frameListener, FrameMetrics metrics) {
+        this.viewModel = viewModel;
+        this.frameListener = frameListener;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Mulai thread simulasi
+     */
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        thread = new Thread(this, "game-loop");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Hentikan thread simulasi dan tunggu sebentar hingga selesai
+     */
+    public synchronized void stop() {
+        running = false;
+        if (thread != null && thread != Thread.currentThread()) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        thread = null;
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public void run() {
+        final long step = GameConstants.FRAME_STEP_NANOS;
+        long previous = System.nanoTime();
+        long accumulator = 0;
+
+        while (running) {
+            long now = System.nanoTime();
+            accumulator += now - previous;
+            previous = now;
+
+            // Jalankan langkah simulasi tetap, dibatasi per frame
+            int steps = 0;
+            while (accumulator >= step && steps < GameConstants.MAX_CATCH_UP_STEPS) {
+                long updateStart = System.nanoTime();
+                try {
+                    viewModel.update();
+                } catch (RuntimeException e) {
+                    System.err.println("Error pada langkah simulasi: " + e.getMessage());
+                    e.printStackTrace();
+                }
+                if (metrics != null) {
+                    metrics.recordUpdate(System.nanoTime() - updateStart);
+                }
+                accumulator -= step;
+                steps++;
+            }
+
+            // Buang sisa waktu yang tidak bisa dikejar agar tidak terjadi spiral keterlambatan
+            if (accumulator >= step) {
+                accumulator %= step;
+            }
+
+            float alpha = (float) accumulator / step;
+            try {
+                frameListener.accept(viewModel.createSnapshot(alpha));
+            } catch (RuntimeException e) {
+                System.err.println("Error saat menyerahkan frame: " + e.getMessage());
+                e.printStackTrace();
+            }
+
+            // Tidur hingga langkah berikutnya jatuh tempo
+            long sleepNanos = step - accumulator - (System.nanoTime() - now);
+            if (sleepNanos > 0) {
+                LockSupport.parkNanos(this, sleepNanos);
+            }
+        }
+    }
+}
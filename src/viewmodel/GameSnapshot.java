@@ -0,0 +1,59 @@
+package viewmodel;
+
+import view.components.BallStore;
+import view.components.Character;
+import view.components.Lasso;
+
+/**
+ * Potret status game yang tidak dapat diubah untuk dirender
+ * Dibuat oleh GameViewModel di thread simulasi; semua entitas di dalamnya adalah salinan
+ * sehingga thread render tidak pernah membaca status yang sedang diperbarui oleh simulasi.
+ * Salinan lasso dipakai ulang setelah potret dikembalikan lewat GameViewModel.recycleSnapshot
+ */
+public final class GameSnapshot {
+    /**
+     * Status penyimpanan skor di akhir permainan
+     */
+    public enum SaveState { NONE, SAVING, SAVED, JOURNALED, FAILED }
+
+    private final long tick;
+    private final float alpha;
+    private final BallStore balls;
+    private final Character character;
+    private final Lasso lasso;
+    private final int score;
+    private final int count;
+    private final int timeRemaining;
+    private final boolean paused;
+    private final boolean gameOver;
+    private final SaveState saveState;
+
+    GameSnapshot(long tick, float alpha, BallStore balls, Character character, Lasso lasso,
+                 int score, int count, int timeRemaining, boolean paused, boolean gameOver,
+                 SaveState saveState) {
+        this.tick = tick;
+        this.alpha = alpha;
+        this.balls = balls;
+        this.character = character;
+        this.lasso = lasso;
+        this.score = score;
+        this.count = count;
+        this.timeRemaining = timeRemaining;
+        this.paused = paused;
+        this.gameOver = gameOver;
+        this.saveState = saveState;
+    }
+
+    // Getters
+    public long getTick() { return tick; }
+    public float getAlpha() { return alpha; }
+    public BallStore getBalls() { return balls; }
+    public Character getCharacter() { return character; }
+    public Lasso getLasso() { return lasso; }
+    public int getScore() { return score; }
+    public int getCount() { return count; }
+    public int getTimeRemaining() { return timeRemaining; }
+    public boolean isPaused() { return paused; }
+    public boolean isGameOver() { return gameOver; }
+    public SaveState getSaveState() { return saveState; }
+}
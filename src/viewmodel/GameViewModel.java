@@ -1,16 +1,24 @@
 package viewmodel;
 
-import model.Database;
 import model.GameData;
-import view.components.Ball;
+import model.ScoreWriter;
+import view.components.BallStore;
 import view.components.Lasso;
 import view.components.Character;
 
 import utils.GameConstants;
-
-import java.util.ArrayList;
-import java.util.List;
+import utils.GameEvents;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Queue;
 import java.util.Random;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
  /**
  * ViewModel untuk logika game dengan dukungan animasi sprite
@@ -21,14 +29,30 @@ public class GameViewModel {
     private GameData gameData;
     private Character character;
     private Lasso lasso;
-    private List<Ball> balls;
+    // Bola dalam bentuk struct-of-arrays beserta broadphase tabrakan lasso
+    private BallStore balls;
+    // Sumber acak sesi; seed yang sama dengan input yang sama menghasilkan permainan yang sama
+    private final long seed;
     private Random random;
     private int ballSpawnTimer;
     private boolean[] keyPressed;
     private int currentScore;
     private int timeRemaining;
     private boolean gamePaused;
-    private double timeAccumulator = 0;
+    private long tick = 0;
+    private long elapsedNanos = 0;
+    // Hasil penyimpanan skor permainan ini; null sampai game dihentikan
+    private CompletableFuture<Boolean> saveResult;
+    // False untuk simulasi tanpa tampilan (uji keseimbangan, benchmark); hasil tidak disimpan
+    private final boolean persistResults;
+    // Input dari EDT diantrikan lalu diterapkan di awal langkah berikutnya: [op, a, b]
+    private final Queue<int[]> pendingInput = new ConcurrentLinkedQueue<>();
+    // Null jika perekaman tidak aktif (-Dgame.recordDir)
+    private InputRecorder recorder;
+    // Salinan lasso dari potret yang sudah selesai dirender, dipakai ulang oleh createSnapshot.
+    // Berbasis array agar offer dari thread render tidak membuat node baru per frame
+    private static final int RECYCLED_SNAPSHOTS = 4;
+    private final Queue<Lasso> recycledLassos = new ArrayBlockingQueue<>(RECYCLED_SNAPSHOTS);
     
     // Pelacakan pergerakan untuk animasi yang halus
     private boolean isMovingHorizontally = false;
@@ -37,8 +61,20 @@ public class GameViewModel {
     private static final long MOVE_DELAY = 50; 
 
     public GameViewModel(String username) {
+        this(username, true, GameConstants.SESSION_SEED != null ? GameConstants.SESSION_SEED : System.nanoTime());
+    }
+
+    /**
+     * @param username Nama pemain.
+     * @param persistResults False agar hasil permainan tidak dikirim ke ScoreWriter.
+     * @param seed Seed sumber acak sesi.
+     */
+    public GameViewModel(String username, boolean persistResults, long seed) {
+        this.persistResults = persistResults;
+        this.seed = seed;
         this.gameData = new GameData(username);
-        this.random = new Random();
+        this.random = new Random(seed);
+        startRecording();
         this.ballSpawnTimer = 0;
         this.keyPressed = new boolean[256];
         
@@ -48,7 +84,7 @@ public class GameViewModel {
 
     private void initializeGameElements() {
         // Inisialisasi bola
-        balls = new ArrayList<>();
+        balls = new BallStore(GameConstants.MAX_BALLS);
         for (int i = 0; i < GameConstants.INITIAL_BALL_COUNT; i++) {
             spawnSingleBall(); 
         }
@@ -57,7 +93,7 @@ public class GameViewModel {
         character = new Character();
 
         // Inisialisasi lasso
-        lasso = new Lasso();
+        lasso = new Lasso(random);
 
         // Inisialisasi variabel status game lainnya
         currentScore = 0;
@@ -66,28 +102,40 @@ public class GameViewModel {
     }
 
     /**
-     * Status game logika loop game utama.
+     * Satu langkah simulasi dengan durasi tetap GameConstants.FRAME_STEP_NANOS.
+     * Dipanggil oleh GameLoop dari thread simulasi.
      */
-    public void update() {
+    public synchronized void update() {
         if (!gameData.isGameRunning() || gameData.isGamePaused() || gameData.isGameOver()) { 
             return;
         }
 
+        // Langkah yang melewati ambang dicatat sebagai event JFR magicalgems.Tick
+        GameEvents.Tick event = new GameEvents.Tick();
+        event.begin();
+        step();
+        event.finish(tick, balls.size(), lasso.getParticleCount());
+    }
+
+    private void step() {
+        tick++;
+        applyPendingInput();
         character.update();
         lasso.updateStartPosition(character.getCenterX(), character.getCenterY());
         handleInputSmooth();
-        lasso.update();
+        lasso.update(balls);
 
         // Periksa tabrakan lasso dengan bola
-        Ball caughtBall = lasso.checkCollision(balls.toArray(new Ball[0]));
-        if (caughtBall != null) {
-            if (caughtBall.getValue() == 10) { 
+        int caughtSlot = lasso.checkCollision(balls);
+        if (caughtSlot >= 0) {
+            int caughtValue = balls.getValue(caughtSlot);
+            if (caughtValue == 10) { 
                 gameData.setGameOver(true); 
                 stopGame(); // 
             } else {
                 // Tambahkan skor dan jumlah bola jika bukan bom
-                currentScore += caughtBall.getValue();
-                gameData.addScore(caughtBall.getValue());
+                currentScore += caughtValue;
+                gameData.addScore(caughtValue);
                 gameData.incrementCount();
             }
 
@@ -99,12 +147,9 @@ public class GameViewModel {
         // Spawn bola baru
         spawnBalls();
 
-        // Perbarui waktu yang tersisa
-        timeAccumulator += GameConstants.FRAME_DELAY / 1000.0;
-        if (timeAccumulator >= 1.0) {
-            timeRemaining--;
-            timeAccumulator = 0;
-        }
+        // Perbarui waktu yang tersisa berdasarkan waktu simulasi dalam nanodetik
+        elapsedNanos += GameConstants.FRAME_STEP_NANOS;
+        timeRemaining = GameConstants.INITIAL_TIME - (int) (elapsedNanos / 1_000_000_000L);
 
         if (timeRemaining <= 0) {
             timeRemaining = 0;
@@ -149,11 +194,7 @@ public class GameViewModel {
      * Perbarui semua bola.
      */
     private void updateBalls() {
-        balls.removeIf(ball -> !ball.isActive());
-        
-        for (Ball ball : balls) {
-            ball.update();
-        }
+        balls.update();
     }
 
     /**
@@ -185,20 +226,19 @@ public class GameViewModel {
                 random.nextInt(GameConstants.WINDOW_HEIGHT - (GameConstants.CHARACTER_START_Y + GameConstants.CHARACTER_SIZE + 50) - GameConstants.BALL_SIZE);
             direction = 1; // Bergerak ke kanan
         }
-        balls.add(new Ball(x, y, direction));
+        balls.add(x, y, direction, random);
     }
 
 
     /**
-     * Tangani klik mouse untuk lasso.
+     * Tangani klik mouse untuk lasso; diterapkan di awal langkah berikutnya.
      */
     public void handleMouseClick(int mouseX, int mouseY) {
-        if (!gameData.isGameRunning() || gameData.isGamePaused() || gameData.isGameOver() || lasso.isActive()) { // Tambahkan gameData.isGameOver()
+        // Klik saat jeda atau setelah game berakhir dibuang, bukan diterapkan setelah game dilanjutkan
+        if (isGamePaused() || isGameOver()) {
             return;
         }
-
-        // Mulai lasso dari karakter ke posisi mouse
-        lasso.start(character.getCenterX(), character.getCenterY(), mouseX, mouseY);
+        pendingInput.add(new int[] { InputRecorder.OP_CLICK, mouseX, mouseY });
     }
 
     /**
@@ -206,18 +246,7 @@ public class GameViewModel {
      * @param keyCode Kode tombol yang ditekan.
      */
     public void handleKeyPress(int keyCode) {
-        if (keyCode < keyPressed.length) {
-            keyPressed[keyCode] = true;
-        }
-
-        // Tombol spasi untuk pause/unpause game
-        if (keyCode == 32) { 
-            if (gameData.isGamePaused()) {
-                gameData.startGame(); 
-            } else {
-                gameData.pauseGame(); 
-            }
-        }
+        pendingInput.add(new int[] { InputRecorder.OP_PRESS, keyCode, 0 });
     }
 
     /**
@@ -225,20 +254,77 @@ public class GameViewModel {
      * @param keyCode Kode tombol yang dilepas.
      */
     public void handleKeyRelease(int keyCode) {
-        if (keyCode < keyPressed.length) {
-            keyPressed[keyCode] = false;
+        pendingInput.add(new int[] { InputRecorder.OP_RELEASE, keyCode, 0 });
+    }
+
+    /**
+     * Terapkan input yang diantrikan sejak langkah sebelumnya dan catat ke rekaman
+     */
+    private void applyPendingInput() {
+        int[] input;
+        while ((input = pendingInput.poll()) != null) {
+            switch (input[0]) {
+                case InputRecorder.OP_PRESS:
+                    if (input[1] < keyPressed.length) {
+                        keyPressed[input[1]] = true;
+                    }
+                    if (recorder != null) {
+                        recorder.keyPressed(tick, input[1]);
+                    }
+                    break;
+                case InputRecorder.OP_RELEASE:
+                    if (input[1] < keyPressed.length) {
+                        keyPressed[input[1]] = false;
+                    }
+                    if (recorder != null) {
+                        recorder.keyReleased(tick, input[1]);
+                    }
+                    break;
+                default:
+                    if (recorder != null) {
+                        recorder.mouseClicked(tick, input[1], input[2]);
+                    }
+                    if (!lasso.isActive()) {
+                        // Mulai lasso dari karakter ke posisi mouse
+                        lasso.start(character.getCenterX(), character.getCenterY(), input[1], input[2]);
+                    }
+                    break;
+            }
+        }
+    }
+
+    private void startRecording() {
+        recorder = GameConstants.RECORD_DIR != null ? new InputRecorder(seed, gameData.getCurrentUsername()) : null;
+    }
+
+    /**
+     * Tutup rekaman dengan hasil permainan lalu tulis ke -Dgame.recordDir
+     */
+    private void finishRecording() {
+        if (recorder == null || recorder.isFinished()) {
+            return;
+        }
+        recorder.finish(tick, gameData.getCurrentScore(), gameData.getCurrentCount());
+        String name = "session-" + new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date()) + "-" + seed + ".mgr";
+        Path file = Paths.get(GameConstants.RECORD_DIR, name);
+        try {
+            recorder.writeTo(file);
+            System.out.println("Rekaman input disimpan: " + file + " (" + recorder.size() + " byte)");
+        } catch (IOException e) {
+            System.err.println("Error writing input recording: " + e.getMessage());
         }
     }
 
     /**
      * Hentikan game dan simpan hasilnya.
      */
-    public void stopGame() {
+    public synchronized void stopGame() {
         gameData.stopGame();
+        finishRecording();
         
-        
-        if (gameData.getCurrentUsername() != null && !gameData.getCurrentUsername().trim().isEmpty()) {
-            Database.insertOrUpdatePlayer(
+        // Simpan sekali per permainan; penulisan berjalan di latar sehingga pemanggil tidak pernah menunggu
+        if (persistResults && saveResult == null && gameData.getCurrentUsername() != null && !gameData.getCurrentUsername().trim().isEmpty()) {
+            saveResult = ScoreWriter.submit(
                 gameData.getCurrentUsername(),
                 gameData.getCurrentScore(),
                 gameData.getCurrentCount()
@@ -246,10 +332,17 @@ public class GameViewModel {
         }
     }
 
+    /**
+     * Future hasil penyimpanan skor permainan ini, atau null jika belum disimpan.
+     */
+    public synchronized CompletableFuture<Boolean> getSaveResult() {
+        return saveResult;
+    }
+
     /**
      * Jeda game.
      */
-    public void pauseGame() {
+    public synchronized void pauseGame() {
         gamePaused = true;
         gameData.pauseGame();
     }
@@ -257,43 +350,89 @@ public class GameViewModel {
     /**
      * Lanjutkan game.
      */
-    public void resumeGame() {
+    public synchronized void resumeGame() {
         gamePaused = false;
         gameData.startGame();
     }
 
     /**
-     * Setel ulang game.
+     * Setel ulang game ke awal sesi dengan seed yang sama.
      */
-    public void resetGame() {
+    public synchronized void resetGame() {
         gameData.resetGame(); 
+        random = new Random(seed);
+        pendingInput.clear();
+        startRecording();
         initializeGameElements(); 
         ballSpawnTimer = 0; 
         keyPressed = new boolean[256]; 
         currentScore = 0; 
         timeRemaining = GameConstants.INITIAL_TIME; 
+        tick = 0;
+        elapsedNanos = 0;
+        saveResult = null;
         gamePaused = false; 
     }
 
+    /**
+     * Buat potret status game yang tidak dapat diubah untuk dirender.
+     * Salinan lasso diambil dari potret yang dikembalikan lewat recycleSnapshot jika ada.
+     * @param alpha Faktor interpolasi antara langkah sebelumnya dan saat ini.
+     */
+    public synchronized GameSnapshot createSnapshot(float alpha) {
+        return new GameSnapshot(
+            tick, alpha, balls.copy(), character.copy(), lasso.copyInto(recycledLassos.poll()),
+            gameData.getCurrentScore(), gameData.getCurrentCount(), timeRemaining,
+            gamePaused, gameData.isGameOver(), saveStateOf(saveResult)
+        );
+    }
+
+    /**
+     * Kembalikan potret yang tidak akan dibaca lagi agar salinan lassonya dipakai ulang
+     * Setiap potret hanya boleh dikembalikan sekali, dan pemanggil tidak boleh membacanya lagi
+     */
+    public void recycleSnapshot(GameSnapshot snapshot) {
+        if (snapshot != null) {
+            recycledLassos.offer(snapshot.getLasso());
+        }
+    }
+
+    private static GameSnapshot.SaveState saveStateOf(CompletableFuture<Boolean> result) {
+        if (result == null) {
+            return GameSnapshot.SaveState.NONE;
+        }
+        if (!result.isDone()) {
+            return GameSnapshot.SaveState.SAVING;
+        }
+        if (Boolean.TRUE.equals(result.getNow(false))) {
+            return GameSnapshot.SaveState.SAVED;
+        }
+        // Skor yang gagal ditulis tetap tercatat di jurnal lokal dan dikirim ulang nanti
+        return ScoreWriter.isJournalAvailable() ? GameSnapshot.SaveState.JOURNALED : GameSnapshot.SaveState.FAILED;
+    }
+
     /**
      * Simpan hasil game ke database.
      */
-    public void saveGameResult(String username, int score, int count) {
+    public CompletableFuture<Boolean> saveGameResult(String username, int score, int count) {
         if (username != null && !username.trim().isEmpty() && score >= 0) { 
-            Database.insertOrUpdatePlayer(username.trim(), score, count);
-            System.out.println("Hasil game disimpan: Username = " + username + ", Skor = " + score + ", Jumlah = " + count);
-        } else {
-            System.err.println("Gagal menyimpan hasil game: Username atau skor tidak valid.");
+            System.out.println("Hasil game diantrikan: Username = " + username + ", Skor = " + score + ", Jumlah = " + count);
+            return ScoreWriter.submit(username.trim(), score, count);
         }
+        System.err.println("Gagal menyimpan hasil game: Username atau skor tidak valid.");
+        return CompletableFuture.completedFuture(false);
     }
 
     // Getters
     public GameData getGameData() { return gameData; }
     public Lasso getLasso() { return lasso; }
-    public List<Ball> getBalls() { return balls; }
+    public BallStore getBalls() { return balls; }
     
     public boolean isGameRunning() { return gameData.isGameRunning(); }
-    public boolean isGamePaused() { return gamePaused; }
+    public synchronized boolean isGamePaused() { return gamePaused; }
+    public synchronized boolean isGameOver() { return gameData.isGameOver(); }
+    public synchronized long getTick() { return tick; }
+    public long getSeed() { return seed; }
     public int getCurrentScore() { return gameData.getCurrentScore(); }
     public int getCurrentCount() { return gameData.getCurrentCount(); }
     public String getCurrentUsername() { return gameData.getCurrentUsername(); }
@@ -0,0 +1,129 @@
+package viewmodel;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Perekam input per langkah simulasi dalam format biner ringkas
+ * Bersama seed sesi, rekaman cukup untuk menjalankan ulang permainan secara persis
+ * (lihat ReplayInputSource).
+ *
+ * Format: header [magic:int][versi:byte][seed:long][panjang username:short][username UTF-8],
+ * lalu record [selisih tick:varint][op:byte][argumen]. PRESS/RELEASE berisi keyCode:varint,
+ * CLICK berisi x:short dan y:short, END berisi skor:varint dan count:varint lalu menutup rekaman
+ */
+public class InputRecorder {
+    static final int MAGIC = 0x4D475250; // "MGRP"
+    static final int VERSION = 1;
+
+    static final int OP_END = 0;
+    static final int OP_PRESS = 1;
+    static final int OP_RELEASE = 2;
+    static final int OP_CLICK = 3;
+
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream(4096);
+    private final DataOutputStream out = new DataOutputStream(bytes);
+    private long lastTick;
+    private boolean finished;
+
+    public InputRecorder(long seed, String username) {
+        try {
+            byte[] name = (username != null ? username : "").getBytes(StandardCharsets.UTF_8);
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeLong(seed);
+            out.writeShort(name.length);
+            out.write(name);
+        } catch (IOException e) {
+            // ByteArrayOutputStream tidak pernah melempar IOException
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public void keyPressed(long tick, int keyCode) {
+        record(tick, OP_PRESS, keyCode, 0);
+    }
+
+    public void keyReleased(long tick, int keyCode) {
+        record(tick, OP_RELEASE, keyCode, 0);
+    }
+
+    public void mouseClicked(long tick, int x, int y) {
+        record(tick, OP_CLICK, x, y);
+    }
+
+    /**
+     * Tutup rekaman dengan langkah terakhir dan hasil permainan untuk verifikasi saat diputar ulang
+     */
+    public void finish(long tick, int score, int count) {
+        if (finished) {
+            return;
+        }
+        try {
+            writeTick(tick);
+            out.writeByte(OP_END);
+            writeVarint(out, score);
+            writeVarint(out, count);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        finished = true;
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+
+    public int size() {
+        return bytes.size();
+    }
+
+    /**
+     * Tulis rekaman ke berkas, membuat direktori induk jika perlu
+     */
+    public void writeTo(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (OutputStream fileOut = Files.newOutputStream(file)) {
+            bytes.writeTo(fileOut);
+        }
+    }
+
+    private void record(long tick, int op, int a, int b) {
+        if (finished) {
+            return;
+        }
+        try {
+            writeTick(tick);
+            out.writeByte(op);
+            if (op == OP_CLICK) {
+                out.writeShort(a);
+                out.writeShort(b);
+            } else {
+                writeVarint(out, a);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void writeTick(long tick) throws IOException {
+        writeVarint(out, tick - lastTick);
+        lastTick = tick;
+    }
+
+    private static void writeVarint(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+}
@@ -0,0 +1,14 @@
+package viewmodel;
+
+/**
+ * Sumber input untuk simulasi tanpa tampilan
+ * Dipanggil tepat sebelum setiap langkah GameViewModel.update() dan meneruskan input
+ * untuk langkah itu melalui handleKeyPress, handleKeyRelease, atau handleMouseClick
+ */
+public interface InputSource {
+    /**
+     * @param tick Nomor langkah yang akan dijalankan (dimulai dari 1)
+     * @param viewModel ViewModel yang menerima input
+     */
+    void apply(long tick, GameViewModel viewModel);
+}
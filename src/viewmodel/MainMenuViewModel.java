@@ -1,10 +1,13 @@
 package viewmodel;
 
 import model.Player;
-import model.Database;
+import model.LeaderboardCache;
 import model.GameData;
+import model.ScoreWriter;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * ViewModel untuk menu utama permainan
@@ -14,27 +17,50 @@ import java.util.List;
  */
 public class MainMenuViewModel {
     private GameData gameData;
-    private List<Player> players;
+    private volatile List<Player> players;
+    // Dibagi oleh semua menu; diperbarui langsung saat skor tersimpan
+    private static final LeaderboardCache leaderboard = new LeaderboardCache();
 
     public MainMenuViewModel() {
         this.gameData = new GameData();
-        loadPlayers();
+        // Diisi oleh loadPlayers() dari thread latar
+        this.players = new ArrayList<>();
     }
 
     /**
-     * Memuat semua pemain dari database
+     * Memuat halaman teratas papan skor dari cache (dibaca ulang dari database setelah TTL)
+     * Dapat memanggil database, jangan dipanggil dari EDT
      */
     public void loadPlayers() {
-        this.players = Database.getAllPlayers();
+        this.players = leaderboard.getTopPlayers();
     }
 
     /**
-     * Mendapatkan daftar semua pemain
+     * Mendapatkan pemain yang sudah dimuat, diurutkan berdasarkan peringkat
      */
     public List<Player> getPlayers() {
         return players;
     }
 
+    /**
+     * Muat halaman papan skor berikutnya; memanggil database, jangan dipanggil dari EDT
+     * @return Pemain yang baru dimuat, berurutan setelah pemain terakhir yang sudah ada
+     */
+    public List<Player> loadMorePlayers() {
+        List<Player> page = leaderboard.loadNextPage();
+        List<Player> loaded = new ArrayList<>(players);
+        loaded.addAll(page);
+        this.players = loaded;
+        return page;
+    }
+
+    /**
+     * Apakah masih ada halaman papan skor yang belum dimuat
+     */
+    public boolean hasMorePlayers() {
+        return leaderboard.hasMore();
+    }
+
     /**
      * Memulai permainan dengan username tertentu
      */
@@ -60,24 +86,21 @@ public class MainMenuViewModel {
      * @param username Username pemain.
      * @param score Skor yang diperoleh.
      * @param count Jumlah bola yang ditangkap.
+     * @return Future yang selesai dengan true jika skor tersimpan; muat ulang pemain setelahnya.
      */
-    public void saveGameResult(String username, int score, int count) {
+    public CompletableFuture<Boolean> saveGameResult(String username, int score, int count) {
         if (username != null && !username.trim().isEmpty() && score > 0) {
-            Database.insertOrUpdatePlayer(username.trim(), score, count);
-            loadPlayers(); 
+            return ScoreWriter.submit(username.trim(), score, count);
         }
+        return CompletableFuture.completedFuture(false);
     }
 
     /**
      * Mendapatkan pemain berdasarkan username
+     * Dapat memanggil database, jangan dipanggil dari EDT
      */
     public Player getPlayerByUsername(String username) {
-        if (players == null) return null;
-        
-        return players.stream()
-                .filter(player -> player.getUsername().equalsIgnoreCase(username))
-                .findFirst()
-                .orElse(null);
+        return leaderboard.getPlayer(username);
     }
 
     /**
@@ -88,7 +111,7 @@ public class MainMenuViewModel {
     }
 
     /**
-     * Mendapatkan total jumlah pemain
+     * Mendapatkan jumlah pemain yang sudah dimuat
      */
     public int getTotalPlayers() {
         return players != null ? players.size() : 0;
@@ -105,9 +128,17 @@ public class MainMenuViewModel {
     }
 
     /**
-     * Memperbarui data dari database
+     * Memperbarui data dari database; jangan dipanggil dari EDT
      */
     public void refreshData() {
         loadPlayers();
     }
+
+    /**
+     * Buang cache lalu baca ulang papan skor dari database; jangan dipanggil dari EDT
+     */
+    public void reloadData() {
+        leaderboard.invalidate();
+        loadPlayers();
+    }
 }
\ No newline at end of file
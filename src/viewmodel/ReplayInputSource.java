@@ -0,0 +1,126 @@
+package viewmodel;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Input dari rekaman InputRecorder
+ * Menyimpan seed sesi dan hasil akhir yang direkam sehingga pemutar ulang dapat membuat
+ * GameViewModel yang sama lalu memeriksa bahwa hasilnya identik
+ */
+public class ReplayInputSource implements InputSource {
+    private final long seed;
+    private final String username;
+    // Input terurut berdasarkan tick: [tick, op, a, b]
+    private final List<long[]> events;
+    private final long endTick;
+    private final int finalScore;
+    private final int finalCount;
+    private int next;
+
+    private ReplayInputSource(long seed, String username, List<long[]> events, long endTick, int finalScore, int finalCount) {
+        this.seed = seed;
+        this.username = username;
+        this.events = events;
+        this.endTick = endTick;
+        this.finalScore = finalScore;
+        this.finalCount = finalCount;
+    }
+
+    /**
+     * Baca rekaman dari berkas
+     * @throws IOException jika berkas bukan rekaman atau terpotong sebelum record END
+     */
+    public static ReplayInputSource load(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(file))) {
+            if (in.readInt() != InputRecorder.MAGIC) {
+                throw new IOException("Bukan rekaman input: " + file);
+            }
+            int version = in.readUnsignedByte();
+            if (version != InputRecorder.VERSION) {
+                throw new IOException("Versi rekaman tidak didukung: " + version);
+            }
+            long seed = in.readLong();
+            byte[] name = new byte[in.readUnsignedShort()];
+            in.readFully(name);
+
+            List<long[]> events = new ArrayList<>();
+            long tick = 0;
+            try {
+                while (true) {
+                    tick += readVarint(in);
+                    int op = in.readUnsignedByte();
+                    switch (op) {
+                        case InputRecorder.OP_END:
+                            int score = (int) readVarint(in);
+                            int count = (int) readVarint(in);
+                            return new ReplayInputSource(seed, new String(name, StandardCharsets.UTF_8), events, tick, score, count);
+                        case InputRecorder.OP_PRESS:
+                        case InputRecorder.OP_RELEASE:
+                            events.add(new long[] { tick, op, readVarint(in), 0 });
+                            break;
+                        case InputRecorder.OP_CLICK:
+                            events.add(new long[] { tick, op, in.readShort(), in.readShort() });
+                            break;
+                        default:
+                            throw new IOException("Record tidak dikenal " + op + " pada langkah " + tick);
+                    }
+                }
+            } catch (EOFException e) {
+                throw new IOException("Rekaman terpotong pada langkah " + tick + ": " + file, e);
+            }
+        }
+    }
+
+    /**
+     * Kembali ke awal rekaman untuk pemutaran berikutnya
+     */
+    public void rewind() {
+        next = 0;
+    }
+
+    @Override
+    public void apply(long tick, GameViewModel viewModel) {
+        while (next < events.size() && events.get(next)[0] <= tick) {
+            long[] event = events.get(next++);
+            int a = (int) event[2];
+            int b = (int) event[3];
+            switch ((int) event[1]) {
+                case InputRecorder.OP_PRESS:
+                    viewModel.handleKeyPress(a);
+                    break;
+                case InputRecorder.OP_RELEASE:
+                    viewModel.handleKeyRelease(a);
+                    break;
+                default:
+                    viewModel.handleMouseClick(a, b);
+                    break;
+            }
+        }
+    }
+
+    public long getSeed() { return seed; }
+    public String getUsername() { return username; }
+    public int getEventCount() { return events.size(); }
+    public long getEndTick() { return endTick; }
+    public int getFinalScore() { return finalScore; }
+    public int getFinalCount() { return finalCount; }
+
+    private static long readVarint(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Varint terlalu panjang");
+    }
+}
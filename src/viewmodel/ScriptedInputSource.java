@@ -0,0 +1,108 @@
+package viewmodel;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Input dari skrip teks, satu perintah per baris:
+ *   <tick> press <keyCode>
+ *   <tick> release <keyCode>
+ *   <tick> click <x> <y>
+ * Baris kosong dan baris yang diawali # diabaikan. Perintah dengan tick yang sama
+ * dijalankan sesuai urutan di skrip
+ */
+public class ScriptedInputSource implements InputSource {
+    private static final int PRESS = 0;
+    private static final int RELEASE = 1;
+    private static final int CLICK = 2;
+
+    // Perintah terurut berdasarkan tick: [tick, jenis, a, b]
+    private final List<long[]> commands;
+    private int next;
+
+    private ScriptedInputSource(List<long[]> commands) {
+        commands.sort(Comparator.comparingLong(command -> command[0]));
+        this.commands = commands;
+    }
+
+    /**
+     * Baca skrip dari berkas
+     */
+    public static ScriptedInputSource load(Path file) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            List<String> lines = new ArrayList<>();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines.add(line);
+            }
+            return parse(lines);
+        }
+    }
+
+    /**
+     * Bangun skrip dari baris perintah
+     * @throws IllegalArgumentException jika ada baris yang tidak dikenali
+     */
+    public static ScriptedInputSource parse(List<String> lines) {
+        List<long[]> commands = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            String[] parts = line.split("\\s+");
+            try {
+                long tick = Long.parseLong(parts[0]);
+                switch (parts[1]) {
+                    case "press":
+                        commands.add(new long[] { tick, PRESS, Integer.parseInt(parts[2]), 0 });
+                        break;
+                    case "release":
+                        commands.add(new long[] { tick, RELEASE, Integer.parseInt(parts[2]), 0 });
+                        break;
+                    case "click":
+                        commands.add(new long[] { tick, CLICK, Integer.parseInt(parts[2]), Integer.parseInt(parts[3]) });
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Perintah tidak dikenal di baris " + (i + 1) + ": " + line);
+                }
+            } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+                throw new IllegalArgumentException("Baris skrip tidak valid " + (i + 1) + ": " + line, e);
+            }
+        }
+        return new ScriptedInputSource(commands);
+    }
+
+    /**
+     * Kembali ke awal skrip untuk permainan berikutnya
+     */
+    public void rewind() {
+        next = 0;
+    }
+
+    @Override
+    public void apply(long tick, GameViewModel viewModel) {
+        while (next < commands.size() && commands.get(next)[0] <= tick) {
+            long[] command = commands.get(next++);
+            int a = (int) command[2];
+            int b = (int) command[3];
+            switch ((int) command[1]) {
+                case PRESS:
+                    viewModel.handleKeyPress(a);
+                    break;
+                case RELEASE:
+                    viewModel.handleKeyRelease(a);
+                    break;
+                default:
+                    viewModel.handleMouseClick(a, b);
+                    break;
+            }
+        }
+    }
+}